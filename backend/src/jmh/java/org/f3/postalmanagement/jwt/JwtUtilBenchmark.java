@@ -0,0 +1,66 @@
+package org.f3.postalmanagement.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.CustomUserDetails;
+import org.f3.postalmanagement.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token parsing as done by JwtAuthenticationFilter on every authenticated request.
+ * perRequestSetup reproduces the former JwtUtil, which derived the key and built a parser on each parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET =
+            "ZUZsJvraCKD/K8VtSbkJuw/4jGPIPHPRuBzNkkI97xN2uw2cJrZCT5pGPABywv0Mp9QtzzRz0wm0AebGxUwtUw==";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setActiveKeyId("primary");
+        properties.setKeys(Map.of("primary", SECRET));
+        jwtUtil = new JwtUtil(properties);
+
+        Account account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setUsername("0900000000");
+        account.setRole(Role.PO_STAFF);
+        account.setActive(true);
+        token = jwtUtil.generateToken(new CustomUserDetails(account));
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims perRequestSetup() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public CustomUserDetails authenticate() {
+        return jwtUtil.toUserDetails(jwtUtil.parseClaims(token));
+    }
+}
@@ -0,0 +1,69 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.dto.response.order.OrderResponse;
+import org.f3.postalmanagement.dto.response.order.TrackingEventResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.unit.Office;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO mapping used by order listings and the tracking page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DtoMappingBenchmark {
+
+    private Order order;
+    private TrackingEvent event;
+
+    @Setup
+    public void setUp() {
+        order = Order.builder()
+                .trackingNumber("VN17369123450010001")
+                .status(OrderStatus.IN_TRANSIT)
+                .senderName("Nguyễn Văn A").senderPhone("0901234567")
+                .senderAddress("123 Lê Lợi, Phường Bến Thành, Quận 1").senderWardCode("26734")
+                .receiverName("Trần Thị B").receiverPhone("0912345678")
+                .receiverAddress("45 Hàng Bài, Phường Tràng Tiền, Quận Hoàn Kiếm").receiverWardCode("00070")
+                .weightKg(new BigDecimal("1.50"))
+                .description("Quần áo")
+                .shippingFee(new BigDecimal("47000"))
+                .codAmount(new BigDecimal("350000"))
+                .build();
+        order.setId(UUID.randomUUID());
+        order.setCreatedAt(LocalDateTime.now());
+        order.setUpdatedAt(LocalDateTime.now());
+
+        Office office = new Office();
+        office.setId(UUID.randomUUID());
+        event = TrackingEvent.builder()
+                .order(order)
+                .status("IN_TRANSIT")
+                .description("Package arrived at sorting center")
+                .locationName("HUB Miền Nam")
+                .office(office)
+                .eventTime(LocalDateTime.now())
+                .build();
+        event.setId(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public OrderResponse orderMapToResponse() {
+        return OrderDtoMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public TrackingEventResponse trackingMapEventToResponse() {
+        return OrderDtoMapper.toEventResponse(event);
+    }
+}
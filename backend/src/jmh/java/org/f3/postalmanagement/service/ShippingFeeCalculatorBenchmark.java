@@ -0,0 +1,109 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.Validation;
+import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
+import org.f3.postalmanagement.entity.administrative.Ward;
+import org.f3.postalmanagement.entity.pricing.PricingZone;
+import org.f3.postalmanagement.entity.pricing.ShippingRate;
+import org.f3.postalmanagement.entity.pricing.WardZoneMapping;
+import org.f3.postalmanagement.repository.pricing.ShippingRateRepository;
+import org.f3.postalmanagement.repository.pricing.WardZoneMappingRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shipping fee quotes against an in-memory pricing matrix shaped like the seeded data
+ * (3 zones, ~3000 wards). Repositories are mocks and are only hit once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShippingFeeCalculatorBenchmark {
+
+    private static final int WARDS = 3000;
+
+    private ShippingFeeCalculator calculator;
+    private String[] wardCodes;
+    private List<CalculateShippingFeeRequest> batch;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<PricingZone> zones = List.of(zone("CORE"), zone("REGIONAL"), zone("NATIONAL"));
+
+        List<WardZoneMapping> mappings = new ArrayList<>();
+        wardCodes = new String[WARDS];
+        for (int i = 0; i < WARDS; i++) {
+            Ward ward = new Ward();
+            ward.setCode(String.format("%05d", i));
+            wardCodes[i] = ward.getCode();
+            PricingZone zone = i < 500 ? zones.get(0) : i < 2000 ? zones.get(1) : zones.get(2);
+            mappings.add(WardZoneMapping.builder().ward(ward).zone(zone).build());
+        }
+
+        List<ShippingRate> rates = new ArrayList<>();
+        for (PricingZone from : zones) {
+            for (PricingZone to : zones) {
+                rates.add(ShippingRate.builder()
+                        .fromZone(from).toZone(to)
+                        .basePrice(new BigDecimal("25000")).pricePerKg(new BigDecimal("5000"))
+                        .validFrom(LocalDateTime.now().minusDays(1)).isActive(true)
+                        .build());
+            }
+        }
+
+        WardZoneMappingRepository mappingRepository = mock(WardZoneMappingRepository.class);
+        ShippingRateRepository rateRepository = mock(ShippingRateRepository.class);
+        when(mappingRepository.findAllWithZone()).thenReturn(mappings);
+        when(rateRepository.findAllActiveWithZones()).thenReturn(rates);
+
+        PricingMatrixProvider provider = new PricingMatrixProvider(mappingRepository, rateRepository, Duration.ofSeconds(30));
+        provider.reload();
+        calculator = new ShippingFeeCalculator(provider, Validation.buildDefaultValidatorFactory().getValidator());
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            CalculateShippingFeeRequest request = new CalculateShippingFeeRequest();
+            request.setSenderWardCode(wardCodes[i % WARDS]);
+            request.setReceiverWardCode(wardCodes[(i * 7919) % WARDS]);
+            request.setWeightKg(BigDecimal.valueOf(50 + i % 500, 2));
+            request.setLengthCm(10 + i % 40);
+            request.setWidthCm(20);
+            request.setHeightCm(15);
+            batch.add(request);
+        }
+    }
+
+    private static PricingZone zone(String code) {
+        PricingZone zone = PricingZone.builder().code(code).name(code).build();
+        zone.setId(UUID.randomUUID());
+        return zone;
+    }
+
+    @Benchmark
+    public BigDecimal calculateFee() {
+        int i = next++ & 1023;
+        return calculator.calculateFee(
+                wardCodes[i % WARDS], wardCodes[(i * 31) % WARDS],
+                new BigDecimal("1.25"), 30, 20, 10 + (i & 15));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<ShippingFeeQuoteResponse> calculateFeesBatchOf1000() {
+        return calculator.calculateFees(batch);
+    }
+}
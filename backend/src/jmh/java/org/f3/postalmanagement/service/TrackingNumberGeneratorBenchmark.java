@@ -0,0 +1,36 @@
+package org.f3.postalmanagement.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracking number generation, single-threaded and with 8 threads sharing one generator
+ * (as request threads do in production).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TrackingNumberGeneratorBenchmark {
+
+    private TrackingNumberGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new TrackingNumberGenerator(0);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generateUncontended() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateContended() {
+        return generator.generate();
+    }
+}
@@ -1,26 +1,51 @@
 package org.f3.postalmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * Configuration for application-level caching.
- * Caches frequently accessed, rarely changing data like provinces and wards.
+ * Every cache is bounded, expires after a TTL and records stats, which Actuator
+ * publishes as cache.gets / cache.evictions / cache.size metrics.
+ * Administrative reference data is not cached here: it is served from AdministrativeSnapshot.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    
+
+    /** Public tracking page (TrackingResponse) by tracking number. */
+    public static final String TRACKING_CACHE = "tracking";
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "provinces",
-            "wards",
-            "administrativeRegions",
-            "wardsByProvince"
-        );
+    public CacheManager cacheManager(
+            @Value("${tracking.cache.max-size:10000}") long trackingMaxSize,
+            @Value("${tracking.cache.ttl:PT1M}") Duration trackingTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static mode: caches must be registered here explicitly (bounded, with a TTL),
+        // so an unknown name fails instead of silently creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(TRACKING_CACHE, bounded(trackingMaxSize, trackingTtl));
+        // Evictions made inside a transaction apply after it commits, so the entry is not
+        // dropped (and reloaded with the old state) before the change is visible to readers
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> bounded(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 }
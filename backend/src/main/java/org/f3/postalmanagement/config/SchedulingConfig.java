@@ -0,0 +1,12 @@
+package org.f3.postalmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (e.g. pricing matrix refresh).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
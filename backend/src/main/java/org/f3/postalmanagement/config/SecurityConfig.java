@@ -1,8 +1,15 @@
 package org.f3.postalmanagement.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.f3.postalmanagement.jwt.JwtAuthenticationEntryPoint;
 import org.f3.postalmanagement.jwt.JwtAuthenticationFilter;
+import org.f3.postalmanagement.jwt.JwtProperties;
+import org.f3.postalmanagement.service.BcryptCostCalibrator;
+import org.f3.postalmanagement.service.BoundedPasswordEncoder;
+import org.f3.postalmanagement.service.TargetCostBCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,7 +19,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,12 +27,15 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(JwtProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -43,6 +53,7 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**",
                                         "/v3/api-docs/**",
                                         "/api/tracking/**",
+                                        "/ws/**",
                                             "/actuator/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/orders/*").permitAll()
                         .anyRequest().authenticated()
@@ -59,8 +70,28 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout:PT5S}") Duration timeout,
+            @Value("${auth.password-hashing.bcrypt-cost:12}") int bcryptCost,
+            @Value("${auth.password-hashing.target-latency:PT0.25S}") Duration targetLatency,
+            @Value("${auth.password-hashing.min-bcrypt-cost:10}") int minBcryptCost,
+            @Value("${auth.password-hashing.max-bcrypt-cost:14}") int maxBcryptCost
+    ) {
+        int cost = bcryptCost > 0
+                ? bcryptCost
+                : BcryptCostCalibrator.calibrate(targetLatency, minBcryptCost, maxBcryptCost);
+        TargetCostBCryptPasswordEncoder bcrypt = new TargetCostBCryptPasswordEncoder(cost);
+
+        // New hashes are stored as "{bcrypt}$2a$<cost>$..."; hashes without a prefix predate it and are bcrypt too.
+        // Any hash with another prefix or a lower cost is rehashed on the next successful login.
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        // Logins and account creation hash on this bounded pool rather than on request threads
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
@@ -71,20 +102,7 @@ public class SecurityConfig {
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
-        
-        // Environment-aware CORS: restrict in production, allow localhost in dev
-        String allowedOriginsEnv = System.getenv("CORS_ALLOWED_ORIGINS");
-        if (allowedOriginsEnv != null && !allowedOriginsEnv.isBlank()) {
-            configuration.setAllowedOrigins(Arrays.asList(allowedOriginsEnv.split(",")));
-        } else {
-            // Default for development: allow common local dev ports
-            configuration.setAllowedOrigins(Arrays.asList(
-                "http://localhost:3000",
-                "http://localhost:5173",
-                "http://localhost:80",
-                "http://localhost:8080"
-            ));
-        }
+        configuration.setAllowedOrigins(allowedOrigins());
         
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
@@ -95,4 +113,20 @@ public class SecurityConfig {
         source.registerCorsConfiguration("/**", configuration);
         return source;
     }
+
+    // Environment-aware CORS: restrict in production, allow localhost in dev.
+    // Also applied to the WebSocket handshake (WebSocketConfig)
+    static List<String> allowedOrigins() {
+        String allowedOriginsEnv = System.getenv("CORS_ALLOWED_ORIGINS");
+        if (allowedOriginsEnv != null && !allowedOriginsEnv.isBlank()) {
+            return Arrays.asList(allowedOriginsEnv.split(","));
+        }
+        // Default for development: allow common local dev ports
+        return Arrays.asList(
+            "http://localhost:3000",
+            "http://localhost:5173",
+            "http://localhost:80",
+            "http://localhost:8080"
+        );
+    }
 }
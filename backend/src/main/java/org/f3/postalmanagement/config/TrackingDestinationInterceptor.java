@@ -0,0 +1,41 @@
+package org.f3.postalmanagement.config;
+
+import org.f3.postalmanagement.service.TrackingUpdateBroadcaster;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+/**
+ * Restricts STOMP clients to subscribing to a single tracking topic.
+ * SEND frames are refused: the simple broker would otherwise relay them to every subscriber.
+ */
+class TrackingDestinationInterceptor implements ChannelInterceptor {
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.SEND) {
+            throw new MessageDeliveryException(message, "Clients cannot publish messages");
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE && !isTrackingDestination(accessor.getDestination())) {
+            throw new MessageDeliveryException(message, "Unknown destination: " + accessor.getDestination());
+        }
+        return message;
+    }
+
+    private static boolean isTrackingDestination(String destination) {
+        if (destination == null || !destination.startsWith(TrackingUpdateBroadcaster.TOPIC_PREFIX)) {
+            return false;
+        }
+        String trackingNumber = destination.substring(TrackingUpdateBroadcaster.TOPIC_PREFIX.length());
+        // Simple broker destinations may contain wildcards; only an exact tracking number is allowed
+        return !trackingNumber.isEmpty() && trackingNumber.chars().allMatch(Character::isLetterOrDigit);
+    }
+}
@@ -0,0 +1,67 @@
+package org.f3.postalmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+
+/**
+ * STOMP over WebSocket for tracking updates: clients connect to /ws and subscribe to
+ * /topic/tracking/{trackingNumber}. Messages are only ever published by the server.
+ * Each session has a bounded send buffer; a client that falls behind by more than
+ * send-buffer-size or send-time-limit is disconnected instead of holding up the others.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final int sendBufferSize;
+    private final Duration sendTimeLimit;
+    private final int outboundThreads;
+
+    public WebSocketConfig(
+            @Value("${tracking.push.websocket.send-buffer-size:65536}") int sendBufferSize,
+            @Value("${tracking.push.websocket.send-time-limit:PT10S}") Duration sendTimeLimit,
+            @Value("${tracking.push.websocket.outbound-threads:4}") int outboundThreads
+    ) {
+        this.sendBufferSize = sendBufferSize;
+        this.sendTimeLimit = sendTimeLimit;
+        this.outboundThreads = outboundThreads;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(SecurityConfig.allowedOrigins().toArray(String[]::new));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Clients only send CONNECT/SUBSCRIBE frames
+        registration.setMessageSizeLimit(8 * 1024);
+        registration.setSendBufferSizeLimit(sendBufferSize);
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new TrackingDestinationInterceptor());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(outboundThreads).maxPoolSize(outboundThreads);
+    }
+}
@@ -2,6 +2,7 @@ package org.f3.postalmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.f3.postalmanagement.dto.request.auth.CustomerRegisterRequest;
@@ -25,8 +26,9 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Login with username and password")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse authResponse = authService.login(request.getUsername(), request.getPassword());
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest) {
+        AuthResponse authResponse = authService.login(request.getUsername(), request.getPassword(), httpRequest.getRemoteAddr());
         
         ResponseCookie cookie = ResponseCookie.from("accessToken", authResponse.getToken())
                 .httpOnly(true)
@@ -48,8 +50,16 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    @Operation(summary = "Logout", description = "Logout and clear authentication cookie")
-    public ResponseEntity<ApiResponse<Void>> logout() {
+    @Operation(summary = "Logout", description = "Revoke the current access token and clear authentication cookie")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @CookieValue(value = "accessToken", required = false) String accessToken
+    ) {
+        String token = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : accessToken;
+        authService.logout(token);
+
         ResponseCookie cookie = ResponseCookie.from("accessToken", "")
                 .httpOnly(true)
                 .secure(false)
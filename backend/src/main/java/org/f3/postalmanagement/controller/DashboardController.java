@@ -46,4 +46,15 @@ public class DashboardController {
                         .build()
         );
     }
+
+    @PostMapping("/stats/reconcile")
+    @Operation(summary = "Reconcile system stats", description = "Rebuild dashboard counters from orders and report drift; 409 while another run is in progress")
+    public ResponseEntity<ApiResponse<?>> reconcileStats() {
+        return ResponseEntity.ok(
+                ApiResponse.builder()
+                        .success(true)
+                        .data(dashboardService.reconcileStats())
+                        .build()
+        );
+    }
 }
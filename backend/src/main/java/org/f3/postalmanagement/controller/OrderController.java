@@ -4,23 +4,38 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.f3.postalmanagement.dto.request.order.BatchCalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.request.order.BulkCreateOrderRequest;
 import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
 import org.f3.postalmanagement.dto.request.order.CreateOrderRequest;
+import org.f3.postalmanagement.dto.response.CursorPageResponse;
 import org.f3.postalmanagement.entity.ApiResponse;
+import org.f3.postalmanagement.dto.response.order.BulkCreateOrderResponse;
 import org.f3.postalmanagement.dto.response.order.OrderResponse;
+import org.f3.postalmanagement.dto.response.order.OrderSummaryResponse;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.service.BulkOrderService;
+import org.f3.postalmanagement.service.OrderExportService;
 import org.f3.postalmanagement.service.OrderService;
+import org.f3.postalmanagement.service.OrderSortField;
 import org.f3.postalmanagement.service.ShippingFeeCalculator;
 
 import java.math.BigDecimal;
+import java.util.List;
 import org.f3.postalmanagement.dto.response.order.PublicOrderResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @RestController
@@ -31,6 +46,8 @@ public class OrderController {
 
     private final OrderService orderService;
     private final ShippingFeeCalculator shippingFeeCalculator;
+    private final OrderExportService orderExportService;
+    private final BulkOrderService bulkOrderService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'PO_STAFF')")
@@ -39,20 +56,39 @@ public class OrderController {
         return ResponseEntity.ok(orderService.createOrder(request));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @Operation(summary = "Create orders from a manifest", description = "Create up to 50,000 orders in one request. " +
+            "Results are returned in input order with per-row errors; rows already created by an upload with the " +
+            "same idempotency key are reported as duplicates instead of being created again")
+    public ResponseEntity<BulkCreateOrderResponse> createOrders(@Valid @RequestBody BulkCreateOrderRequest request) {
+        return ResponseEntity.ok(bulkOrderService.createOrders(request));
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'PO_STAFF')")
-    @Operation(summary = "Get my orders", description = "Get orders for current customer or office")
-    public ResponseEntity<Page<OrderResponse>> getMyOrders(
+    @Operation(summary = "Get my orders", description = "Get orders for current customer or office. sortBy accepts createdAt or status")
+    public ResponseEntity<Page<OrderSummaryResponse>> getMyOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String order
     ) {
-        Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, OrderSortField.toSort(sortBy, order));
         return ResponseEntity.ok(orderService.getMyOrders(pageable));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'PO_STAFF')")
+    @Operation(summary = "Scroll my orders", description = "Get orders for current customer or office, newest first, " +
+            "a slice at a time. Pass nextCursor from the previous response to continue; no total count is returned")
+    public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> scrollMyOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(orderService.getMyOrders(cursor, size));
+    }
+
     @GetMapping("/{trackingNumber}")
     @Operation(summary = "Get order by tracking number", description = "Public access to track basic order info")
     public ResponseEntity<PublicOrderResponse> getOrderByTrackingNumber(@PathVariable String trackingNumber) {
@@ -78,20 +114,64 @@ public class OrderController {
                 .build());
     }
 
+    @PostMapping("/calculate-fee/batch")
+    @Operation(summary = "Calculate shipping fees in batch", description = "Quote up to 10,000 parcels in one request. Fees are returned in input order with per-item errors")
+    public ResponseEntity<ApiResponse<List<ShippingFeeQuoteResponse>>> calculateShippingFees(
+            @Valid @RequestBody BatchCalculateShippingFeeRequest request
+    ) {
+        List<ShippingFeeQuoteResponse> quotes = shippingFeeCalculator.calculateFees(request.getItems());
+        return ResponseEntity.ok(ApiResponse.<List<ShippingFeeQuoteResponse>>builder()
+                .success(true)
+                .data(quotes)
+                .build());
+    }
+
     @GetMapping("/all")
     @PreAuthorize("hasRole('ROLE_SYSTEM_ADMIN')")
-    @Operation(summary = "Get all orders", description = "Admin access to all orders in the system")
-    public ResponseEntity<Page<OrderResponse>> getAllOrders(
+    @Operation(summary = "Get all orders", description = "Admin access to all orders in the system. sortBy accepts createdAt or status")
+    public ResponseEntity<Page<OrderSummaryResponse>> getAllOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String order
     ) {
-        Sort sort = order.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, OrderSortField.toSort(sortBy, order));
         return ResponseEntity.ok(orderService.getAllOrders(pageable));
     }
 
+    @GetMapping("/all/scroll")
+    @PreAuthorize("hasRole('ROLE_SYSTEM_ADMIN')")
+    @Operation(summary = "Scroll all orders", description = "Admin access to all orders, newest first, a slice at a time. " +
+            "Pass nextCursor from the previous response to continue; no total count is returned")
+    public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> scrollAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(orderService.getAllOrders(cursor, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'PO_PROVINCE_ADMIN')")
+    @Operation(summary = "Export orders", description = "Stream matching orders as CSV or NDJSON in creation order. " +
+            "Province admins get the orders of offices in their province. from/to are inclusive days")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UUID officeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        OrderExportService.ExportFormat exportFormat = OrderExportService.ExportFormat.from(format);
+        StreamingResponseBody body = orderExportService.export(exportFormat, status, officeId, from, to);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PutMapping("/{id}/cancel")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'PO_STAFF')")
     @Operation(summary = "Cancel order", description = "Cancel a pending order")
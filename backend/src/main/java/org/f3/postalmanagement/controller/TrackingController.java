@@ -2,14 +2,23 @@ package org.f3.postalmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.f3.postalmanagement.dto.request.order.BulkScanRequest;
+import org.f3.postalmanagement.dto.response.order.ScanResultResponse;
 import org.f3.postalmanagement.dto.response.order.TrackingEventResponse;
 import org.f3.postalmanagement.dto.response.order.TrackingResponse;
+import org.f3.postalmanagement.service.TrackingScanService;
 import org.f3.postalmanagement.service.TrackingService;
+import org.f3.postalmanagement.service.TrackingUpdateBroadcaster;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,23 +28,51 @@ import java.util.UUID;
 public class TrackingController {
 
     private final TrackingService trackingService;
+    private final TrackingUpdateBroadcaster trackingUpdateBroadcaster;
+    private final TrackingScanService trackingScanService;
 
     @GetMapping("/{trackingNumber}")
-    @Operation(summary = "Track order", description = "Public API to track order by tracking number")
+    @Operation(summary = "Track order", description = "Public API to track order by tracking number. " +
+            "Supports conditional GET: If-None-Match is answered with 304 while the page is unchanged")
     public ResponseEntity<TrackingResponse> trackOrder(@PathVariable String trackingNumber) {
-        return ResponseEntity.ok(trackingService.getTrackingInfo(trackingNumber));
+        TrackingResponse response = trackingService.getTrackingInfo(trackingNumber);
+        // A 304 is sent instead of the body when If-None-Match still matches. There is no Last-Modified:
+        // status changes carry no timestamp, and a second-resolution date could hide a change made in the same second
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(response.getVersion())
+                .body(response);
+    }
+
+    @GetMapping(value = "/{trackingNumber}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream tracking updates", description = "Public SSE stream: a 'snapshot' event with the tracking page, " +
+            "then an 'update' event per new tracking event or status change. WebSocket clients can instead " +
+            "subscribe to /topic/tracking/{trackingNumber} over STOMP at /ws")
+    public SseEmitter streamOrder(@PathVariable String trackingNumber) {
+        return trackingUpdateBroadcaster.subscribe(trackingNumber, () -> trackingService.getTrackingInfo(trackingNumber));
     }
 
     @PostMapping("/events")
     @PreAuthorize("hasAnyRole('PO_STAFF', 'WH_STAFF', 'SHIPPER', 'PO_WARD_MANAGER', 'PO_PROVINCE_ADMIN', 'WH_PROVINCE_ADMIN')")
-    @Operation(summary = "Add tracking event", description = "Staff/Shipper adds a tracking event (scan)")
+    @Operation(summary = "Add tracking event", description = "Staff/Shipper adds a tracking event (scan). " +
+            "In write-behind mode the event is answered with 202 and no id, and is inserted shortly after")
     public ResponseEntity<TrackingEventResponse> addEvent(@RequestBody CreateEventRequest request) {
-        return ResponseEntity.ok(trackingService.addTrackingEvent(
+        TrackingEventResponse event = trackingService.addTrackingEvent(
                 request.getOrderId(), 
                 request.getStatus(), 
                 request.getDescription(), 
                 request.getLocationName()
-        ));
+        );
+        // Write-behind mode: logged durably, inserted shortly
+        return event.getId() == null ? ResponseEntity.accepted().body(event) : ResponseEntity.ok(event);
+    }
+    
+    @PostMapping("/events/bulk")
+    @PreAuthorize("hasAnyRole('PO_STAFF', 'WH_STAFF', 'SHIPPER', 'PO_WARD_MANAGER', 'PO_PROVINCE_ADMIN', 'WH_PROVINCE_ADMIN')")
+    @Operation(summary = "Record scans in bulk", description = "Record up to 5,000 scans in one request. " +
+            "Results are returned in input order; a scan id that was recorded before is reported as a duplicate")
+    public ResponseEntity<List<ScanResultResponse>> addEvents(@Valid @RequestBody BulkScanRequest request) {
+        return ResponseEntity.ok(trackingScanService.recordScans(request.getScans()));
     }
     
     @lombok.Data
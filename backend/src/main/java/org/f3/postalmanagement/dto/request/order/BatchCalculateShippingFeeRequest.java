@@ -0,0 +1,24 @@
+package org.f3.postalmanagement.dto.request.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Request to quote shipping fees for many parcels at once")
+public class BatchCalculateShippingFeeRequest {
+
+    public static final int MAX_ITEMS = 10000;
+
+    // Items are validated one by one so that a bad line only fails its own quote
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = MAX_ITEMS, message = "A batch can contain at most " + MAX_ITEMS + " items")
+    @Schema(
+            description = "Parcels to quote; results are returned in the same order",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<CalculateShippingFeeRequest> items;
+}
@@ -0,0 +1,34 @@
+package org.f3.postalmanagement.dto.request.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Request to create the orders of a merchant manifest at once")
+public class BulkCreateOrderRequest {
+
+    public static final int MAX_ORDERS = 50000;
+
+    // Identifies the manifest; uploading it again with the same key does not create its orders twice
+    @NotBlank(message = "Idempotency key is required")
+    @Size(max = 64, message = "Idempotency key must be at most 64 characters")
+    @Schema(
+            description = "Client-chosen key of this manifest; reuse it, with the same rows in the same order, when retrying",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private String idempotencyKey;
+
+    // Orders are validated one by one so that a bad row only fails its own result
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = MAX_ORDERS, message = "A manifest can contain at most " + MAX_ORDERS + " orders")
+    @Schema(
+            description = "Orders to create; results are returned in the same order",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<CreateOrderRequest> orders;
+}
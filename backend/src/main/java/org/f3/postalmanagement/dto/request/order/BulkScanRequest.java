@@ -0,0 +1,24 @@
+package org.f3.postalmanagement.dto.request.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Request to record many parcel scans at once, e.g. a whole cage at a sorting center")
+public class BulkScanRequest {
+
+    public static final int MAX_ITEMS = 5000;
+
+    // Scans are validated one by one so that a bad line only fails its own result
+    @NotEmpty(message = "At least one scan is required")
+    @Size(max = MAX_ITEMS, message = "A batch can contain at most " + MAX_ITEMS + " scans")
+    @Schema(
+            description = "Scans to record; results are returned in the same order",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<ScanEventRequest> scans;
+}
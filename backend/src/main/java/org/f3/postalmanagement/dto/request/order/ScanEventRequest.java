@@ -0,0 +1,36 @@
+package org.f3.postalmanagement.dto.request.order;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class ScanEventRequest {
+
+    // Unique per physical scan; resubmitting the same id does not create a second event
+    @NotBlank(message = "Scan id is required")
+    @Size(max = 64, message = "Scan id must be at most 64 characters")
+    private String scanId;
+
+    @NotBlank(message = "Tracking number is required")
+    private String trackingNumber;
+
+    @NotBlank(message = "Status is required")
+    @Size(max = 50, message = "Status must be at most 50 characters")
+    private String status;
+
+    // Defaults to the status and location when omitted
+    private String description;
+
+    @Size(max = 200, message = "Location name must be at most 200 characters")
+    private String locationName;
+
+    private UUID officeId;
+
+    @NotNull(message = "Scan time is required")
+    private LocalDateTime scannedAt;
+}
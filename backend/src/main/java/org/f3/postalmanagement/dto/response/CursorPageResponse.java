@@ -0,0 +1,25 @@
+package org.f3.postalmanagement.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Cursor-paginated response wrapper; no total count is computed")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "List of items in current slice")
+    private List<T> content;
+
+    @Schema(description = "Requested number of items per slice")
+    private int size;
+
+    @Schema(description = "Whether there is a next slice")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' for the next slice; null on the last slice")
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package org.f3.postalmanagement.dto.response.dashboard;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsReconcileResponse {
+    private int checkedBuckets;
+    private int driftedBuckets;
+    private long orderCountDrift; // sum of absolute count corrections
+    private BigDecimal feeDrift; // sum of absolute fee corrections
+    private LocalDateTime reconciledAt;
+}
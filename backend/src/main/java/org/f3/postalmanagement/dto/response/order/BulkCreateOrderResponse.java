@@ -0,0 +1,17 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkCreateOrderResponse {
+    private String idempotencyKey;
+    private int created;
+    private int duplicates;
+    private int failed;
+    // One per manifest row, in input order
+    private List<BulkOrderResultResponse> results;
+}
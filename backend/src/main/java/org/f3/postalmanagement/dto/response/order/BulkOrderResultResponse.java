@@ -0,0 +1,21 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+public class BulkOrderResultResponse {
+    private int index;
+    private boolean success;
+    // The row was created by an earlier upload with the same idempotency key
+    private boolean duplicate;
+    private UUID orderId;
+    private String trackingNumber;
+    private BigDecimal shippingFee;
+    private String errorCode;
+    private String message;
+}
@@ -0,0 +1,29 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row of an order list. Addresses, phones and the description are left out; fetch the order for those.
+ */
+@Data
+@Builder
+public class OrderSummaryResponse {
+    private UUID id;
+    private String trackingNumber;
+    private String status;
+
+    private String senderName;
+    private String receiverName;
+
+    private BigDecimal weightKg;
+    private BigDecimal shippingFee;
+    private BigDecimal codAmount;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
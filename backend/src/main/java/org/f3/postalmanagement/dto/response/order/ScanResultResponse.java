@@ -0,0 +1,19 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class ScanResultResponse {
+    private int index;
+    private String scanId;
+    private boolean success;
+    // The scan id was recorded before; eventId is the event created then
+    private boolean duplicate;
+    private UUID eventId;
+    private String errorCode;
+    private String message;
+}
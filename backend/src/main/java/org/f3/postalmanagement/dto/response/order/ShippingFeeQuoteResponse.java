@@ -0,0 +1,16 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class ShippingFeeQuoteResponse {
+    private int index;
+    private boolean success;
+    private BigDecimal fee;
+    private String errorCode;
+    private String message;
+}
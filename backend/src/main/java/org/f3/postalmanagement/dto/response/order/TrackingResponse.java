@@ -1,7 +1,9 @@
 package org.f3.postalmanagement.dto.response.order;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
+
 import java.util.List;
 
 @Data
@@ -9,4 +11,7 @@ import java.util.List;
 public class TrackingResponse {
     private OrderResponse order;
     private List<TrackingEventResponse> events;
+    // Changes whenever the order status or its events change; sent as the ETag
+    @JsonIgnore
+    private String version;
 }
@@ -0,0 +1,16 @@
+package org.f3.postalmanagement.dto.response.order;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Pushed to tracking subscribers when an order gets a new event or changes status.
+ */
+@Data
+@Builder
+public class TrackingUpdateResponse {
+    private String trackingNumber;
+    private String orderStatus;
+    // Null when the update is a status change without a tracking event
+    private TrackingEventResponse event;
+}
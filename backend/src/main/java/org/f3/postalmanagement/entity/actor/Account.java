@@ -5,9 +5,12 @@ import lombok.Getter;
 import lombok.Setter;
 import org.f3.postalmanagement.entity.BaseEntity;
 import org.f3.postalmanagement.enums.Role;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "accounts")
 @Getter
@@ -31,4 +34,12 @@ public class Account extends BaseEntity {
 
     @Column(name="is_active", nullable = false)
     private boolean isActive;
+
+    // Carried in every issued JWT; bumping it invalidates all tokens issued before
+    @ColumnDefault("0")
+    @Column(name="token_version", nullable = false)
+    private int tokenVersion;
+
+    @Column(name="tokens_revoked_at")
+    private LocalDateTime tokensRevokedAt;
 }
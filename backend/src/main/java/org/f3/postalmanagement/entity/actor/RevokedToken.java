@@ -0,0 +1,40 @@
+package org.f3.postalmanagement.entity.actor;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A JWT revoked before its expiry (e.g. on logout), identified by its "jti" claim.
+ * Rows are only needed until expires_at; TokenRevocationService purges them afterwards.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "account_id", nullable = false)
+    private UUID accountId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
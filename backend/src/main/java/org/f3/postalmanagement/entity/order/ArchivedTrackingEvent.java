@@ -0,0 +1,66 @@
+package org.f3.postalmanagement.entity.order;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cold tier of the tracking history: events of orders delivered or cancelled long ago, moved out of
+ * tracking_events by TrackingEventArchiver. Rows keep their original id, carry no audit columns or
+ * foreign keys, and are range-partitioned by event_month on MySQL (see V4__Tracking_Events_Archive.sql).
+ */
+@Entity
+@Table(name = "tracking_events_archive", indexes = {
+        @Index(name = "idx_tracking_events_archive_order_time", columnList = "order_id, event_time")
+})
+@IdClass(ArchivedTrackingEvent.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedTrackingEvent {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "id")
+    private UUID id;
+
+    // Partition key, yyyymm of event_time; part of the primary key, as MySQL partitioning requires
+    @Id
+    @Column(name = "event_month", nullable = false)
+    private int eventMonth;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "description", nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "location_name", length = 200)
+    private String locationName;
+
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "office_id")
+    private UUID officeId;
+
+    @Column(name = "event_time", nullable = false)
+    private LocalDateTime eventTime;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID id;
+        private int eventMonth;
+    }
+}
@@ -10,7 +10,18 @@ import org.f3.postalmanagement.enums.OrderStatus;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Keyset listings (OrderRepository.*After): newest first per customer, per office and overall
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at, id"),
+        @Index(name = "idx_orders_origin_office_created", columnList = "origin_office_id, created_at, id"),
+        @Index(name = "idx_orders_created", columnList = "created_at, id"),
+        // Sort by status (OrderSortField.STATUS) in each listing scope
+        @Index(name = "idx_orders_customer_status", columnList = "customer_id, status, created_at, id"),
+        @Index(name = "idx_orders_origin_office_status", columnList = "origin_office_id, status, created_at, id"),
+        @Index(name = "idx_orders_status", columnList = "status, created_at, id"),
+        // Bulk intake (BulkOrderService): a manifest row is created at most once per customer
+        @Index(name = "uk_orders_customer_client_reference", columnList = "customer_id, client_reference", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +36,11 @@ public class Order extends BaseEntity {
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
+    // "<idempotency key>#<row>" for orders created from a bulk manifest; makes retried uploads
+    // idempotent. Null for orders created one at a time
+    @Column(name = "client_reference", length = 80)
+    private String clientReference;
+
     // -- Sender Info
     @Column(name = "sender_name", nullable = false)
     private String senderName;
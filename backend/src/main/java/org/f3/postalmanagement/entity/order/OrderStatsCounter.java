@@ -0,0 +1,47 @@
+package org.f3.postalmanagement.entity.order;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.f3.postalmanagement.enums.OrderStatus;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Running order count and fee total for one (creation month, status) bucket.
+ * Maintained by OrderStatsService as orders are created and change status.
+ */
+@Entity
+@Table(name = "order_stats_counters")
+@IdClass(OrderStatsCounter.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatsCounter {
+
+    // Month the orders were created in, e.g. "2024-05"
+    @Id
+    @Column(name = "bucket_month", nullable = false, length = 7)
+    private String bucketMonth;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private OrderStatus status;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_fee", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalFee;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String bucketMonth;
+        private OrderStatus status;
+    }
+}
@@ -8,7 +8,10 @@ import org.f3.postalmanagement.entity.unit.Office;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tracking_events")
+@Table(name = "tracking_events", indexes = {
+        @Index(name = "idx_tracking_events_order_time", columnList = "order_id, event_time"),
+        @Index(name = "uk_tracking_events_scan_id", columnList = "scan_id", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,4 +38,9 @@ public class TrackingEvent extends BaseEntity {
 
     @Column(name = "event_time", nullable = false)
     private LocalDateTime eventTime;
+
+    // Id assigned by the scanner, or "log:<id>" for events inserted from the write-behind log;
+    // makes submissions idempotent. Null for manual events written directly
+    @Column(name = "scan_id", length = 64)
+    private String scanId;
 }
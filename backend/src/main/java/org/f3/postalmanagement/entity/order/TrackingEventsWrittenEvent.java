@@ -0,0 +1,10 @@
+package org.f3.postalmanagement.entity.order;
+
+import java.util.List;
+
+/**
+ * Published when tracking events accepted earlier by the write-behind log have been inserted,
+ * inside the inserting transaction, so their tracking pages can be refreshed and subscribers notified.
+ */
+public record TrackingEventsWrittenEvent(List<TrackingEvent> events) {
+}
@@ -0,0 +1,26 @@
+package org.f3.postalmanagement.entity.pricing;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener for pricing entities.
+ * Hibernate resolves it through the Spring bean container, so the publisher is injected.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        eventPublisher.publishEvent(new PricingDataChangedEvent(entity.getClass()));
+    }
+}
@@ -0,0 +1,8 @@
+package org.f3.postalmanagement.entity.pricing;
+
+/**
+ * Published whenever a pricing zone, ward-zone mapping or shipping rate is written,
+ * so the in-memory pricing matrix can be rebuilt once the transaction commits.
+ */
+public record PricingDataChangedEvent(Class<?> entityType) {
+}
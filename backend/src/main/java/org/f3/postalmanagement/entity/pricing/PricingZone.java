@@ -8,6 +8,7 @@ import org.hibernate.annotations.GenericGenerator;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(PricingChangeListener.class)
 @Table(name = "pricing_zones")
 @Getter
 @Setter
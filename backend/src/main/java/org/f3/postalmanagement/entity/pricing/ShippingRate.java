@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(PricingChangeListener.class)
 @Table(name = "shipping_rates")
 @Getter
 @Setter
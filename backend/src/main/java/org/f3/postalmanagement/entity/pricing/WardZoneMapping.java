@@ -6,6 +6,7 @@ import org.f3.postalmanagement.entity.BaseEntity;
 import org.f3.postalmanagement.entity.administrative.Ward;
 
 @Entity
+@EntityListeners(PricingChangeListener.class)
 @Table(name = "ward_zone_mappings")
 @Getter
 @Setter
@@ -25,4 +25,16 @@ public class DomainStatusException extends RuntimeException {
     public static DomainStatusException forbidden(String message, String errorCode) {
         return new DomainStatusException(message, HttpStatus.FORBIDDEN, errorCode);
     }
+
+    public static DomainStatusException conflict(String message, String errorCode) {
+        return new DomainStatusException(message, HttpStatus.CONFLICT, errorCode);
+    }
+
+    public static DomainStatusException tooManyRequests(String message, String errorCode) {
+        return new DomainStatusException(message, HttpStatus.TOO_MANY_REQUESTS, errorCode);
+    }
+
+    public static DomainStatusException serviceUnavailable(String message, String errorCode) {
+        return new DomainStatusException(message, HttpStatus.SERVICE_UNAVAILABLE, errorCode);
+    }
 }
@@ -1,5 +1,6 @@
 package org.f3.postalmanagement.jwt;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +8,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.f3.postalmanagement.entity.actor.CustomUserDetails;
-import org.f3.postalmanagement.service.impl.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import org.f3.postalmanagement.service.AccountTokenStateService;
+import org.f3.postalmanagement.service.TokenRevocationService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,19 +19,22 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
-import java.util.UUID;
-
 @Component
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final AccountTokenStateService accountTokenStateService;
+
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   AccountTokenStateService accountTokenStateService,
+                                   TokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.accountTokenStateService = accountTokenStateService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -37,31 +43,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
 
-        UUID id = null;
-        String jwt = null;
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwt = authHeader.substring(7);
             try {
-                id = UUID.fromString(jwtUtil.extractUserId(jwt));
+                // Signature and expiry are verified once; the principal comes from the signed claims
+                Claims claims = jwtUtil.parseClaims(jwt);
+                CustomUserDetails userDetails = jwtUtil.toUserDetails(claims);
+
+                if (userDetails.isEnabled()
+                        && !accountTokenStateService.isRevoked(userDetails.getId(), userDetails.getAccount().getTokenVersion())
+                        && !tokenRevocationService.isRevoked(claims.getId(), claims.getExpiration())) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
             }
-            catch (Exception e) {
-                // Log the exception or handle it as needed
+            catch (JwtException | IllegalArgumentException e) {
                 log.error("Invalid JWT token", e);
             }
         }
 
-        if (id != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            CustomUserDetails userDetails = userDetailsService.loadUserById(id);
-
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
-        }
-
         filterChain.doFilter(request, response);
     }
 }
-
@@ -0,0 +1,26 @@
+package org.f3.postalmanagement.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT signing configuration (prefix "jwt").
+ * To rotate, add the new key, switch active-key-id to it, and drop the old key
+ * once the tokens it signed have expired.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    /** Token lifetime in milliseconds. */
+    private long expiration = 86400000L;
+
+    /** Id of the key that signs new tokens; written to the "kid" header. */
+    private String activeKeyId;
+
+    /** HMAC secrets by key id (at least 32 bytes each); every entry is accepted for verification. */
+    private Map<String, String> keys = new LinkedHashMap<>();
+}
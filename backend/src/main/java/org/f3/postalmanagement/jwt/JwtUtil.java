@@ -1,17 +1,22 @@
 package org.f3.postalmanagement.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import org.f3.postalmanagement.entity.actor.Account;
 import org.f3.postalmanagement.entity.actor.CustomUserDetails;
-import org.springframework.beans.factory.annotation.Value;
+import org.f3.postalmanagement.enums.Role;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import org.springframework.security.core.GrantedAuthority;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -22,14 +27,57 @@ import java.util.UUID;
 @Component
 public class JwtUtil {
 
-    @Value("ZUZsJvraCKD/K8VtSbkJuw/4jGPIPHPRuBzNkkI97xN2uw2cJrZCT5pGPABywv0Mp9QtzzRz0wm0AebGxUwtUw==")
-    private String secretKey;
-
-    @Value("86400000")
-    private Long expiration;
+    static final String CLAIM_USERNAME = "username";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ACTIVE = "active";
+    static final String CLAIM_TOKEN_VERSION = "tv";
+
+    private final long expiration;
+    private final String activeKeyId;
+    private final SecretKey activeKey;
+    // Keys and parser are immutable and thread-safe, so they are built once and shared by all requests
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+
+    public JwtUtil(JwtProperties properties) {
+        if (properties.getKeys().isEmpty()) {
+            throw new IllegalStateException("No JWT signing keys configured (jwt.keys)");
+        }
+        Map<String, SecretKey> keys = new HashMap<>();
+        properties.getKeys().forEach((keyId, secret) -> {
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException("JWT signing key '" + keyId + "' is empty (jwt.keys)");
+            }
+            keys.put(keyId, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
+        });
+
+        this.expiration = properties.getExpiration();
+        this.activeKeyId = properties.getActiveKeyId();
+        this.activeKey = keys.get(activeKeyId);
+        if (activeKey == null) {
+            throw new IllegalStateException("Active JWT key id '" + activeKeyId + "' is not among jwt.keys " + keys.keySet());
+        }
+        this.verificationKeys = Map.copyOf(keys);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    // Tokens issued before key ids were introduced carry no "kid" and were signed with the active key
+    private SecretKey resolveKey(String keyId) {
+        if (keyId == null) {
+            return activeKey;
+        }
+        SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new JwtException("Unknown JWT signing key id: " + keyId);
+        }
+        return key;
     }
 
     public String extractUserId(String token) {
@@ -45,12 +93,40 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify the signature and expiry of a token and return its claims.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * Build the authenticated principal from verified claims, without loading the account.
+     * The account carries only what the token asserts: id, username, role, active flag and token version.
+     *
+     * @throws IllegalArgumentException if the token predates these claims
+     */
+    public CustomUserDetails toUserDetails(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Boolean active = claims.get(CLAIM_ACTIVE, Boolean.class);
+        Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        if (role == null || active == null || tokenVersion == null) {
+            throw new IllegalArgumentException("Token is missing account claims");
+        }
+
+        Account account = new Account();
+        account.setId(UUID.fromString(claims.getSubject()));
+        account.setUsername(claims.get(CLAIM_USERNAME, String.class));
+        account.setRole(Role.valueOf(role));
+        account.setActive(active);
+        account.setTokenVersion(tokenVersion);
+        return new CustomUserDetails(account);
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     private Boolean isTokenExpired(String token) {
@@ -63,16 +139,23 @@ public class JwtUtil {
                 .map(GrantedAuthority::getAuthority)
                 .toList();
         claims.put("roles", roles);
+        Account account = userDetails.getAccount();
+        claims.put(CLAIM_USERNAME, account.getUsername());
+        claims.put(CLAIM_ROLE, account.getRole().name());
+        claims.put(CLAIM_ACTIVE, account.isActive());
+        claims.put(CLAIM_TOKEN_VERSION, account.getTokenVersion());
         return createToken(claims, userDetails.getId().toString());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(activeKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -83,7 +166,7 @@ public class JwtUtil {
 
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -3,7 +3,11 @@ package org.f3.postalmanagement.repository;
 import org.f3.postalmanagement.entity.actor.Account;
 import org.f3.postalmanagement.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +22,18 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Accounts whose tokens were revoked after the given instant.
+     * Tokens revoked earlier have expired by themselves, so this set stays small.
+     */
+    @Query("SELECT a.id AS id, a.tokenVersion AS tokenVersion, a.isActive AS active " +
+           "FROM Account a WHERE a.tokensRevokedAt > :since")
+    List<TokenStateRow> findTokenStatesRevokedAfter(@Param("since") LocalDateTime since);
+
+    interface TokenStateRow {
+        UUID getId();
+        int getTokenVersion();
+        boolean getActive();
+    }
 }
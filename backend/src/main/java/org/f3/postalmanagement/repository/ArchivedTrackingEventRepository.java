@@ -0,0 +1,40 @@
+package org.f3.postalmanagement.repository;
+
+import org.f3.postalmanagement.entity.order.ArchivedTrackingEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTrackingEventRepository extends JpaRepository<ArchivedTrackingEvent, ArchivedTrackingEvent.Key> {
+
+    // Events cannot predate their order, so fromMonth (the order's creation month) prunes older partitions
+    @Query("SELECT a FROM ArchivedTrackingEvent a " +
+           "WHERE a.orderId = :orderId AND a.eventMonth >= :fromMonth " +
+           "ORDER BY a.eventTime DESC")
+    List<ArchivedTrackingEvent> findTimeline(@Param("orderId") UUID orderId, @Param("fromMonth") int fromMonth);
+
+    /**
+     * Copy the events of the given orders that are older than the cutoff into the archive, in one statement.
+     */
+    @Modifying
+    @Query("INSERT INTO ArchivedTrackingEvent (id, eventMonth, orderId, status, description, locationName, officeId, eventTime) " +
+           "SELECT e.id, year(e.eventTime) * 100 + month(e.eventTime), e.order.id, e.status, e.description, " +
+           "e.locationName, e.office.id, e.eventTime " +
+           "FROM TrackingEvent e WHERE e.order.id IN :orderIds AND e.eventTime < :cutoff")
+    int copyFromHotTable(@Param("orderIds") Collection<UUID> orderIds, @Param("cutoff") LocalDateTime cutoff);
+
+    // Empty unless the table was created partitioned (MySQL only)
+    @Query(value = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                   "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tracking_events_archive' " +
+                   "AND PARTITION_NAME IS NOT NULL",
+           nativeQuery = true)
+    List<String> findPartitionNames();
+}
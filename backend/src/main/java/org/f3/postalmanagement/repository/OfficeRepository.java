@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,7 @@ public interface OfficeRepository extends JpaRepository<Office, UUID> {
 
     @Query("SELECT o FROM Office o WHERE o.province.code = :provinceCode AND o.officeType IN :officeTypes")
     List<Office> findAllByProvinceCodeAndOfficeTypeIn(@Param("provinceCode") String provinceCode, @Param("officeTypes") List<OfficeType> officeTypes);
+
+    @Query("SELECT o.id FROM Office o WHERE o.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,21 @@
+package org.f3.postalmanagement.repository;
+
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.repository.OrderRepository.OrderExportRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Export query fragment of {@link OrderRepository}, built per request so only the filters given reach the database.
+ */
+public interface OrderExportRepository {
+
+    /**
+     * Stream the matching orders in creation order. Null filters are left out of the query.
+     * The stream holds a database cursor and must be closed, inside a transaction.
+     */
+    Stream<OrderExportRow> streamForExport(OrderStatus status, UUID officeId, String provinceCode,
+                                           LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,112 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.repository.OrderRepository.OrderExportRow;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    private static final String SELECT =
+            "SELECT o.trackingNumber AS trackingNumber, o.status AS status, o.originOffice.id AS originOfficeId, " +
+            "o.senderName AS senderName, o.senderPhone AS senderPhone, o.senderWardCode AS senderWardCode, " +
+            "o.receiverName AS receiverName, o.receiverPhone AS receiverPhone, " +
+            "o.receiverWardCode AS receiverWardCode, o.weightKg AS weightKg, o.shippingFee AS shippingFee, " +
+            "o.codAmount AS codAmount, o.createdAt AS createdAt, o.updatedAt AS updatedAt FROM Order o";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Only the given filters are written into the query: an "(:param IS NULL OR ...)" predicate keeps MySQL
+    // from choosing the (status, created_at) or (origin_office_id, created_at) index.
+    @Override
+    public Stream<OrderExportRow> streamForExport(OrderStatus status, UUID officeId, String provinceCode,
+                                                  LocalDateTime from, LocalDateTime to) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (status != null) {
+            conditions.add("o.status = :status");
+            parameters.put("status", status);
+        }
+        if (officeId != null) {
+            conditions.add("o.originOffice.id = :officeId");
+            parameters.put("officeId", officeId);
+        }
+        if (provinceCode != null) {
+            conditions.add("o.originOffice.id IN (SELECT f.id FROM Office f WHERE f.province.code = :provinceCode)");
+            parameters.put("provinceCode", provinceCode);
+        }
+        if (from != null) {
+            conditions.add("o.createdAt >= :from");
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            conditions.add("o.createdAt < :to");
+            parameters.put("to", to);
+        }
+
+        String jpql = SELECT + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY o.createdAt, o.id";
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        // A fetch size of Integer.MIN_VALUE puts MySQL Connector/J in row-streaming mode, so rows are read off the
+        // socket one by one instead of buffering the whole result. The connection serves no other statement until
+        // the stream is closed, which is fine as the export runs alone in its own read-only transaction.
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_CACHEABLE, false);
+        return query.getResultStream().map(ExportRow::of);
+    }
+
+    private record ExportRow(String trackingNumber, OrderStatus status, UUID originOfficeId,
+                             String senderName, String senderPhone, String senderWardCode,
+                             String receiverName, String receiverPhone, String receiverWardCode,
+                             BigDecimal weightKg, BigDecimal shippingFee, BigDecimal codAmount,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) implements OrderExportRow {
+
+        static ExportRow of(Tuple tuple) {
+            return new ExportRow(
+                    tuple.get("trackingNumber", String.class),
+                    tuple.get("status", OrderStatus.class),
+                    tuple.get("originOfficeId", UUID.class),
+                    tuple.get("senderName", String.class),
+                    tuple.get("senderPhone", String.class),
+                    tuple.get("senderWardCode", String.class),
+                    tuple.get("receiverName", String.class),
+                    tuple.get("receiverPhone", String.class),
+                    tuple.get("receiverWardCode", String.class),
+                    tuple.get("weightKg", BigDecimal.class),
+                    tuple.get("shippingFee", BigDecimal.class),
+                    tuple.get("codAmount", BigDecimal.class),
+                    tuple.get("createdAt", LocalDateTime.class),
+                    tuple.get("updatedAt", LocalDateTime.class));
+        }
+
+        public String getTrackingNumber() { return trackingNumber; }
+        public OrderStatus getStatus() { return status; }
+        public UUID getOriginOfficeId() { return originOfficeId; }
+        public String getSenderName() { return senderName; }
+        public String getSenderPhone() { return senderPhone; }
+        public String getSenderWardCode() { return senderWardCode; }
+        public String getReceiverName() { return receiverName; }
+        public String getReceiverPhone() { return receiverPhone; }
+        public String getReceiverWardCode() { return receiverWardCode; }
+        public BigDecimal getWeightKg() { return weightKg; }
+        public BigDecimal getShippingFee() { return shippingFee; }
+        public BigDecimal getCodAmount() { return codAmount; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
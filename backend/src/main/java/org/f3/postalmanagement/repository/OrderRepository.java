@@ -4,24 +4,142 @@ import org.f3.postalmanagement.entity.order.Order;
 import org.f3.postalmanagement.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderExportRepository {
     
     Optional<Order> findByTrackingNumber(String trackingNumber);
+
+    List<Order> findByTrackingNumberIn(Collection<String> trackingNumbers);
     
-    // Find orders by customer (for My Orders)
-    Page<Order> findByCustomerId(UUID customerId, Pageable pageable);
+    // Columns of an order list row (OrderSummaryRow). Lists never load the entity, so the TEXT
+    // address and description columns stay on disk and nothing enters the persistence context.
+    String SUMMARY_SELECT = "SELECT o.id AS id, o.trackingNumber AS trackingNumber, o.status AS status, " +
+            "o.senderName AS senderName, o.receiverName AS receiverName, o.weightKg AS weightKg, " +
+            "o.shippingFee AS shippingFee, o.codAmount AS codAmount, " +
+            "o.createdAt AS createdAt, o.updatedAt AS updatedAt FROM Order o ";
+
+    // Find orders by customer (for My Orders). Filters on the customer_id column itself: the derived
+    // query would join customers for the soft-delete restriction and lose the (customer_id, ...) indexes
+    // that OrderSortField relies on.
+    @Query(SUMMARY_SELECT + "WHERE o.customer.id = :customerId")
+    Page<OrderSummaryRow> findByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
     
     Page<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status, Pageable pageable);
     
-    // Find orders by origin office (for PO Staff)
-    Page<Order> findByOriginOfficeId(UUID officeId, Pageable pageable);
+    // Find orders by origin office (for PO Staff), on origin_office_id for the same reason
+    @Query(SUMMARY_SELECT + "WHERE o.originOffice.id = :officeId")
+    Page<OrderSummaryRow> findByOriginOfficeId(@Param("officeId") UUID officeId, Pageable pageable);
     
     Page<Order> findByOriginOfficeIdAndStatus(UUID officeId, OrderStatus status, Pageable pageable);
+
+    // All orders (for admins)
+    @Query(SUMMARY_SELECT)
+    Page<OrderSummaryRow> findAllSummaries(Pageable pageable);
+
+    // Keyset listings, newest first: the first slice, then the orders after a (createdAt, id) cursor.
+    // Slice results fetch one extra row instead of running a count; the page number of the
+    // Pageable must stay 0. Backed by the (..., created_at, id) indexes on orders.
+    @Query(SUMMARY_SELECT + "WHERE o.customer.id = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findLatestByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE o.customer.id = :customerId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE o.originOffice.id = :officeId ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findLatestByOriginOfficeId(@Param("officeId") UUID officeId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE o.originOffice.id = :officeId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findByOriginOfficeIdAfter(@Param("officeId") UUID officeId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findLatest(Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+           "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<OrderSummaryRow> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+    // Bulk intake: orders already created from these manifest rows, resolved with the
+    // (customer_id, client_reference) unique index
+    @Query("SELECT o.clientReference AS clientReference, o.id AS id, o.trackingNumber AS trackingNumber, " +
+           "o.shippingFee AS shippingFee FROM Order o " +
+           "WHERE o.customer.id = :customerId AND o.clientReference IN :references")
+    List<ClientReferenceRow> findByClientReferences(@Param("customerId") UUID customerId,
+                                                    @Param("references") Collection<String> references);
+
+    // Source of truth for rebuilding the dashboard counters: one row per (creation month, status)
+    @Query("SELECT YEAR(o.createdAt) AS bucketYear, MONTH(o.createdAt) AS bucketMonth, o.status AS status, " +
+           "COUNT(o) AS orderCount, COALESCE(SUM(o.shippingFee), 0) AS totalFee " +
+           "FROM Order o GROUP BY YEAR(o.createdAt), MONTH(o.createdAt), o.status")
+    List<MonthStatusSummary> summarizeByMonthAndStatus();
+
+    interface MonthStatusSummary {
+        int getBucketYear();
+        int getBucketMonth();
+        OrderStatus getStatus();
+        long getOrderCount();
+        BigDecimal getTotalFee();
+    }
+
+    interface ClientReferenceRow {
+        String getClientReference();
+        UUID getId();
+        String getTrackingNumber();
+        BigDecimal getShippingFee();
+    }
+
+    interface OrderSummaryRow {
+        UUID getId();
+        String getTrackingNumber();
+        OrderStatus getStatus();
+        String getSenderName();
+        String getReceiverName();
+        BigDecimal getWeightKg();
+        BigDecimal getShippingFee();
+        BigDecimal getCodAmount();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface OrderExportRow {
+        String getTrackingNumber();
+        OrderStatus getStatus();
+        UUID getOriginOfficeId();
+        String getSenderName();
+        String getSenderPhone();
+        String getSenderWardCode();
+        String getReceiverName();
+        String getReceiverPhone();
+        String getReceiverWardCode();
+        BigDecimal getWeightKg();
+        BigDecimal getShippingFee();
+        BigDecimal getCodAmount();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
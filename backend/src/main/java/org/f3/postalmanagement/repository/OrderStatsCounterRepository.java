@@ -0,0 +1,48 @@
+package org.f3.postalmanagement.repository;
+
+import org.f3.postalmanagement.entity.order.OrderStatsCounter;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderStatsCounterRepository extends JpaRepository<OrderStatsCounter, OrderStatsCounter.Key> {
+
+    /**
+     * Atomically add a delta to a bucket, creating it on first use.
+     * Joins the caller's transaction so the counters commit or roll back with the order change.
+     * The deltas are bound again in the update rather than read through VALUES(), which MySQL 8.0.20
+     * deprecates; tests run the same statement on H2 in MySQL mode.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO order_stats_counters (bucket_month, status, order_count, total_fee) " +
+                   "VALUES (:bucketMonth, :status, :countDelta, :feeDelta) " +
+                   "ON DUPLICATE KEY UPDATE order_count = order_count + :countDelta, " +
+                   "total_fee = total_fee + :feeDelta",
+           nativeQuery = true)
+    void increment(@Param("bucketMonth") String bucketMonth,
+                   @Param("status") String status,
+                   @Param("countDelta") long countDelta,
+                   @Param("feeDelta") BigDecimal feeDelta);
+
+    @Query("SELECT c.status AS status, SUM(c.orderCount) AS orderCount, SUM(c.totalFee) AS totalFee " +
+           "FROM OrderStatsCounter c GROUP BY c.status")
+    List<StatusTotal> sumByStatus();
+
+    List<OrderStatsCounter> findByBucketMonthIn(Collection<String> bucketMonths);
+
+    interface StatusTotal {
+        OrderStatus getStatus();
+        long getOrderCount();
+        BigDecimal getTotalFee();
+    }
+}
@@ -1,14 +1,71 @@
 package org.f3.postalmanagement.repository;
 
 import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface TrackingEventRepository extends JpaRepository<TrackingEvent, UUID> {
     List<TrackingEvent> findByOrderId(UUID orderId, Sort sort);
+
+    // Public tracking page: the order header repeated on each of its events, newest first.
+    // An order without events yields a single row whose event columns are null.
+    @Query("SELECT o.trackingNumber AS trackingNumber, o.id AS orderId, o.status AS orderStatus, " +
+           "o.createdAt AS orderCreatedAt, o.senderName AS senderName, o.receiverName AS receiverName, " +
+           "o.senderWardCode AS senderWardCode, o.receiverWardCode AS receiverWardCode, " +
+           "e.id AS eventId, e.status AS eventStatus, e.description AS description, " +
+           "e.locationName AS locationName, e.office.id AS officeId, e.eventTime AS eventTime " +
+           "FROM Order o LEFT JOIN TrackingEvent e ON e.order = o " +
+           "WHERE o.trackingNumber = :trackingNumber " +
+           "ORDER BY e.eventTime DESC")
+    List<TimelineRow> findTimelineByTrackingNumber(@Param("trackingNumber") String trackingNumber);
+
+    @Query("SELECT e.scanId AS scanId, e.id AS eventId FROM TrackingEvent e WHERE e.scanId IN :scanIds")
+    List<ScanIdRow> findByScanIdIn(@Param("scanIds") Collection<String> scanIds);
+
+    // Orders in one of the statuses whose events are all older than the cutoff
+    @Query("SELECT e.order.id FROM TrackingEvent e WHERE e.order.status IN :statuses " +
+           "GROUP BY e.order.id HAVING MAX(e.eventTime) < :cutoff")
+    List<UUID> findArchivableOrderIds(@Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable pageable);
+
+    // Removes only events already copied to the archive, even if new ones arrived in between
+    @Modifying
+    @Query("DELETE FROM TrackingEvent e WHERE e.order.id IN :orderIds AND e.id IN " +
+           "(SELECT a.id FROM ArchivedTrackingEvent a WHERE a.orderId IN :orderIds)")
+    int deleteArchived(@Param("orderIds") Collection<UUID> orderIds);
+
+    interface ScanIdRow {
+        String getScanId();
+        UUID getEventId();
+    }
+
+    interface TimelineRow {
+        String getTrackingNumber();
+        UUID getOrderId();
+        OrderStatus getOrderStatus();
+        LocalDateTime getOrderCreatedAt();
+        String getSenderName();
+        String getReceiverName();
+        String getSenderWardCode();
+        String getReceiverWardCode();
+        UUID getEventId();
+        String getEventStatus();
+        String getDescription();
+        String getLocationName();
+        UUID getOfficeId();
+        LocalDateTime getEventTime();
+    }
 }
@@ -2,10 +2,27 @@ package org.f3.postalmanagement.repository;
 
 import org.f3.postalmanagement.entity.administrative.Ward;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface WardRepository extends JpaRepository<Ward, String> {
 
     List<Ward> findByProvince_Code(String provinceCode);
+
+    /**
+     * Every ward with exactly the columns a WardResponse needs, in one query.
+     * Reading the same data through the LAZY associations costs one select per distinct unit and province.
+     */
+    @Query("SELECT w.code AS code, w.name AS name, u.name AS unitName, p.code AS provinceCode, p.name AS provinceName " +
+           "FROM Ward w LEFT JOIN w.administrativeUnit u LEFT JOIN w.province p")
+    List<WardRow> findAllWardRows();
+
+    interface WardRow {
+        String getCode();
+        String getName();
+        String getUnitName();
+        String getProvinceCode();
+        String getProvinceName();
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,4 +26,11 @@ public interface ShippingRateRepository extends JpaRepository<ShippingRate, UUID
         @Param("toZone") PricingZone toZone,
         @Param("now") LocalDateTime now
     );
+
+    // All active rates regardless of validity window; windows are evaluated in memory at quote time
+    @Query("SELECT sr FROM ShippingRate sr " +
+           "JOIN FETCH sr.fromZone " +
+           "JOIN FETCH sr.toZone " +
+           "WHERE sr.isActive = true")
+    List<ShippingRate> findAllActiveWithZones();
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.query.Procedure;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +16,8 @@ public interface WardZoneMappingRepository extends JpaRepository<WardZoneMapping
     
     @Query("SELECT wzm FROM WardZoneMapping wzm WHERE wzm.ward.code = :wardCode")
     Optional<WardZoneMapping> findByWardCode(@Param("wardCode") String wardCode);
+
+    // Loads every mapping with its ward and zone in one query (used to build the in-memory pricing matrix)
+    @Query("SELECT wzm FROM WardZoneMapping wzm JOIN FETCH wzm.ward JOIN FETCH wzm.zone")
+    List<WardZoneMapping> findAllWithZone();
 }
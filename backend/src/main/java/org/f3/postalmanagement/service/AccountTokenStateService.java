@@ -0,0 +1,132 @@
+package org.f3.postalmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.AccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Revocation and deactivation state for accounts whose tokens were invalidated
+ * within the token lifetime, so that JWTs can be authenticated without loading the account.
+ * Changes made on this node apply immediately; other nodes pick them up on the next refresh.
+ * Entries expire with the tokens they guard and are never evicted for size: a missing entry means
+ * "not revoked", so dropping one early would make revoked tokens valid again.
+ */
+@Service
+@Slf4j
+public class AccountTokenStateService {
+
+    private final AccountRepository accountRepository;
+    private final long tokenLifetimeMillis;
+    private final Cache<UUID, TokenState> states;
+
+    public AccountTokenStateService(
+            AccountRepository accountRepository,
+            @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis
+    ) {
+        this.accountRepository = accountRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tokenLifetimeMillis))
+                .build();
+    }
+
+    /**
+     * Whether a token issued for the account with the given version must be rejected.
+     * Accounts without recorded state are trusted as the token asserts.
+     */
+    public boolean isRevoked(UUID accountId, int tokenVersion) {
+        TokenState state = states.getIfPresent(accountId);
+        return state != null && (!state.active() || tokenVersion < state.minimumVersion());
+    }
+
+    /**
+     * Change the account fields that tokens carry as claims (username, role, active).
+     * Authentication trusts those claims for the token's lifetime, so any change revokes the account's tokens.
+     *
+     * @return whether the tokens were revoked
+     */
+    public boolean updateClaims(Account account, String username, Role role, boolean active) {
+        boolean changed = !Objects.equals(account.getUsername(), username)
+                || account.getRole() != role
+                || account.isActive() != active;
+        account.setUsername(username);
+        account.setRole(role);
+        account.setActive(active);
+        if (changed) {
+            revokeTokens(account);
+        }
+        return changed;
+    }
+
+    /**
+     * Invalidate every token issued so far for the account, e.g. after deactivation or a password change.
+     * The caller persists the account; inside a transaction the local state changes only once it commits.
+     */
+    public void revokeTokens(Account account) {
+        account.setTokenVersion(account.getTokenVersion() + 1);
+        account.setTokensRevokedAt(LocalDateTime.now());
+
+        UUID accountId = account.getId();
+        TokenState state = new TokenState(account.getTokenVersion(), account.isActive());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    states.put(accountId, state);
+                }
+            });
+        } else {
+            states.put(accountId, state);
+        }
+        log.info("Revoked tokens of account {} (token version now {})", accountId, state.minimumVersion());
+    }
+
+    /**
+     * Reload the state of every account revoked within the token lifetime.
+     *
+     * @return number of accounts with recorded state
+     */
+    public int reload() {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(tokenLifetimeMillis));
+        List<AccountRepository.TokenStateRow> rows = accountRepository.findTokenStatesRevokedAfter(since);
+        for (AccountRepository.TokenStateRow row : rows) {
+            states.put(row.getId(), new TokenState(row.getTokenVersion(), row.getActive()));
+        }
+        log.debug("Loaded token state of {} accounts", rows.size());
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-state.refresh-interval:PT1M}",
+               initialDelayString = "${jwt.token-state.refresh-interval:PT1M}")
+    public void scheduledRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Scheduled token state refresh failed, keeping previous state", e);
+        }
+    }
+
+    private record TokenState(int minimumVersion, boolean active) {
+    }
+}
@@ -0,0 +1,186 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.dto.response.administrative.ProvinceResponse;
+import org.f3.postalmanagement.dto.response.administrative.WardResponse;
+import org.f3.postalmanagement.entity.administrative.AdministrativeRegion;
+import org.f3.postalmanagement.repository.ProvinceRepository.ProvinceRow;
+import org.f3.postalmanagement.repository.WardRepository.WardRow;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable in-memory snapshot of the administrative reference data (regions, provinces, wards).
+ * Every list is sorted by Vietnamese collation once, at build time, and never modified,
+ * so lookups and page slices are served without sorting or touching the database.
+ */
+public final class AdministrativeSnapshot {
+
+    public static final AdministrativeSnapshot EMPTY = new AdministrativeSnapshot(List.of(), Map.of(), Map.of(), null);
+
+    private static final Locale VIETNAMESE = new Locale("vi", "VN");
+
+    private final List<ProvinceResponse> provinces;
+    private final Map<Integer, List<ProvinceResponse>> provincesByRegion;
+    private final Map<String, List<WardResponse>> wardsByProvince;
+    private final LocalDateTime loadedAt;
+
+    private AdministrativeSnapshot(
+            List<ProvinceResponse> provinces,
+            Map<Integer, List<ProvinceResponse>> provincesByRegion,
+            Map<String, List<WardResponse>> wardsByProvince,
+            LocalDateTime loadedAt
+    ) {
+        this.provinces = provinces;
+        this.provincesByRegion = provincesByRegion;
+        this.wardsByProvince = wardsByProvince;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Build a snapshot from the province and ward projections.
+     */
+    public static AdministrativeSnapshot build(
+            Collection<AdministrativeRegion> regions,
+            Collection<ProvinceRow> provinceRows,
+            Collection<WardRow> wardRows
+    ) {
+        Collator collator = Collator.getInstance(VIETNAMESE);
+
+        // Sort everything once; grouping afterwards keeps each group in sorted order
+        ProvinceRow[] sortedProvinces = sortByName(provinceRows, ProvinceRow::getName, collator, ProvinceRow[]::new);
+        WardRow[] sortedWards = sortByName(wardRows, WardRow::getName, collator, WardRow[]::new);
+
+        List<ProvinceResponse> provinces = new ArrayList<>(sortedProvinces.length);
+        Map<Integer, List<ProvinceResponse>> provincesByRegion = new HashMap<>();
+        Map<String, List<WardResponse>> wardsByProvince = new HashMap<>();
+        for (AdministrativeRegion region : regions) {
+            provincesByRegion.put(region.getId(), new ArrayList<>());
+        }
+        for (ProvinceRow province : sortedProvinces) {
+            ProvinceResponse response = toProvinceResponse(province);
+            provinces.add(response);
+            wardsByProvince.put(province.getCode(), new ArrayList<>());
+            if (province.getRegionId() != null) {
+                provincesByRegion.computeIfAbsent(province.getRegionId(), id -> new ArrayList<>())
+                        .add(response);
+            }
+        }
+        for (WardRow ward : sortedWards) {
+            if (ward.getProvinceCode() != null) {
+                wardsByProvince.computeIfAbsent(ward.getProvinceCode(), code -> new ArrayList<>())
+                        .add(toWardResponse(ward));
+            }
+        }
+
+        return new AdministrativeSnapshot(
+                List.copyOf(provinces),
+                freeze(provincesByRegion),
+                freeze(wardsByProvince),
+                LocalDateTime.now());
+    }
+
+    /**
+     * All provinces, sorted by name.
+     */
+    public List<ProvinceResponse> getProvinces() {
+        return provinces;
+    }
+
+    /**
+     * Provinces of a region sorted by name, or null when the region does not exist.
+     */
+    public List<ProvinceResponse> getProvincesByRegion(Integer regionId) {
+        return provincesByRegion.get(regionId);
+    }
+
+    /**
+     * Wards of a province sorted by name, or null when the province does not exist.
+     */
+    public List<WardResponse> getWardsByProvince(String provinceCode) {
+        return wardsByProvince.get(provinceCode);
+    }
+
+    public int provinceCount() {
+        return provinces.size();
+    }
+
+    public int wardCount() {
+        return wardsByProvince.values().stream().mapToInt(List::size).sum();
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * A page of a pre-sorted list: a constant-time view, no copying.
+     */
+    public static <T> List<T> slice(List<T> sorted, long offset, int size) {
+        if (offset >= sorted.size()) {
+            return List.of();
+        }
+        int start = (int) offset;
+        return sorted.subList(start, Math.min(start + size, sorted.size()));
+    }
+
+    private static <T> T[] sortByName(
+            Collection<T> items,
+            Function<T, String> name,
+            Collator collator,
+            IntFunction<T[]> newArray
+    ) {
+        // One CollationKey per item instead of re-collating both strings on every comparison
+        CollationKey[] keys = new CollationKey[items.size()];
+        Integer[] order = new Integer[items.size()];
+        T[] source = items.toArray(newArray.apply(items.size()));
+        for (int i = 0; i < source.length; i++) {
+            keys[i] = collator.getCollationKey(name.apply(source[i]));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+        T[] sorted = newArray.apply(source.length);
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = source[order[i]];
+        }
+        return sorted;
+    }
+
+    private static <K, V> Map<K, List<V>> freeze(Map<K, List<V>> groups) {
+        Map<K, List<V>> frozen = new HashMap<>();
+        groups.forEach((key, values) -> frozen.put(key, List.copyOf(values)));
+        return Map.copyOf(frozen);
+    }
+
+    private static ProvinceResponse toProvinceResponse(ProvinceRow province) {
+        return ProvinceResponse.builder()
+                .code(province.getCode())
+                .name(province.getName())
+                .administrativeRegionName(province.getRegionName())
+                .build();
+    }
+
+    private static WardResponse toWardResponse(WardRow ward) {
+        String wardName = ward.getName();
+        if (ward.getUnitName() != null) {
+            wardName = ward.getUnitName() + " " + ward.getName();
+        }
+
+        return WardResponse.builder()
+                .code(ward.getCode())
+                .name(wardName)
+                .provinceName(ward.getProvinceName())
+                .build();
+    }
+}
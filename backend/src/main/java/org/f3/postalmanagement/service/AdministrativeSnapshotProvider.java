@@ -0,0 +1,129 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.administrative.AdministrativeRegion;
+import org.f3.postalmanagement.repository.AdRegionRepository;
+import org.f3.postalmanagement.repository.ProvinceRepository;
+import org.f3.postalmanagement.repository.WardRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Owns the current {@link AdministrativeSnapshot}.
+ * Reference data only changes through migrations, so the snapshot is loaded at startup
+ * and rebuilt on a long interval rather than tracking individual writes.
+ * Metrics: administrative.snapshot.reads, administrative.snapshot.reloads (result=success|failure),
+ * administrative.snapshot.provinces, administrative.snapshot.wards and administrative.snapshot.age.
+ */
+@Slf4j
+@Service
+public class AdministrativeSnapshotProvider {
+
+    private final ProvinceRepository provinceRepository;
+    private final WardRepository wardRepository;
+    private final AdRegionRepository adRegionRepository;
+    private final Counter reads;
+    private final Counter reloads;
+    private final Counter failedReloads;
+
+    private volatile AdministrativeSnapshot current = AdministrativeSnapshot.EMPTY;
+
+    public AdministrativeSnapshotProvider(
+            ProvinceRepository provinceRepository,
+            WardRepository wardRepository,
+            AdRegionRepository adRegionRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.provinceRepository = provinceRepository;
+        this.wardRepository = wardRepository;
+        this.adRegionRepository = adRegionRepository;
+        this.reads = Counter.builder("administrative.snapshot.reads")
+                .description("Administrative lookups served from the snapshot")
+                .register(meterRegistry);
+        this.reloads = Counter.builder("administrative.snapshot.reloads")
+                .description("Snapshot rebuilds from the database")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedReloads = Counter.builder("administrative.snapshot.reloads")
+                .description("Snapshot rebuilds from the database")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("administrative.snapshot.provinces", this, p -> p.current.provinceCount())
+                .description("Provinces in the current snapshot")
+                .register(meterRegistry);
+        Gauge.builder("administrative.snapshot.wards", this, p -> p.current.wardCount())
+                .description("Wards in the current snapshot")
+                .register(meterRegistry);
+        Gauge.builder("administrative.snapshot.age", this, p -> ageSeconds(p.current))
+                .description("Time since the snapshot was last rebuilt")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the current snapshot, loading it on first use.
+     */
+    public AdministrativeSnapshot current() {
+        reads.increment();
+        AdministrativeSnapshot snapshot = current;
+        if (snapshot == AdministrativeSnapshot.EMPTY) {
+            snapshot = loadIfEmpty();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Rebuild the snapshot from the database and swap it in.
+     */
+    public synchronized AdministrativeSnapshot reload() {
+        AdministrativeSnapshot snapshot;
+        List<AdministrativeRegion> regions;
+        try {
+            regions = adRegionRepository.findAll();
+            List<ProvinceRepository.ProvinceRow> provinces = provinceRepository.findAllProvinceRows();
+            List<WardRepository.WardRow> wards = wardRepository.findAllWardRows();
+            snapshot = AdministrativeSnapshot.build(regions, provinces, wards);
+        } catch (RuntimeException e) {
+            failedReloads.increment();
+            throw e;
+        }
+        current = snapshot;
+        reloads.increment();
+        log.info("Loaded administrative snapshot: {} regions, {} provinces, {} wards",
+                regions.size(), snapshot.provinceCount(), snapshot.wardCount());
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${administrative.snapshot.refresh-interval:PT6H}",
+               initialDelayString = "${administrative.snapshot.refresh-interval:PT6H}")
+    public void scheduledRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Scheduled administrative snapshot refresh failed, keeping previous snapshot", e);
+        }
+    }
+
+    private synchronized AdministrativeSnapshot loadIfEmpty() {
+        return current != AdministrativeSnapshot.EMPTY ? current : reload();
+    }
+
+    private static double ageSeconds(AdministrativeSnapshot snapshot) {
+        LocalDateTime loadedAt = snapshot.getLoadedAt();
+        return loadedAt != null ? Duration.between(loadedAt, LocalDateTime.now()).toSeconds() : Double.NaN;
+    }
+}
@@ -0,0 +1,69 @@
+package org.f3.postalmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Picks the BCrypt cost for this machine: the highest cost whose hash time stays within a target latency.
+ * Each cost step doubles the work, so one cheap measurement predicts every cost.
+ * Meant for choosing the value to pin in config; nodes calibrating on their own may disagree.
+ */
+@Slf4j
+public final class BcryptCostCalibrator {
+
+    // Low enough to measure in a few milliseconds, high enough to dominate timer noise
+    private static final int PROBE_COST = 8;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private BcryptCostCalibrator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Measure BCrypt on the current hardware and return the cost to use.
+     */
+    public static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        String salt = BCrypt.gensalt(PROBE_COST);
+        return calibrate(targetLatency, minCost, maxCost, probeCost -> {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration-password", salt);
+            return System.nanoTime() - start;
+        });
+    }
+
+    /**
+     * @param hashNanos hashes once at the given cost and returns the elapsed nanoseconds
+     */
+    static int calibrate(Duration targetLatency, int minCost, int maxCost, IntToLongFunction hashNanos) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            hashNanos.applyAsLong(PROBE_COST);
+        }
+        long[] samples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            samples[i] = hashNanos.applyAsLong(PROBE_COST);
+        }
+        Arrays.sort(samples);
+        long probeNanos = Math.max(1, samples[MEASURED_ROUNDS / 2]);
+
+        long targetNanos = targetLatency.toNanos();
+        int cost = minCost;
+        while (cost < maxCost && estimateNanos(probeNanos, cost + 1) <= targetNanos) {
+            cost++;
+        }
+        log.warn("BCrypt calibration: cost {} takes {} ms here, choosing cost {} (~{} ms, target {} ms). " +
+                        "Pin auth.password-hashing.bcrypt-cost so every node uses the same cost",
+                PROBE_COST, probeNanos / 1_000_000.0, cost,
+                estimateNanos(probeNanos, cost) / 1_000_000, targetLatency.toMillis());
+        return cost;
+    }
+
+    private static long estimateNanos(long probeNanos, int cost) {
+        int steps = cost - PROBE_COST;
+        return steps >= 0 ? probeNanos << steps : probeNanos >> -steps;
+    }
+}
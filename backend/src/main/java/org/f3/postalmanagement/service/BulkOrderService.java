@@ -0,0 +1,281 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.dto.request.order.BulkCreateOrderRequest;
+import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.request.order.CreateOrderRequest;
+import org.f3.postalmanagement.dto.response.order.BulkCreateOrderResponse;
+import org.f3.postalmanagement.dto.response.order.BulkOrderResultResponse;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.CustomerRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.ClientReferenceRow;
+import org.f3.postalmanagement.utils.SecurityUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the orders of a merchant manifest. Rows are processed in chunks of {@link #CHUNK_SIZE}, each in its
+ * own transaction: existing rows are resolved with one IN query, missing fees are quoted with one batch call
+ * and the new orders are inserted in JDBC batches (hibernate.jdbc.batch_size).
+ * Every order remembers its idempotency key and row, so a retried upload only creates the rows that are
+ * still missing; the others are reported as duplicates.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkOrderService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final TrackingNumberGenerator trackingNumberGenerator;
+    private final ShippingFeeCalculator shippingFeeCalculator;
+    private final OrderStatsService orderStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    /**
+     * Create the orders; results are returned in input order. A chunk that fails leaves the chunks before it
+     * committed, and uploading the manifest again with the same key picks up from there.
+     */
+    public BulkCreateOrderResponse createOrders(BulkCreateOrderRequest request) {
+        Account currentAccount = SecurityUtils.getCurrentAccount();
+        if (currentAccount.getRole() != Role.CUSTOMER) {
+            log.warn("Non-customer role attempted to create a manifest: {}", currentAccount.getRole());
+            throw new IllegalArgumentException("Only customers can create orders via this endpoint");
+        }
+        Customer customer = customerRepository.findByAccount(currentAccount)
+                .orElseThrow(() -> new IllegalArgumentException("Customer profile not found"));
+
+        String key = request.getIdempotencyKey();
+        List<CreateOrderRequest> rows = request.getOrders();
+        int size = rows.size();
+        BulkOrderResultResponse[] results = new BulkOrderResultResponse[size];
+
+        // 1. Validate each row up front; invalid rows never reach a transaction
+        for (int i = 0; i < size; i++) {
+            String violation = validate(rows.get(i));
+            if (violation != null) {
+                results[i] = failedResult(i, "VALIDATION_ERROR", violation);
+            }
+        }
+
+        // 2. One transaction per chunk
+        log.info("Creating manifest {} of {} orders for customer {}", key, size, customer.getId());
+        for (int start = 0; start < size; start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, size);
+            BulkOrderResultResponse[] chunk = createChunk(customer.getId(), key, rows, results, start, end);
+            System.arraycopy(chunk, 0, results, start, end - start);
+        }
+
+        int created = 0;
+        int duplicates = 0;
+        int failed = 0;
+        for (BulkOrderResultResponse result : results) {
+            if (!result.isSuccess()) {
+                failed++;
+            } else if (result.isDuplicate()) {
+                duplicates++;
+            } else {
+                created++;
+            }
+        }
+        log.info("Manifest {} done: {} created, {} duplicates, {} failed", key, created, duplicates, failed);
+        return BulkCreateOrderResponse.builder()
+                .idempotencyKey(key)
+                .created(created)
+                .duplicates(duplicates)
+                .failed(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private BulkOrderResultResponse[] createChunk(UUID customerId, String key, List<CreateOrderRequest> rows,
+                                                  BulkOrderResultResponse[] results, int start, int end) {
+        try {
+            return transactionTemplate.execute(status -> insertChunk(customerId, key, rows, results, start, end));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent upload with the same key created some of these rows first; they are duplicates now
+            log.info("Manifest {} rows {}-{} conflicted with a concurrent upload, retrying", key, start, end - 1);
+            return transactionTemplate.execute(status -> insertChunk(customerId, key, rows, results, start, end));
+        }
+    }
+
+    /**
+     * Results of rows start (inclusive) to end (exclusive); validation failures are carried over.
+     * Works on a copy so that a rolled back attempt leaves nothing behind.
+     */
+    private BulkOrderResultResponse[] insertChunk(UUID customerId, String key, List<CreateOrderRequest> rows,
+                                                  BulkOrderResultResponse[] results, int start, int end) {
+        BulkOrderResultResponse[] chunk = Arrays.copyOfRange(results, start, end);
+
+        // 1. Rows created by an earlier upload, with one query
+        Set<String> references = new HashSet<>();
+        for (int i = start; i < end; i++) {
+            if (chunk[i - start] == null) {
+                references.add(clientReference(key, i));
+            }
+        }
+        Map<String, ClientReferenceRow> existing = references.isEmpty() ? Map.of() : orderRepository
+                .findByClientReferences(customerId, references)
+                .stream()
+                .collect(Collectors.toMap(ClientReferenceRow::getClientReference, Function.identity()));
+
+        // 2. Quote the missing fees in one batch
+        List<Integer> unpriced = new ArrayList<>();
+        List<CalculateShippingFeeRequest> quoteRequests = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            if (chunk[i - start] != null) {
+                continue;
+            }
+            ClientReferenceRow previous = existing.get(clientReference(key, i));
+            if (previous != null) {
+                chunk[i - start] = duplicateResult(i, previous);
+                continue;
+            }
+            CreateOrderRequest row = rows.get(i);
+            if (row.getShippingFee() == null || row.getShippingFee().compareTo(BigDecimal.ZERO) == 0) {
+                unpriced.add(i);
+                quoteRequests.add(toQuoteRequest(row));
+            }
+        }
+        BigDecimal[] fees = new BigDecimal[end - start];
+        if (!quoteRequests.isEmpty()) {
+            List<ShippingFeeQuoteResponse> quotes = shippingFeeCalculator.calculateFees(quoteRequests);
+            for (int q = 0; q < quotes.size(); q++) {
+                int i = unpriced.get(q);
+                ShippingFeeQuoteResponse quote = quotes.get(q);
+                if (quote.isSuccess()) {
+                    fees[i - start] = quote.getFee();
+                } else {
+                    chunk[i - start] = failedResult(i, quote.getErrorCode(), quote.getMessage());
+                }
+            }
+        }
+
+        // 3. Build the new orders
+        Customer customer = customerRepository.getReferenceById(customerId);
+        List<Order> orders = new ArrayList<>();
+        Order[] orderAt = new Order[end - start];
+        for (int i = start; i < end; i++) {
+            if (chunk[i - start] != null) {
+                continue;
+            }
+            CreateOrderRequest row = rows.get(i);
+            Order order = Order.builder()
+                    .trackingNumber(trackingNumberGenerator.generate())
+                    .customer(customer)
+                    .clientReference(clientReference(key, i))
+                    .senderName(row.getSenderName())
+                    .senderPhone(row.getSenderPhone())
+                    .senderAddress(row.getSenderAddress())
+                    .senderWardCode(row.getSenderWardCode())
+                    .receiverName(row.getReceiverName())
+                    .receiverPhone(row.getReceiverPhone())
+                    .receiverAddress(row.getReceiverAddress())
+                    .receiverWardCode(row.getReceiverWardCode())
+                    .weightKg(row.getWeightKg())
+                    .lengthCm(row.getLengthCm())
+                    .widthCm(row.getWidthCm())
+                    .heightCm(row.getHeightCm())
+                    .description(row.getDescription())
+                    .shippingFee(fees[i - start] != null ? fees[i - start] : row.getShippingFee())
+                    .codAmount(row.getCodAmount())
+                    .status(OrderStatus.PENDING)
+                    .build();
+            orders.add(order);
+            orderAt[i - start] = order;
+        }
+
+        // 4. Insert in JDBC batches; ids are assigned on persist, before the flush at commit
+        if (!orders.isEmpty()) {
+            orderRepository.saveAll(orders);
+            orderStatsService.recordCreated(orders);
+        }
+        for (int i = start; i < end; i++) {
+            Order order = orderAt[i - start];
+            if (order != null) {
+                chunk[i - start] = BulkOrderResultResponse.builder()
+                        .index(i)
+                        .success(true)
+                        .orderId(order.getId())
+                        .trackingNumber(order.getTrackingNumber())
+                        .shippingFee(order.getShippingFee())
+                        .build();
+            }
+        }
+        log.debug("Manifest {} rows {}-{}: {} orders inserted", key, start, end - 1, orders.size());
+        return chunk;
+    }
+
+    private String validate(CreateOrderRequest row) {
+        if (row == null) {
+            return "Order is required";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    static String clientReference(String key, int index) {
+        return key + "#" + index;
+    }
+
+    private static CalculateShippingFeeRequest toQuoteRequest(CreateOrderRequest row) {
+        CalculateShippingFeeRequest quote = new CalculateShippingFeeRequest();
+        quote.setSenderWardCode(row.getSenderWardCode());
+        quote.setReceiverWardCode(row.getReceiverWardCode());
+        quote.setWeightKg(row.getWeightKg());
+        quote.setLengthCm(row.getLengthCm());
+        quote.setWidthCm(row.getWidthCm());
+        quote.setHeightCm(row.getHeightCm());
+        return quote;
+    }
+
+    private static BulkOrderResultResponse duplicateResult(int index, ClientReferenceRow previous) {
+        return BulkOrderResultResponse.builder()
+                .index(index)
+                .success(true)
+                .duplicate(true)
+                .orderId(previous.getId())
+                .trackingNumber(previous.getTrackingNumber())
+                .shippingFee(previous.getShippingFee())
+                .build();
+    }
+
+    private static BulkOrderResultResponse failedResult(int index, String errorCode, String message) {
+        return BulkOrderResultResponse.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
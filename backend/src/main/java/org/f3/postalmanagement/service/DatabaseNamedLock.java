@@ -0,0 +1,96 @@
+package org.f3.postalmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * MySQL named lock (GET_LOCK) shared by every replica on the same database.
+ * The lock lives on a connection of its own, so an action that opens its own transaction
+ * commits before the lock is released. Must not be called inside a transaction, which would
+ * share its connection.
+ * On databases without named locks (H2 in tests) the lock only covers this instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseNamedLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Not reentrant, like GET_LOCK from a second session
+    private final Map<String, Semaphore> localLocks = new ConcurrentHashMap<>();
+
+    private volatile Boolean namedLocksSupported;
+
+    /**
+     * Run the action while holding the lock, without waiting for it.
+     * @return the action's result, or empty when another session holds the lock
+     */
+    public <T> Optional<T> tryRun(String name, Supplier<T> action) {
+        if (!namedLocksSupported()) {
+            return tryRunLocally(name, action);
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!call(connection, "SELECT GET_LOCK(?, 0)", name)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(action.get());
+            } finally {
+                if (!call(connection, "SELECT RELEASE_LOCK(?)", name)) {
+                    log.warn("Database lock {} was no longer held on release", name);
+                }
+            }
+        });
+    }
+
+    private <T> Optional<T> tryRunLocally(String name, Supplier<T> action) {
+        Semaphore lock = localLocks.computeIfAbsent(name, key -> new Semaphore(1));
+        if (!lock.tryAcquire()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(action.get());
+        } finally {
+            lock.release();
+        }
+    }
+
+    private boolean namedLocksSupported() {
+        Boolean supported = namedLocksSupported;
+        if (supported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            supported = normalized.contains("mysql") || normalized.contains("mariadb");
+            if (!supported) {
+                log.warn("{} has no named locks; scheduled jobs are only serialized within this instance", product);
+            }
+            namedLocksSupported = supported;
+        }
+        return supported;
+    }
+
+    private static boolean call(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+}
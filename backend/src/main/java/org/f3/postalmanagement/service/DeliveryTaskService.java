@@ -33,6 +33,8 @@ public class DeliveryTaskService {
     private final OrderRepository orderRepository;
     private final EmployeeRepository employeeRepository;
     private final PickupRequestRepository pickupRequestRepository;
+    private final OrderStatsService orderStatsService;
+    private final TrackingService trackingService;
 
     /**
      * Create a task for a Pickup Request (Called automatically when Manager assigns shipper)
@@ -103,6 +105,7 @@ public class DeliveryTaskService {
         
         // Logic to update core entities
         Order order = task.getOrder();
+        OrderStatus previousStatus = order.getStatus();
         if (task.getTaskType() == TaskType.PICKUP) {
             order.setStatus(OrderStatus.PICKED_UP); 
             // Also find PickupRequest and complete it?
@@ -111,6 +114,8 @@ public class DeliveryTaskService {
             order.setStatus(OrderStatus.DELIVERED);
         }
         orderRepository.save(order);
+        orderStatsService.recordStatusChange(order, previousStatus);
+        trackingService.orderStatusChanged(order);
         
         return mapToResponse(deliveryTaskRepository.save(task));
     }
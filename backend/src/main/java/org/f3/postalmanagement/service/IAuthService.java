@@ -5,7 +5,13 @@ import org.f3.postalmanagement.dto.response.auth.AuthResponse;
 
 public interface IAuthService {
 
-    AuthResponse login(String username, String password);
+    AuthResponse login(String username, String password, String clientIp);
 
     void register(CustomerRegisterRequest request);
+
+    /**
+     * Revoke the given access token for the rest of its lifetime.
+     * Missing, invalid or expired tokens are ignored.
+     */
+    void logout(String token);
 }
@@ -2,6 +2,7 @@ package org.f3.postalmanagement.service;
 
 import org.f3.postalmanagement.dto.request.user.RegisterSystemAdminRequest;
 import org.f3.postalmanagement.dto.response.dashboard.DashboardStatsResponse;
+import org.f3.postalmanagement.dto.response.dashboard.StatsReconcileResponse;
 
 public interface IDashboardService {
 
@@ -9,4 +10,6 @@ public interface IDashboardService {
 
     DashboardStatsResponse getSystemStats();
 
+    StatsReconcileResponse reconcileStats();
+
 }
@@ -0,0 +1,64 @@
+package org.f3.postalmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window limit on login attempts per username and per client IP.
+ * Checked before any lookup or password hashing, so rejected attempts cost almost nothing.
+ */
+@Service
+@Slf4j
+public class LoginRateLimiter {
+
+    private final Cache<String, AtomicInteger> attempts;
+    private final int maxPerUsername;
+    private final int maxPerIp;
+    private final Counter rejected;
+
+    public LoginRateLimiter(
+            @Value("${auth.login-rate-limit.window:PT1M}") Duration window,
+            @Value("${auth.login-rate-limit.per-username:10}") int maxPerUsername,
+            @Value("${auth.login-rate-limit.per-ip:120}") int maxPerIp,
+            @Value("${auth.login-rate-limit.max-tracked-keys:100000}") long maxTrackedKeys,
+            MeterRegistry meterRegistry
+    ) {
+        // A window starts with the first attempt for a key and ends when its entry expires
+        this.attempts = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxTrackedKeys)
+                .build();
+        this.maxPerUsername = maxPerUsername;
+        this.maxPerIp = maxPerIp;
+        this.rejected = Counter.builder("auth.login.rate.limited")
+                .description("Login attempts rejected by the per-username/IP limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a login attempt.
+     *
+     * @throws DomainStatusException (429) if the username or client IP is over its limit
+     */
+    public void acquire(String username, String clientIp) {
+        if (exceeded("user:" + username, maxPerUsername) || exceeded("ip:" + clientIp, maxPerIp)) {
+            rejected.increment();
+            log.warn("Login rate limit exceeded for username: {} from {}", username, clientIp);
+            throw DomainStatusException.tooManyRequests(
+                    "Too many login attempts, please try again later", "TOO_MANY_LOGIN_ATTEMPTS");
+        }
+    }
+
+    private boolean exceeded(String key, int limit) {
+        return attempts.get(key, k -> new AtomicInteger()).incrementAndGet() > limit;
+    }
+}
@@ -0,0 +1,44 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.repository.OrderRepository.OrderSummaryRow;
+import org.f3.postalmanagement.exception.DomainStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in an order listing sorted by (createdAt, id) descending: the last order of the previous slice.
+ * Clients get it as an opaque string and pass it back unchanged.
+ */
+public record OrderCursor(LocalDateTime createdAt, UUID id) {
+
+    public static OrderCursor of(OrderSummaryRow row) {
+        return new OrderCursor(row.getCreatedAt(), row.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw invalid();
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalid();
+        }
+    }
+
+    private static DomainStatusException invalid() {
+        return DomainStatusException.badRequest("Invalid cursor", "INVALID_CURSOR");
+    }
+}
@@ -0,0 +1,49 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.dto.response.order.OrderResponse;
+import org.f3.postalmanagement.dto.response.order.TrackingEventResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+
+/**
+ * Entity to response mapping shared by the order and tracking services.
+ */
+public abstract class OrderDtoMapper {
+
+    private OrderDtoMapper() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static OrderResponse toResponse(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .trackingNumber(order.getTrackingNumber())
+                .status(order.getStatus().name())
+                .senderName(order.getSenderName())
+                .senderPhone(order.getSenderPhone())
+                .senderAddress(order.getSenderAddress())
+                .senderWardCode(order.getSenderWardCode())
+                .receiverName(order.getReceiverName())
+                .receiverPhone(order.getReceiverPhone())
+                .receiverAddress(order.getReceiverAddress())
+                .receiverWardCode(order.getReceiverWardCode())
+                .weightKg(order.getWeightKg())
+                .description(order.getDescription())
+                .shippingFee(order.getShippingFee())
+                .codAmount(order.getCodAmount())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .build();
+    }
+
+    public static TrackingEventResponse toEventResponse(TrackingEvent event) {
+        return TrackingEventResponse.builder()
+                .id(event.getId())
+                .status(event.getStatus())
+                .description(event.getDescription())
+                .locationName(event.getLocationName())
+                .officeId(event.getOffice() != null ? event.getOffice().getId() : null)
+                .eventTime(event.getEventTime())
+                .build();
+    }
+}
@@ -0,0 +1,238 @@
+package org.f3.postalmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.Employee;
+import org.f3.postalmanagement.entity.administrative.Province;
+import org.f3.postalmanagement.entity.unit.Office;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.EmployeeRepository;
+import org.f3.postalmanagement.repository.OfficeRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.OrderExportRow;
+import org.f3.postalmanagement.utils.SecurityUtils;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams orders to the client for reconciliation. Rows come from a forward-only cursor in a read-only
+ * transaction and are written one at a time, so memory use does not depend on the size of the export.
+ * Province admins only see orders of offices in their province.
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private static final List<ExportColumn> COLUMNS = List.of(
+            new ExportColumn("trackingNumber", OrderExportRow::getTrackingNumber),
+            new ExportColumn("status", OrderExportRow::getStatus),
+            new ExportColumn("originOfficeId", OrderExportRow::getOriginOfficeId),
+            new ExportColumn("senderName", OrderExportRow::getSenderName),
+            new ExportColumn("senderPhone", OrderExportRow::getSenderPhone),
+            new ExportColumn("senderWardCode", OrderExportRow::getSenderWardCode),
+            new ExportColumn("receiverName", OrderExportRow::getReceiverName),
+            new ExportColumn("receiverPhone", OrderExportRow::getReceiverPhone),
+            new ExportColumn("receiverWardCode", OrderExportRow::getReceiverWardCode),
+            new ExportColumn("weightKg", OrderExportRow::getWeightKg),
+            new ExportColumn("shippingFee", OrderExportRow::getShippingFee),
+            new ExportColumn("codAmount", OrderExportRow::getCodAmount),
+            new ExportColumn("createdAt", OrderExportRow::getCreatedAt),
+            new ExportColumn("updatedAt", OrderExportRow::getUpdatedAt)
+    );
+
+    private final OrderRepository orderRepository;
+    private final EmployeeRepository employeeRepository;
+    private final OfficeRepository officeRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrderExportService(
+            OrderRepository orderRepository,
+            EmployeeRepository employeeRepository,
+            OfficeRepository officeRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.employeeRepository = employeeRepository;
+        this.officeRepository = officeRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public enum ExportFormat {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        ExportFormat(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw DomainStatusException.badRequest("Export format must be csv or ndjson", "INVALID_EXPORT_FORMAT");
+            }
+        }
+    }
+
+    /**
+     * Checks access and the filters on the calling thread, then returns the body that streams the rows.
+     * Dates are inclusive days of createdAt.
+     */
+    public StreamingResponseBody export(ExportFormat format, OrderStatus status, UUID officeId,
+                                        LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw DomainStatusException.badRequest("'from' must not be after 'to'", "INVALID_DATE_RANGE");
+        }
+        Account account = SecurityUtils.getCurrentAccount();
+        String provinceCode = readOnlyTransaction.execute(tx -> resolveProvinceCode(account, officeId));
+        LocalDateTime fromTime = from == null ? null : from.atStartOfDay();
+        LocalDateTime toTime = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        log.info("Order export by {}: format={}, status={}, office={}, province={}, from={}, to={}",
+                account.getId(), format, status, officeId, provinceCode, from, to);
+        return out -> {
+            try {
+                long rows = readOnlyTransaction.execute(tx -> {
+                    try (Stream<OrderExportRow> stream =
+                                 orderRepository.streamForExport(status, officeId, provinceCode, fromTime, toTime)) {
+                        return write(format, stream.iterator(), out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                log.info("Order export by {} finished: {} rows", account.getId(), rows);
+            } catch (UncheckedIOException e) {
+                // Usually the client went away; the transaction has been rolled back and the cursor closed
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * Null for system admins (no restriction), otherwise the province of the admin's office.
+     */
+    private String resolveProvinceCode(Account account, UUID officeId) {
+        if (account.getRole() == Role.SYSTEM_ADMIN) {
+            return null;
+        }
+        Employee employee = employeeRepository.findById(account.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
+        Province province = employee.getOffice().getProvince();
+        if (province == null) {
+            throw new IllegalArgumentException("Current user's office is not associated with a province");
+        }
+        if (officeId != null) {
+            Office office = officeRepository.findById(officeId)
+                    .orElseThrow(() -> DomainStatusException.notFound("Office not found", "OFFICE_NOT_FOUND"));
+            if (office.getProvince() == null || !province.getCode().equals(office.getProvince().getCode())) {
+                throw new AccessDeniedException("You can only export orders of offices within your province");
+            }
+        }
+        return province.getCode();
+    }
+
+    // Package-private for tests
+    long write(ExportFormat format, Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        return format == ExportFormat.CSV ? writeCsv(rows, out) : writeNdjson(rows, out);
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            writer.write(i == 0 ? "" : ",");
+            writer.write(COLUMNS.get(i).name());
+        }
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                writer.write(i == 0 ? "" : ",");
+                writer.write(csvCell(COLUMNS.get(i).value().apply(row)));
+            }
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<OrderExportRow> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            generator.writeStartObject();
+            for (ExportColumn column : COLUMNS) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        // Names and phones are user input: keep spreadsheets from evaluating them as formulas
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private record ExportColumn(String name, Function<OrderExportRow, Object> value) {
+    }
+}
@@ -1,10 +1,11 @@
 package org.f3.postalmanagement.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.f3.postalmanagement.dto.request.order.CreateOrderRequest;
+import org.f3.postalmanagement.dto.response.CursorPageResponse;
 import org.f3.postalmanagement.dto.response.order.OrderResponse;
+import org.f3.postalmanagement.dto.response.order.OrderSummaryResponse;
 import org.f3.postalmanagement.dto.response.order.PublicOrderResponse;
 import org.f3.postalmanagement.entity.ApiResponse;
 import org.f3.postalmanagement.entity.order.Order;
@@ -13,14 +14,21 @@ import org.f3.postalmanagement.entity.actor.Customer;
 import org.f3.postalmanagement.entity.actor.Employee;
 import org.f3.postalmanagement.enums.OrderStatus;
 import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.exception.DomainStatusException;
 import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.OrderSummaryRow;
 import org.f3.postalmanagement.utils.SecurityUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -28,11 +36,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrderService {
 
+    public static final int MAX_SLICE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
     private final TrackingNumberGenerator trackingNumberGenerator;
     private final ShippingFeeCalculator shippingFeeCalculator;
+    private final OrderStatsService orderStatsService;
+    private final TrackingService trackingService;
 
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
@@ -82,6 +94,7 @@ public class OrderService {
                 .build();
 
         Order savedOrder = orderRepository.save(order);
+        orderStatsService.recordCreated(savedOrder);
         log.info("Order created successfully: {}", trackingNumber);
         return mapToResponse(savedOrder);
     }
@@ -100,13 +113,14 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("Customer profile not found"));
     }
 
-    public Page<OrderResponse> getMyOrders(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryResponse> getMyOrders(Pageable pageable) {
         Account currentAccount = SecurityUtils.getCurrentAccount();
         if (currentAccount.getRole() == Role.CUSTOMER) {
             Customer customer = customerRepository.findByAccount(currentAccount)
                     .orElseThrow(() -> new IllegalArgumentException("Customer profile not found"));
             return orderRepository.findByCustomerId(customer.getId(), pageable)
-                    .map(this::mapToResponse);
+                    .map(this::mapToSummary);
         } else if (currentAccount.getRole() == Role.PO_STAFF) {
              Employee employee = employeeRepository.findById(currentAccount.getId())
                     .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
@@ -114,11 +128,37 @@ public class OrderService {
              // (We need to verify if originOffice is set. If online orders have null origin, they might not see them yet)
              // For now, return empty or all? Let's just return based on originOfficeId logic.
              return orderRepository.findByOriginOfficeId(employee.getOffice().getId(), pageable)
-                     .map(this::mapToResponse);
+                     .map(this::mapToSummary);
         }
         return Page.empty();
     }
     
+    /**
+     * Keyset variant of getMyOrders, newest first. Pass the previous response's nextCursor to continue;
+     * no count query is run, so deep slices cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> getMyOrders(String cursor, int size) {
+        OrderCursor after = decodeCursor(cursor, size);
+        Pageable limit = PageRequest.of(0, size);
+        Account currentAccount = SecurityUtils.getCurrentAccount();
+        if (currentAccount.getRole() == Role.CUSTOMER) {
+            Customer customer = customerRepository.findByAccount(currentAccount)
+                    .orElseThrow(() -> new IllegalArgumentException("Customer profile not found"));
+            return toCursorPage(after == null
+                    ? orderRepository.findLatestByCustomerId(customer.getId(), limit)
+                    : orderRepository.findByCustomerIdAfter(customer.getId(), after.createdAt(), after.id(), limit), size);
+        } else if (currentAccount.getRole() == Role.PO_STAFF) {
+            Employee employee = employeeRepository.findById(currentAccount.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
+            UUID officeId = employee.getOffice().getId();
+            return toCursorPage(after == null
+                    ? orderRepository.findLatestByOriginOfficeId(officeId, limit)
+                    : orderRepository.findByOriginOfficeIdAfter(officeId, after.createdAt(), after.id(), limit), size);
+        }
+        return toCursorPage(new SliceImpl<>(List.of()), size);
+    }
+
     public PublicOrderResponse getPublicOrderByTrackingNumber(String trackingNumber) {
         Order order = orderRepository.findByTrackingNumber(trackingNumber)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found"));
@@ -157,36 +197,66 @@ public class OrderService {
             throw new IllegalArgumentException("Cannot cancel order in status: " + order.getStatus());
         }
         
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(OrderStatus.CANCELLED);
         Order saved = orderRepository.save(order);
+        orderStatsService.recordStatusChange(saved, previousStatus);
+        trackingService.orderStatusChanged(saved);
         log.info("Order {} cancelled successfully", orderId);
         return mapToResponse(saved);
     }
 
-    public Page<OrderResponse> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable)
-                .map(this::mapToResponse);
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryResponse> getAllOrders(Pageable pageable) {
+        return orderRepository.findAllSummaries(pageable)
+                .map(this::mapToSummary);
+    }
+
+    /**
+     * Keyset variant of getAllOrders, newest first.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> getAllOrders(String cursor, int size) {
+        OrderCursor after = decodeCursor(cursor, size);
+        Pageable limit = PageRequest.of(0, size);
+        return toCursorPage(after == null
+                ? orderRepository.findLatest(limit)
+                : orderRepository.findAllAfter(after.createdAt(), after.id(), limit), size);
+    }
+
+    private static OrderCursor decodeCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw DomainStatusException.badRequest("Size must be between 1 and " + MAX_SLICE_SIZE, "INVALID_PAGE_SIZE");
+        }
+        return cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+    }
+
+    private CursorPageResponse<OrderSummaryResponse> toCursorPage(Slice<OrderSummaryRow> slice, int size) {
+        List<OrderSummaryRow> orders = slice.getContent();
+        return CursorPageResponse.<OrderSummaryResponse>builder()
+                .content(orders.stream().map(this::mapToSummary).toList())
+                .size(size)
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() ? OrderCursor.of(orders.get(orders.size() - 1)).encode() : null)
+                .build();
     }
 
     private OrderResponse mapToResponse(Order order) {
-        return OrderResponse.builder()
-                .id(order.getId())
-                .trackingNumber(order.getTrackingNumber())
-                .status(order.getStatus().name())
-                .senderName(order.getSenderName())
-                .senderPhone(order.getSenderPhone())
-                .senderAddress(order.getSenderAddress())
-                .senderWardCode(order.getSenderWardCode())
-                .receiverName(order.getReceiverName())
-                .receiverPhone(order.getReceiverPhone())
-                .receiverAddress(order.getReceiverAddress())
-                .receiverWardCode(order.getReceiverWardCode())
-                .weightKg(order.getWeightKg())
-                .description(order.getDescription())
-                .shippingFee(order.getShippingFee())
-                .codAmount(order.getCodAmount())
-                .createdAt(order.getCreatedAt())
-                .updatedAt(order.getUpdatedAt())
+        return OrderDtoMapper.toResponse(order);
+    }
+
+    OrderSummaryResponse mapToSummary(OrderSummaryRow row) {
+        return OrderSummaryResponse.builder()
+                .id(row.getId())
+                .trackingNumber(row.getTrackingNumber())
+                .status(row.getStatus().name())
+                .senderName(row.getSenderName())
+                .receiverName(row.getReceiverName())
+                .weightKg(row.getWeightKg())
+                .shippingFee(row.getShippingFee())
+                .codAmount(row.getCodAmount())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
                 .build();
     }
 }
@@ -0,0 +1,75 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fields the order list endpoints may sort by. Each one sorts by the columns of a composite index that exists
+ * for every listing scope (per customer, per origin office, all orders), ending with id so pages are stable.
+ * Anything else is rejected before a query is built.
+ */
+public enum OrderSortField {
+
+    CREATED_AT("createdAt", List.of("createdAt", "id"),
+            "idx_orders_customer_created", "idx_orders_origin_office_created", "idx_orders_created"),
+    STATUS("status", List.of("status", "createdAt", "id"),
+            "idx_orders_customer_status", "idx_orders_origin_office_status", "idx_orders_status");
+
+    private final String param;
+    private final List<String> properties;
+    private final String customerIndex;
+    private final String officeIndex;
+    private final String allIndex;
+
+    OrderSortField(String param, List<String> properties, String customerIndex, String officeIndex, String allIndex) {
+        this.param = param;
+        this.properties = properties;
+        this.customerIndex = customerIndex;
+        this.officeIndex = officeIndex;
+        this.allIndex = allIndex;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getCustomerIndex() {
+        return customerIndex;
+    }
+
+    public String getOfficeIndex() {
+        return officeIndex;
+    }
+
+    public String getAllIndex() {
+        return allIndex;
+    }
+
+    /**
+     * Sort over the index columns, all in one direction so the index can be read forwards or backwards.
+     */
+    public Sort toSort(Sort.Direction direction) {
+        return Sort.by(direction, properties.toArray(String[]::new));
+    }
+
+    public static OrderSortField fromParam(String param) {
+        return Arrays.stream(values())
+                .filter(field -> field.param.equals(param))
+                .findFirst()
+                .orElseThrow(() -> DomainStatusException.badRequest(
+                        "Cannot sort orders by '" + param + "'. Allowed: " + allowedParams(), "INVALID_SORT_FIELD"));
+    }
+
+    public static Sort toSort(String param, String order) {
+        Sort.Direction direction = "asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return fromParam(param).toSort(direction);
+    }
+
+    private static String allowedParams() {
+        return Arrays.stream(values()).map(OrderSortField::getParam).collect(Collectors.joining(", "));
+    }
+}
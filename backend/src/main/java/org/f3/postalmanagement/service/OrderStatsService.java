@@ -0,0 +1,187 @@
+package org.f3.postalmanagement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.dto.response.dashboard.StatsReconcileResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.OrderStatsCounter;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderStatsCounterRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maintains the per (creation month, status) order counters behind the admin dashboard.
+ * Callers record changes inside their own transaction; {@link #reconcile()} rebuilds the
+ * counters from the orders table and corrects any drift, one run at a time across all replicas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    static final String RECONCILE_LOCK = "order_stats_reconcile";
+
+    private final OrderStatsCounterRepository orderStatsCounterRepository;
+    private final OrderRepository orderRepository;
+    private final DatabaseNamedLock databaseNamedLock;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Count a newly created order.
+     */
+    @Transactional
+    public void recordCreated(Order order) {
+        orderStatsCounterRepository.increment(bucketOf(order), order.getStatus().name(), 1, feeOf(order));
+    }
+
+    /**
+     * Count newly created orders with one counter update per bucket, e.g. a bulk manifest chunk.
+     */
+    @Transactional
+    public void recordCreated(Collection<Order> orders) {
+        Map<OrderStatsCounter.Key, OrderStatsCounter> deltas = new HashMap<>();
+        for (Order order : orders) {
+            OrderStatsCounter delta = deltas.computeIfAbsent(
+                    new OrderStatsCounter.Key(bucketOf(order), order.getStatus()),
+                    key -> new OrderStatsCounter(key.getBucketMonth(), key.getStatus(), 0, BigDecimal.ZERO));
+            delta.setOrderCount(delta.getOrderCount() + 1);
+            delta.setTotalFee(delta.getTotalFee().add(feeOf(order)));
+        }
+        for (OrderStatsCounter delta : deltas.values()) {
+            orderStatsCounterRepository.increment(delta.getBucketMonth(), delta.getStatus().name(),
+                    delta.getOrderCount(), delta.getTotalFee());
+        }
+    }
+
+    /**
+     * Move an order from its previous status bucket to its current one.
+     */
+    @Transactional
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        if (previousStatus == order.getStatus()) {
+            return;
+        }
+        String bucket = bucketOf(order);
+        BigDecimal fee = feeOf(order);
+        orderStatsCounterRepository.increment(bucket, previousStatus.name(), -1, fee.negate());
+        orderStatsCounterRepository.increment(bucket, order.getStatus().name(), 1, fee);
+    }
+
+    /**
+     * Recompute every bucket from the orders table and apply the difference to the counters.
+     * Corrections are applied as deltas, so changes recorded while this runs are not lost.
+     * @throws DomainStatusException (409) when a reconciliation is already running
+     */
+    public StatsReconcileResponse reconcile() {
+        return tryReconcile().orElseThrow(() -> DomainStatusException.conflict(
+                "Dashboard counters are already being reconciled", "STATS_RECONCILE_RUNNING"));
+    }
+
+    // Overlapping runs would each add the same delta, so the correction commits before the lock is released
+    private Optional<StatsReconcileResponse> tryReconcile() {
+        return databaseNamedLock.tryRun(RECONCILE_LOCK, () -> transactionTemplate.execute(status -> correctDrift()));
+    }
+
+    private StatsReconcileResponse correctDrift() {
+        Map<OrderStatsCounter.Key, OrderStatsCounter> expected = new HashMap<>();
+        for (OrderRepository.MonthStatusSummary row : orderRepository.summarizeByMonthAndStatus()) {
+            String bucket = YearMonth.of(row.getBucketYear(), row.getBucketMonth()).toString();
+            expected.put(new OrderStatsCounter.Key(bucket, row.getStatus()),
+                    new OrderStatsCounter(bucket, row.getStatus(), row.getOrderCount(), row.getTotalFee()));
+        }
+        Map<OrderStatsCounter.Key, OrderStatsCounter> actual = new HashMap<>();
+        for (OrderStatsCounter counter : orderStatsCounterRepository.findAll()) {
+            actual.put(new OrderStatsCounter.Key(counter.getBucketMonth(), counter.getStatus()), counter);
+        }
+
+        Set<OrderStatsCounter.Key> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        int drifted = 0;
+        long countDrift = 0;
+        BigDecimal feeDrift = BigDecimal.ZERO;
+        for (OrderStatsCounter.Key key : keys) {
+            OrderStatsCounter want = expected.get(key);
+            OrderStatsCounter have = actual.get(key);
+            long countDelta = countOf(want) - countOf(have);
+            BigDecimal feeDelta = totalFeeOf(want).subtract(totalFeeOf(have));
+            if (countDelta == 0 && feeDelta.signum() == 0) {
+                continue;
+            }
+            log.warn("Dashboard counter drift in {} {}: count {} fee {}",
+                    key.getBucketMonth(), key.getStatus(), countDelta, feeDelta);
+            orderStatsCounterRepository.increment(key.getBucketMonth(), key.getStatus().name(), countDelta, feeDelta);
+            drifted++;
+            countDrift += Math.abs(countDelta);
+            feeDrift = feeDrift.add(feeDelta.abs());
+        }
+
+        log.info("Reconciled dashboard counters: {} buckets checked, {} corrected", keys.size(), drifted);
+        return StatsReconcileResponse.builder()
+                .checkedBuckets(keys.size())
+                .driftedBuckets(drifted)
+                .orderCountDrift(countDrift)
+                .feeDrift(feeDrift)
+                .reconciledAt(LocalDateTime.now())
+                .build();
+    }
+
+    // Builds the counters for seed data on first boot; later drift is left to the nightly run and the admin endpoint
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            if (orderStatsCounterRepository.count() > 0) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not check the dashboard counters on startup", e);
+            return;
+        }
+        scheduledReconcile();
+    }
+
+    @Scheduled(cron = "${dashboard.stats.reconcile-cron:0 30 2 * * *}")
+    public void scheduledReconcile() {
+        try {
+            if (tryReconcile().isEmpty()) {
+                log.info("Dashboard counters are being reconciled by another instance, skipped");
+            }
+        } catch (RuntimeException e) {
+            log.error("Dashboard counter reconciliation failed", e);
+        }
+    }
+
+    private static String bucketOf(Order order) {
+        LocalDateTime createdAt = order.getCreatedAt();
+        return (createdAt != null ? YearMonth.from(createdAt) : YearMonth.now()).toString();
+    }
+
+    private static BigDecimal feeOf(Order order) {
+        return order.getShippingFee() != null ? order.getShippingFee() : BigDecimal.ZERO;
+    }
+
+    private static long countOf(OrderStatsCounter counter) {
+        return counter != null ? counter.getOrderCount() : 0;
+    }
+
+    private static BigDecimal totalFeeOf(OrderStatsCounter counter) {
+        return counter != null && counter.getTotalFee() != null ? counter.getTotalFee() : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,160 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.entity.pricing.PricingZone;
+import org.f3.postalmanagement.entity.pricing.ShippingRate;
+import org.f3.postalmanagement.entity.pricing.WardZoneMapping;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable in-memory snapshot of the pricing configuration.
+ * Holds a ward code -> zone index and a zone x zone table of rate windows,
+ * so a fee quote can be resolved without touching the database.
+ * A new instance is built and swapped in whenever pricing data changes.
+ */
+public final class PricingMatrix {
+
+    public static final int NO_ZONE = -1;
+
+    public static final PricingMatrix EMPTY = new PricingMatrix(Map.of(), new String[0], new Rate[0][0][], null);
+
+    private static final Rate[] NO_RATES = new Rate[0];
+
+    private final Map<String, Integer> zoneByWard;
+    private final String[] zoneCodes;
+    private final Rate[][][] rates;
+    private final LocalDateTime loadedAt;
+
+    private PricingMatrix(Map<String, Integer> zoneByWard, String[] zoneCodes, Rate[][][] rates, LocalDateTime loadedAt) {
+        this.zoneByWard = zoneByWard;
+        this.zoneCodes = zoneCodes;
+        this.rates = rates;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Build a snapshot from ward-zone mappings and active shipping rates.
+     * Zones referenced by either collection are assigned a dense index.
+     */
+    public static PricingMatrix build(Collection<WardZoneMapping> mappings, Collection<ShippingRate> shippingRates) {
+        Map<UUID, Integer> zoneIndex = new LinkedHashMap<>();
+        List<String> codes = new ArrayList<>();
+
+        Map<String, Integer> zoneByWard = new HashMap<>(Math.max(16, mappings.size() * 2));
+        for (WardZoneMapping mapping : mappings) {
+            int zone = indexOf(mapping.getZone(), zoneIndex, codes);
+            zoneByWard.put(mapping.getWard().getCode(), zone);
+        }
+
+        Map<Long, List<Rate>> windowsByRoute = new HashMap<>();
+        for (ShippingRate shippingRate : shippingRates) {
+            if (!Boolean.TRUE.equals(shippingRate.getIsActive())) {
+                continue;
+            }
+            int from = indexOf(shippingRate.getFromZone(), zoneIndex, codes);
+            int to = indexOf(shippingRate.getToZone(), zoneIndex, codes);
+            windowsByRoute.computeIfAbsent(routeKey(from, to), k -> new ArrayList<>())
+                    .add(Rate.of(
+                            shippingRate.getBasePrice(),
+                            shippingRate.getPricePerKg(),
+                            shippingRate.getValidFrom(),
+                            shippingRate.getValidTo()));
+        }
+
+        int zoneCount = codes.size();
+        Rate[][][] table = new Rate[zoneCount][zoneCount][];
+        for (int from = 0; from < zoneCount; from++) {
+            for (int to = 0; to < zoneCount; to++) {
+                List<Rate> windows = windowsByRoute.get(routeKey(from, to));
+                if (windows == null) {
+                    table[from][to] = NO_RATES;
+                } else {
+                    // Latest effective window first, so an overlapping newer rate wins
+                    windows.sort(Comparator.comparing(Rate::validFrom,
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())));
+                    table[from][to] = windows.toArray(NO_RATES);
+                }
+            }
+        }
+
+        return new PricingMatrix(Map.copyOf(zoneByWard), codes.toArray(new String[0]), table, LocalDateTime.now());
+    }
+
+    /**
+     * @return zone index of the ward, or {@link #NO_ZONE} if the ward is not mapped
+     */
+    public int zoneOf(String wardCode) {
+        Integer zone = wardCode == null ? null : zoneByWard.get(wardCode);
+        return zone == null ? NO_ZONE : zone;
+    }
+
+    public String zoneCode(int zone) {
+        return zoneCodes[zone];
+    }
+
+    /**
+     * Find the rate for a zone pair that is valid at the given time.
+     *
+     * @return the matching rate, or null if the route has no active rate at that time
+     */
+    public Rate activeRate(int fromZone, int toZone, LocalDateTime at) {
+        for (Rate rate : rates[fromZone][toZone]) {
+            if (rate.isValidAt(at)) {
+                return rate;
+            }
+        }
+        return null;
+    }
+
+    public int wardCount() {
+        return zoneByWard.size();
+    }
+
+    public int zoneCount() {
+        return zoneCodes.length;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static int indexOf(PricingZone zone, Map<UUID, Integer> zoneIndex, List<String> codes) {
+        return zoneIndex.computeIfAbsent(zone.getId(), id -> {
+            codes.add(zone.getCode());
+            return codes.size() - 1;
+        });
+    }
+
+    private static long routeKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A single rate window for a zone pair.
+     * Prices are also kept in hundredths of a VND for {@link ShippingFeeEngine}
+     * ({@link ShippingFeeEngine#NOT_EXACT} when not representable).
+     */
+    public record Rate(BigDecimal basePrice, BigDecimal pricePerKg, LocalDateTime validFrom, LocalDateTime validTo,
+                       long basePriceMinor, long pricePerKgMinor) {
+
+        public static Rate of(BigDecimal basePrice, BigDecimal pricePerKg, LocalDateTime validFrom, LocalDateTime validTo) {
+            return new Rate(basePrice, pricePerKg, validFrom, validTo,
+                    ShippingFeeEngine.toScaledLong(basePrice, ShippingFeeEngine.PRICE_SCALE),
+                    ShippingFeeEngine.toScaledLong(pricePerKg, ShippingFeeEngine.PRICE_SCALE));
+        }
+
+        boolean isValidAt(LocalDateTime at) {
+            return (validFrom == null || !validFrom.isAfter(at))
+                    && (validTo == null || !validTo.isBefore(at));
+        }
+    }
+}
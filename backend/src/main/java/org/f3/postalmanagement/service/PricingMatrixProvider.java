@@ -0,0 +1,157 @@
+package org.f3.postalmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.pricing.PricingDataChangedEvent;
+import org.f3.postalmanagement.entity.pricing.ShippingRate;
+import org.f3.postalmanagement.entity.pricing.WardZoneMapping;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.pricing.ShippingRateRepository;
+import org.f3.postalmanagement.repository.pricing.WardZoneMappingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Owns the current {@link PricingMatrix} snapshot.
+ * The snapshot is loaded at startup and replaced atomically whenever pricing data
+ * changes, so readers never see a half-built matrix and never hit the database.
+ * A quote never waits for a rebuild once a snapshot exists: while another thread rebuilds, or after a
+ * failed rebuild until pricing.matrix.retry-backoff has passed, the previous snapshot is served.
+ */
+@Slf4j
+@Service
+public class PricingMatrixProvider {
+
+    private final WardZoneMappingRepository wardZoneMappingRepository;
+    private final ShippingRateRepository shippingRateRepository;
+    private final long retryBackoffNanos;
+
+    private volatile PricingMatrix current = PricingMatrix.EMPTY;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // System.nanoTime() before which a quote does not retry a failed rebuild
+    private volatile long retryAt = System.nanoTime();
+
+    public PricingMatrixProvider(
+            WardZoneMappingRepository wardZoneMappingRepository,
+            ShippingRateRepository shippingRateRepository,
+            @Value("${pricing.matrix.retry-backoff:PT30S}") Duration retryBackoff
+    ) {
+        this.wardZoneMappingRepository = wardZoneMappingRepository;
+        this.shippingRateRepository = shippingRateRepository;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+    }
+
+    /**
+     * Get the current pricing snapshot.
+     * If pricing data was changed since the last load, the snapshot is rebuilt first;
+     * should that fail, the previous snapshot keeps being served until a retry succeeds.
+     * Without any snapshot yet, a quote waits for the load and fails with 503 during the retry backoff.
+     */
+    public PricingMatrix current() {
+        if (stale.get() || current == PricingMatrix.EMPTY) {
+            reloadIfStale();
+        }
+        return current;
+    }
+
+    /**
+     * Rebuild the snapshot from the database and swap it in.
+     */
+    public PricingMatrix reload() {
+        reloadLock.lock();
+        // Clear the flag first so changes committed during the load trigger another one
+        stale.set(false);
+        try {
+            List<WardZoneMapping> mappings = wardZoneMappingRepository.findAllWithZone();
+            List<ShippingRate> rates = shippingRateRepository.findAllActiveWithZones();
+            PricingMatrix matrix = PricingMatrix.build(mappings, rates);
+            current = matrix;
+            log.info("Loaded pricing matrix: {} wards, {} zones, {} rates",
+                    matrix.wardCount(), matrix.zoneCount(), rates.size());
+            return matrix;
+        } catch (RuntimeException e) {
+            stale.set(true);
+            retryAt = System.nanoTime() + retryBackoffNanos;
+            throw e;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Mark the snapshot stale once a pricing write commits; the next quote rebuilds it.
+     * Bulk writes (e.g. seeding thousands of mappings) therefore cause a single reload.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricingDataChanged(PricingDataChangedEvent event) {
+        if (stale.compareAndSet(false, true)) {
+            log.debug("Pricing data changed ({}), matrix marked stale", event.entityType().getSimpleName());
+        }
+    }
+
+    /**
+     * Periodic refresh to pick up rates that were changed by other nodes or directly in the database.
+     */
+    @Scheduled(fixedDelayString = "${pricing.matrix.refresh-interval:PT5M}",
+               initialDelayString = "${pricing.matrix.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Scheduled pricing matrix refresh failed, keeping previous snapshot", e);
+        }
+    }
+
+    private void reloadIfStale() {
+        // With a snapshot to serve, a quote never waits: not for the retry backoff, nor behind a rebuild in progress
+        if (current != PricingMatrix.EMPTY) {
+            if (System.nanoTime() - retryAt < 0 || !reloadLock.tryLock()) {
+                return;
+            }
+        } else {
+            reloadLock.lock();
+        }
+        try {
+            // Another thread may have rebuilt, or failed to, while this one waited
+            if (!stale.get()) {
+                return;
+            }
+            if (System.nanoTime() - retryAt < 0) {
+                if (current == PricingMatrix.EMPTY) {
+                    throw pricingUnavailable();
+                }
+                return;
+            }
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                if (current == PricingMatrix.EMPTY) {
+                    throw e;
+                }
+                log.warn("Pricing matrix reload failed, serving snapshot loaded at {} and retrying in {} ms",
+                        current.getLoadedAt(), retryBackoffNanos / 1_000_000, e);
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private static DomainStatusException pricingUnavailable() {
+        return DomainStatusException.serviceUnavailable(
+                "Pricing is temporarily unavailable, please try again later", "PRICING_UNAVAILABLE");
+    }
+}
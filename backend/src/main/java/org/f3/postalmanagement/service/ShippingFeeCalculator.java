@@ -1,28 +1,37 @@
 package org.f3.postalmanagement.service;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.f3.postalmanagement.entity.pricing.PricingZone;
-import org.f3.postalmanagement.entity.pricing.ShippingRate;
-import org.f3.postalmanagement.entity.pricing.WardZoneMapping;
-import org.f3.postalmanagement.repository.pricing.ShippingRateRepository;
-import org.f3.postalmanagement.repository.pricing.WardZoneMappingRepository;
+import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ShippingFeeCalculator {
+
+    // Below this size the fork/join overhead outweighs the gain of pricing in parallel
+    private static final int PARALLEL_THRESHOLD = 256;
     
-    private final WardZoneMappingRepository wardZoneMappingRepository;
-    private final ShippingRateRepository shippingRateRepository;
+    private final PricingMatrixProvider pricingMatrixProvider;
+    private final Validator validator;
     
     /**
-     * Calculate shipping fee based on weight, dimensions, and zones
+     * Calculate shipping fee based on weight, dimensions, and zones.
+     * Zones and rates are resolved from the in-memory pricing matrix (no DB round-trip).
      * 
      * @param senderWardCode Sender's ward code
      * @param receiverWardCode Receiver's ward code
@@ -40,75 +49,148 @@ public class ShippingFeeCalculator {
         Integer widthCm,
         Integer heightCm
     ) {
-        log.info("Calculating shipping fee: from={}, to={}, weight={}kg, dimensions={}x{}x{}", 
-            senderWardCode, receiverWardCode, weightKg, lengthCm, widthCm, heightCm);
-        
-        // 1. Calculate dimensional weight
-        BigDecimal dimensionalWeight = calculateDimensionalWeight(lengthCm, widthCm, heightCm);
-        log.debug("Dimensional weight: {}kg", dimensionalWeight);
-        
-        // 2. Get chargeable weight (max of actual and dimensional)
-        BigDecimal chargeableWeight = weightKg.max(dimensionalWeight);
-        log.debug("Chargeable weight: {}kg (max of actual {} and dimensional {})", 
-            chargeableWeight, weightKg, dimensionalWeight);
-        
-        // 3. Get zones for sender and receiver wards
-        PricingZone fromZone = getZoneForWard(senderWardCode);
-        PricingZone toZone = getZoneForWard(receiverWardCode);
-        log.debug("Zones: from={}, to={}", fromZone.getCode(), toZone.getCode());
+        // 1. Get zones for sender and receiver wards
+        PricingMatrix matrix = pricingMatrixProvider.current();
+        int fromZone = getZoneForWard(matrix, senderWardCode);
+        int toZone = getZoneForWard(matrix, receiverWardCode);
         
-        // 4. Get rate from pricing matrix
-        ShippingRate rate = getActiveRate(fromZone, toZone);
-        log.debug("Rate: base={}, perKg={}", rate.getBasePrice(), rate.getPricePerKg());
+        // 2. Get rate from pricing matrix
+        PricingMatrix.Rate rate = getActiveRate(matrix, fromZone, toZone);
         
-        // 5. Calculate fee: basePrice + (chargeableWeight * pricePerKg)
-        BigDecimal fee = rate.getBasePrice()
-            .add(chargeableWeight.multiply(rate.getPricePerKg()))
-            .setScale(0, RoundingMode.HALF_UP); // Round to nearest VND
+        // 3. Calculate fee: basePrice + (max(actual, dimensional weight) * pricePerKg)
+        BigDecimal fee = ShippingFeeEngine.fee(rate, weightKg, lengthCm, widthCm, heightCm);
         
-        log.info("Calculated shipping fee: {} VND", fee);
+        // Guarded: this runs on every quote and the argument array alone is measurable
+        if (log.isDebugEnabled()) {
+            log.debug("Calculated shipping fee: from={} ({}), to={} ({}), weight={}kg, dimensions={}x{}x{}, fee={} VND",
+                senderWardCode, matrix.zoneCode(fromZone), receiverWardCode, matrix.zoneCode(toZone),
+                weightKg, lengthCm, widthCm, heightCm, fee);
+        }
         return fee;
     }
-    
+
     /**
-     * Calculate dimensional weight using formula: (L × W × H) / 5000
-     * Result is in kg
+     * Quote shipping fees for a batch of parcels.
+     * Distinct wards and zone pairs are resolved once against a single pricing snapshot,
+     * then the items are priced (in parallel for large batches).
+     *
+     * @param requests parcels to quote
+     * @return one quote per request, in input order; failures are reported per item
      */
-    private BigDecimal calculateDimensionalWeight(Integer lengthCm, Integer widthCm, Integer heightCm) {
-        if (lengthCm == null || widthCm == null || heightCm == null) {
-            return BigDecimal.ZERO;
+    public List<ShippingFeeQuoteResponse> calculateFees(List<CalculateShippingFeeRequest> requests) {
+        PricingMatrix matrix = pricingMatrixProvider.current();
+        LocalDateTime now = LocalDateTime.now();
+        int size = requests.size();
+
+        // 1. Resolve every distinct ward and zone pair once
+        Map<String, Integer> zoneByWard = new HashMap<>();
+        Map<Long, PricingMatrix.Rate> rateByRoute = new HashMap<>();
+        for (CalculateShippingFeeRequest request : requests) {
+            if (request == null) {
+                continue;
+            }
+            int fromZone = zoneByWard.computeIfAbsent(request.getSenderWardCode(), matrix::zoneOf);
+            int toZone = zoneByWard.computeIfAbsent(request.getReceiverWardCode(), matrix::zoneOf);
+            if (fromZone != PricingMatrix.NO_ZONE && toZone != PricingMatrix.NO_ZONE) {
+                rateByRoute.computeIfAbsent(routeKey(fromZone, toZone),
+                        key -> matrix.activeRate(fromZone, toZone, now));
+            }
         }
-        
-        if (lengthCm <= 0 || widthCm <= 0 || heightCm <= 0) {
-            return BigDecimal.ZERO;
+
+        // 2. Price each item; the lookup maps are only read from here on
+        ShippingFeeQuoteResponse[] quotes = new ShippingFeeQuoteResponse[size];
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
         }
-        
-        // (L × W × H) / 5000 = kg
-        BigDecimal volume = BigDecimal.valueOf(lengthCm)
-            .multiply(BigDecimal.valueOf(widthCm))
-            .multiply(BigDecimal.valueOf(heightCm));
-        
-        return volume.divide(BigDecimal.valueOf(5000), 2, RoundingMode.HALF_UP);
+        indexes.forEach(i -> quotes[i] = quote(i, requests.get(i), matrix, zoneByWard, rateByRoute));
+
+        long failed = Arrays.stream(quotes).filter(q -> !q.isSuccess()).count();
+        log.info("Calculated batch of {} shipping fees ({} failed)", size, failed);
+        return Arrays.asList(quotes);
+    }
+
+    private ShippingFeeQuoteResponse quote(
+        int index,
+        CalculateShippingFeeRequest request,
+        PricingMatrix matrix,
+        Map<String, Integer> zoneByWard,
+        Map<Long, PricingMatrix.Rate> rateByRoute
+    ) {
+        if (request == null) {
+            return failedQuote(index, "VALIDATION_ERROR", "Item is required");
+        }
+
+        Set<ConstraintViolation<CalculateShippingFeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            return failedQuote(index, "VALIDATION_ERROR", message);
+        }
+
+        int fromZone = zoneByWard.get(request.getSenderWardCode());
+        int toZone = zoneByWard.get(request.getReceiverWardCode());
+        if (fromZone == PricingMatrix.NO_ZONE || toZone == PricingMatrix.NO_ZONE) {
+            String wardCode = fromZone == PricingMatrix.NO_ZONE
+                ? request.getSenderWardCode() : request.getReceiverWardCode();
+            return failedQuote(index, "INVALID_ARGUMENT",
+                "No pricing zone found for ward: " + wardCode + ". Please configure ward-zone mapping.");
+        }
+
+        PricingMatrix.Rate rate = rateByRoute.get(routeKey(fromZone, toZone));
+        if (rate == null) {
+            return failedQuote(index, "INVALID_ARGUMENT",
+                String.format("No active shipping rate found for route: %s -> %s",
+                    matrix.zoneCode(fromZone), matrix.zoneCode(toZone)));
+        }
+
+        BigDecimal fee = ShippingFeeEngine.fee(rate, request.getWeightKg(),
+            request.getLengthCm(), request.getWidthCm(), request.getHeightCm());
+
+        return ShippingFeeQuoteResponse.builder()
+            .index(index)
+            .success(true)
+            .fee(fee)
+            .build();
+    }
+
+    private ShippingFeeQuoteResponse failedQuote(int index, String errorCode, String message) {
+        return ShippingFeeQuoteResponse.builder()
+            .index(index)
+            .success(false)
+            .errorCode(errorCode)
+            .message(message)
+            .build();
+    }
+
+    private static long routeKey(int fromZone, int toZone) {
+        return ((long) fromZone << 32) | (toZone & 0xFFFFFFFFL);
     }
     
     /**
-     * Get pricing zone for a ward
+     * Get pricing zone index for a ward
      */
-    private PricingZone getZoneForWard(String wardCode) {
-        WardZoneMapping mapping = wardZoneMappingRepository.findByWardCode(wardCode)
-            .orElseThrow(() -> new IllegalArgumentException(
-                "No pricing zone found for ward: " + wardCode + ". Please configure ward-zone mapping."));
-        
-        return mapping.getZone();
+    private int getZoneForWard(PricingMatrix matrix, String wardCode) {
+        int zone = matrix.zoneOf(wardCode);
+        if (zone == PricingMatrix.NO_ZONE) {
+            throw new IllegalArgumentException(
+                "No pricing zone found for ward: " + wardCode + ". Please configure ward-zone mapping.");
+        }
+        return zone;
     }
     
     /**
      * Get active shipping rate for zone pair
      */
-    private ShippingRate getActiveRate(PricingZone fromZone, PricingZone toZone) {
-        return shippingRateRepository.findActiveRate(fromZone, toZone, LocalDateTime.now())
-            .orElseThrow(() -> new IllegalArgumentException(
+    private PricingMatrix.Rate getActiveRate(PricingMatrix matrix, int fromZone, int toZone) {
+        PricingMatrix.Rate rate = matrix.activeRate(fromZone, toZone, LocalDateTime.now());
+        if (rate == null) {
+            throw new IllegalArgumentException(
                 String.format("No active shipping rate found for route: %s -> %s", 
-                    fromZone.getCode(), toZone.getCode())));
+                    matrix.zoneCode(fromZone), matrix.zoneCode(toZone)));
+        }
+        return rate;
     }
 }
@@ -0,0 +1,147 @@
+package org.f3.postalmanagement.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fee arithmetic for the quote hot path.
+ * Works on scaled {@code long} values (grams, hundredths of a VND) and only builds a
+ * {@link BigDecimal} for the final fee. Inputs that cannot be represented exactly, or
+ * whose arithmetic would overflow, fall back to the {@link BigDecimal} reference path,
+ * so the result is always identical to it (HALF_UP to the nearest VND).
+ */
+public final class ShippingFeeEngine {
+
+    /** Marker for a value that has no exact scaled {@code long} representation. */
+    public static final long NOT_EXACT = Long.MIN_VALUE;
+
+    /** Weights are carried in grams. */
+    public static final int WEIGHT_SCALE = 3;
+
+    /** Prices are carried in hundredths of a VND, matching the DECIMAL(15,2) columns. */
+    public static final int PRICE_SCALE = 2;
+
+    private static final int DIMENSIONAL_DIVISOR = 5000;
+    private static final BigDecimal DIMENSIONAL_DIVISOR_DECIMAL = BigDecimal.valueOf(DIMENSIONAL_DIVISOR);
+
+    // price (scale 2) x weight (scale 3) = scale 5
+    private static final long FEE_UNIT = 100_000L;
+    private static final long BASE_PRICE_FACTOR = 1_000L;
+
+    private ShippingFeeEngine() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Calculate the fee for a parcel: basePrice + max(actual, dimensional weight) * pricePerKg.
+     *
+     * @return fee in VND with scale 0
+     */
+    public static BigDecimal fee(PricingMatrix.Rate rate, BigDecimal weightKg,
+                                 Integer lengthCm, Integer widthCm, Integer heightCm) {
+        long weightGrams = toScaledLong(weightKg, WEIGHT_SCALE);
+        if (weightGrams != NOT_EXACT && rate.basePriceMinor() != NOT_EXACT && rate.pricePerKgMinor() != NOT_EXACT) {
+            long fee = feeVnd(rate.basePriceMinor(), rate.pricePerKgMinor(), weightGrams, lengthCm, widthCm, heightCm);
+            if (fee != NOT_EXACT) {
+                return BigDecimal.valueOf(fee);
+            }
+        }
+        return referenceFee(rate.basePrice(), rate.pricePerKg(), weightKg, lengthCm, widthCm, heightCm);
+    }
+
+    /**
+     * Scaled-long fee calculation.
+     *
+     * @param basePriceMinor base price in hundredths of a VND
+     * @param pricePerKgMinor price per kg in hundredths of a VND
+     * @param weightGrams actual weight in grams
+     * @return fee in VND rounded HALF_UP, or {@link #NOT_EXACT} if the arithmetic would overflow
+     */
+    public static long feeVnd(long basePriceMinor, long pricePerKgMinor, long weightGrams,
+                              Integer lengthCm, Integer widthCm, Integer heightCm) {
+        long dimensionalCentiKg = dimensionalWeightCentiKg(lengthCm, widthCm, heightCm);
+        if (dimensionalCentiKg == NOT_EXACT) {
+            return NOT_EXACT;
+        }
+        long chargeableGrams = Math.max(weightGrams, dimensionalCentiKg * 10);
+        try {
+            long total = Math.addExact(
+                    Math.multiplyExact(basePriceMinor, BASE_PRICE_FACTOR),
+                    Math.multiplyExact(chargeableGrams, pricePerKgMinor));
+            // HALF_UP on a non-negative value
+            return (total + FEE_UNIT / 2) / FEE_UNIT;
+        } catch (ArithmeticException e) {
+            return NOT_EXACT;
+        }
+    }
+
+    /**
+     * Dimensional weight (L x W x H) / 5000 in hundredths of a kg, rounded HALF_UP.
+     *
+     * @return 0 if any dimension is missing or not positive, {@link #NOT_EXACT} on overflow
+     */
+    public static long dimensionalWeightCentiKg(Integer lengthCm, Integer widthCm, Integer heightCm) {
+        if (lengthCm == null || widthCm == null || heightCm == null) {
+            return 0;
+        }
+        if (lengthCm <= 0 || widthCm <= 0 || heightCm <= 0) {
+            return 0;
+        }
+        try {
+            long volume = Math.multiplyExact(Math.multiplyExact((long) lengthCm, widthCm), (long) heightCm);
+            long centiKg = (Math.multiplyExact(volume, 100L) + DIMENSIONAL_DIVISOR / 2) / DIMENSIONAL_DIVISOR;
+            // Keep the gram conversion (x10) in range as well
+            return centiKg > Long.MAX_VALUE / 10 ? NOT_EXACT : centiKg;
+        } catch (ArithmeticException e) {
+            return NOT_EXACT;
+        }
+    }
+
+    /**
+     * Convert a non-negative decimal to a {@code long} at the given scale.
+     *
+     * @return the scaled value, or {@link #NOT_EXACT} if the value is null, negative,
+     *         has more fractional digits than the scale, or does not fit in a long
+     */
+    public static long toScaledLong(BigDecimal value, int scale) {
+        if (value == null || value.signum() < 0) {
+            return NOT_EXACT;
+        }
+        if (value.scale() > scale && value.stripTrailingZeros().scale() > scale) {
+            return NOT_EXACT;
+        }
+        try {
+            long result = value.movePointRight(scale).longValueExact();
+            return result == NOT_EXACT ? NOT_EXACT : result;
+        } catch (ArithmeticException e) {
+            return NOT_EXACT;
+        }
+    }
+
+    /**
+     * {@link BigDecimal} reference implementation; also used as the fallback path.
+     */
+    static BigDecimal referenceFee(BigDecimal basePrice, BigDecimal pricePerKg, BigDecimal weightKg,
+                                   Integer lengthCm, Integer widthCm, Integer heightCm) {
+        BigDecimal chargeableWeight = weightKg.max(referenceDimensionalWeight(lengthCm, widthCm, heightCm));
+        return basePrice
+                .add(chargeableWeight.multiply(pricePerKg))
+                .setScale(0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Dimensional weight (L × W × H) / 5000 in kg with 2 decimals, rounded HALF_UP
+     */
+    static BigDecimal referenceDimensionalWeight(Integer lengthCm, Integer widthCm, Integer heightCm) {
+        if (lengthCm == null || widthCm == null || heightCm == null) {
+            return BigDecimal.ZERO;
+        }
+        if (lengthCm <= 0 || widthCm <= 0 || heightCm <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal volume = BigDecimal.valueOf(lengthCm)
+                .multiply(BigDecimal.valueOf(widthCm))
+                .multiply(BigDecimal.valueOf(heightCm));
+        return volume.divide(DIMENSIONAL_DIVISOR_DECIMAL, 2, RoundingMode.HALF_UP);
+    }
+}
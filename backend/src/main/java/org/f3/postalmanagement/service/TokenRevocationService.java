@@ -0,0 +1,207 @@
+package org.f3.postalmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.actor.RevokedToken;
+import org.f3.postalmanagement.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Revoked JWT ids, held in memory and persisted to revoked_tokens for restart recovery.
+ * Ids are grouped by the bucket their token expires in; the buckets form a ring spanning the token
+ * lifetime, so a bucket is reused (and its ids dropped) only once every token in it has expired.
+ * A lookup is one array read and one set probe.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    // Rows committed by other nodes while a sync query runs are picked up by the next one
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${jwt.expiration:86400000}") long tokenLifetimeMillis,
+            @Value("${jwt.revocation.bucket-width:PT1H}") Duration bucketWidth
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bucketMillis = bucketWidth.toMillis();
+        // Every bucket a live token can expire in, plus the current one
+        this.buckets = new AtomicReferenceArray<>((int) (tokenLifetimeMillis / bucketMillis) + 2);
+    }
+
+    /**
+     * Whether the token with the given id and expiry has been revoked.
+     * Tokens without an id (issued before ids were added) cannot be revoked.
+     */
+    public boolean isRevoked(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null) {
+            return false;
+        }
+        long epoch = expiresAt.getTime() / bucketMillis;
+        Bucket bucket = buckets.get(slot(epoch));
+        return bucket != null && bucket.epoch == epoch && bucket.jtis.contains(jti);
+    }
+
+    /**
+     * Revoke a token until it expires. Already expired tokens are ignored.
+     */
+    public void revoke(String jti, UUID accountId, Date expiresAt) {
+        if (jti == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .accountId(accountId)
+                .expiresAt(toLocalDateTime(expiresAt.getTime()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        add(jti, expiresAt.getTime());
+        log.info("Revoked token {} of account {}", jti, accountId);
+    }
+
+    /**
+     * Load every revocation whose token has not expired yet.
+     *
+     * @return number of revocations loaded
+     */
+    public int reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(now);
+        revoked.forEach(this::add);
+        lastSyncedAt = now;
+        log.info("Loaded {} revoked tokens", revoked.size());
+        return revoked.size();
+    }
+
+    /**
+     * Pick up revocations made on other nodes since the last sync.
+     */
+    public int sync() {
+        LocalDateTime since = lastSyncedAt;
+        if (since == null) {
+            return reload();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revoked = revokedTokenRepository
+                .findByRevokedAtAfterAndExpiresAtAfter(since.minus(SYNC_OVERLAP), now);
+        revoked.forEach(this::add);
+        lastSyncedAt = now;
+        return revoked.size();
+    }
+
+    /**
+     * Drop buckets and rows whose tokens have all expired.
+     *
+     * @return number of purged rows
+     */
+    public int purgeExpired() {
+        long currentEpoch = System.currentTimeMillis() / bucketMillis;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch < currentEpoch) {
+                buckets.compareAndSet(i, bucket, null);
+            }
+        }
+        return revokedTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    /**
+     * Number of revoked ids currently held in memory.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            size += bucket == null ? 0 : bucket.jtis.size();
+        }
+        return size;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT1M}",
+               initialDelayString = "${jwt.revocation.refresh-interval:PT1M}")
+    public void scheduledSync() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Scheduled revoked token sync failed, will retry", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.bucket-width:PT1H}",
+               initialDelayString = "${jwt.revocation.bucket-width:PT1H}")
+    public void scheduledPurge() {
+        try {
+            int purged = purgeExpired();
+            log.debug("Purged {} expired revoked tokens", purged);
+        } catch (RuntimeException e) {
+            log.error("Scheduled revoked token purge failed, will retry", e);
+        }
+    }
+
+    private void add(RevokedToken revokedToken) {
+        add(revokedToken.getJti(), revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void add(String jti, long expiresAtMillis) {
+        long epoch = expiresAtMillis / bucketMillis;
+        int slot = slot(epoch);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch == epoch) {
+                bucket.jtis.add(jti);
+                return;
+            }
+            if (bucket != null && bucket.epoch > epoch) {
+                // The slot has moved on to a later bucket, so this token has already expired
+                return;
+            }
+            Bucket fresh = new Bucket(epoch);
+            fresh.jtis.add(jti);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final Set<String> jtis = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.repository.ArchivedTrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps tracking_events small by moving the events of orders delivered or cancelled more than
+ * tracking.archive.after ago into tracking_events_archive, batch-size orders per transaction.
+ * With tracking.archive.manage-partitions (on by default) it also adds the coming months to the
+ * archive's partitions by splitting p_future. Scheduled runs hold a database lock, so only one
+ * replica archives at a time. Metric: tracking.archive.events.
+ */
+@Service
+@Slf4j
+public class TrackingEventArchiver {
+
+    /** Orders in these statuses get no further events, so their history can go to the cold tier. */
+    public static final Set<OrderStatus> ARCHIVABLE_STATUSES =
+            Collections.unmodifiableSet(EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED));
+
+    static final String FUTURE_PARTITION = "p_future";
+    static final String ARCHIVE_LOCK = "tracking_events_archive";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final TrackingEventRepository trackingEventRepository;
+    private final ArchivedTrackingEventRepository archivedTrackingEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseNamedLock databaseNamedLock;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private final boolean managePartitions;
+    private final int partitionsAhead;
+    private final Counter archived;
+
+    public TrackingEventArchiver(
+            TrackingEventRepository trackingEventRepository,
+            ArchivedTrackingEventRepository archivedTrackingEventRepository,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            DatabaseNamedLock databaseNamedLock,
+            MeterRegistry meterRegistry,
+            @Value("${tracking.archive.after:P90D}") Duration archiveAfter,
+            @Value("${tracking.archive.batch-size:500}") int batchSize,
+            @Value("${tracking.archive.manage-partitions:true}") boolean managePartitions,
+            @Value("${tracking.archive.partitions-ahead:3}") int partitionsAhead
+    ) {
+        this.trackingEventRepository = trackingEventRepository;
+        this.archivedTrackingEventRepository = archivedTrackingEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.databaseNamedLock = databaseNamedLock;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+        this.managePartitions = managePartitions;
+        this.partitionsAhead = partitionsAhead;
+        this.archived = Counter.builder("tracking.archive.events")
+                .description("Tracking events moved to the cold tier")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${tracking.archive.cron:0 0 3 * * *}")
+    public void scheduledArchive() {
+        try {
+            Optional<Long> moved = databaseNamedLock.tryRun(ARCHIVE_LOCK, () -> {
+                if (managePartitions) {
+                    ensurePartitions(YearMonth.now());
+                }
+                return archive(LocalDateTime.now().minus(archiveAfter));
+            });
+            if (moved.isEmpty()) {
+                log.info("Tracking events are being archived by another instance, skipped");
+            }
+        } catch (RuntimeException e) {
+            log.error("Tracking event archiving failed", e);
+        }
+    }
+
+    /**
+     * Move the events of finished orders whose latest event is older than the cutoff.
+     * @return the number of events moved
+     */
+    public long archive(LocalDateTime cutoff) {
+        long events = 0;
+        long orders = 0;
+        while (true) {
+            // Each batch commits on its own, so a failure keeps the batches already moved
+            List<UUID> orderIds = trackingEventRepository.findArchivableOrderIds(
+                    ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            Integer moved = transactionTemplate.execute(status -> {
+                archivedTrackingEventRepository.copyFromHotTable(orderIds, cutoff);
+                return trackingEventRepository.deleteArchived(orderIds);
+            });
+            if (moved == null || moved == 0) {
+                // Nothing left to move for these orders; stop rather than loop on them
+                break;
+            }
+            archived.increment(moved);
+            events += moved;
+            orders += orderIds.size();
+        }
+        if (events > 0) {
+            log.info("Archived {} tracking events of {} orders finished before {}", events, orders, cutoff);
+        }
+        return events;
+    }
+
+    /**
+     * Add monthly partitions up to partitions-ahead months past the given one, above the highest existing month.
+     */
+    void ensurePartitions(YearMonth current) {
+        List<String> partitions = archivedTrackingEventRepository.findPartitionNames();
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("tracking_events_archive has no {} partition; run V4__Tracking_Events_Archive.sql " +
+                    "or disable tracking.archive.manage-partitions", FUTURE_PARTITION);
+            return;
+        }
+        YearMonth highest = partitions.stream()
+                .filter(name -> name.matches("p\\d{6}"))
+                .map(name -> YearMonth.parse(name.substring(1), PARTITION_MONTH))
+                .max(YearMonth::compareTo)
+                .orElse(current.minusMonths(1));
+        for (YearMonth month = highest.plusMonths(1); !month.isAfter(current.plusMonths(partitionsAhead)); month = month.plusMonths(1)) {
+            String sql = "ALTER TABLE tracking_events_archive REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                    "PARTITION p" + month.format(PARTITION_MONTH) +
+                    " VALUES LESS THAN (" + month.plusMonths(1).format(PARTITION_MONTH) + "), " +
+                    "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)";
+            transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(sql).executeUpdate());
+            log.info("Added tracking_events_archive partition p{}", month.format(PARTITION_MONTH));
+        }
+    }
+}
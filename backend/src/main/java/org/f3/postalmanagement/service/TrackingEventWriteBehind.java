@@ -0,0 +1,554 @@
+package org.f3.postalmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.order.TrackingEventsWrittenEvent;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Optional write-behind mode for tracking events (tracking.write-behind.enabled).
+ * An accepted event is appended to a local log file and forced to disk before the caller is answered;
+ * a single background thread then inserts the logged events in order, in micro-batches, and records
+ * how far it got in a checkpoint file. After a crash the events past the checkpoint are drained again.
+ * Each event carries a log id stored in the scan_id column, so replaying events that were inserted
+ * just before the crash skips them instead of duplicating them.
+ * Log lines are "crc32 json"; an unterminated last line (crash mid-append) is cut off on startup, while a
+ * damaged complete line is skipped and counted as dropped so the events after it are kept.
+ * Events are checked against the tracking_events constraints before they are logged. A logged event the
+ * database still refuses (constraint violation) is moved to a dead-letter file instead of blocking the
+ * events behind it; other failures (e.g. the database is down) keep the batch for the next attempt.
+ * Metrics: tracking.write-behind.pending, tracking.write-behind.pending.bytes, tracking.write-behind.lag
+ * (append to commit), tracking.write-behind.appended/drained/dropped.
+ * The log is local to the node, so it must live on a persistent volume.
+ */
+@Service
+@Slf4j
+public class TrackingEventWriteBehind implements DisposableBean {
+
+    static final String LOG_FILE = "tracking-events.log";
+    static final String CHECKPOINT_FILE = "tracking-events.checkpoint";
+    static final String DEAD_LETTER_FILE = "tracking-events.dead";
+    // Keeps log ids apart from scanner-assigned scan ids
+    static final String LOG_ID_PREFIX = "log:";
+    private static final int READ_CHUNK = 64 * 1024;
+    // Limits of the tracking_events columns (TrackingEvent)
+    static final int MAX_STATUS_LENGTH = 50;
+    static final int MAX_LOCATION_NAME_LENGTH = 200;
+    static final int MAX_DESCRIPTION_BYTES = 65535;
+
+    private final boolean enabled;
+    private final TrackingEventRepository trackingEventRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryInterval;
+    private final long compactSize;
+    private final boolean fsync;
+
+    private final Path checkpointFile;
+    private final Path deadLetterFile;
+    private final FileChannel channel;
+    // End of the last complete line; appends are serialized on this object
+    private volatile long endOffset;
+    // Only moved by the drain thread (or a test calling drainOnce)
+    private volatile long drainedOffset;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile boolean running;
+    private Thread drainer;
+
+    private final Counter appended;
+    private final Counter drained;
+    private final Counter dropped;
+    private final Timer lag;
+
+    public TrackingEventWriteBehind(
+            TrackingEventRepository trackingEventRepository,
+            OrderRepository orderRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${tracking.write-behind.enabled:false}") boolean enabled,
+            @Value("${tracking.write-behind.dir:./data/tracking-wal}") Path dir,
+            @Value("${tracking.write-behind.batch-size:200}") int batchSize,
+            @Value("${tracking.write-behind.poll-interval:PT0.05S}") Duration pollInterval,
+            @Value("${tracking.write-behind.retry-interval:PT5S}") Duration retryInterval,
+            @Value("${tracking.write-behind.compact-size:16MB}") DataSize compactSize,
+            @Value("${tracking.write-behind.fsync:true}") boolean fsync
+    ) {
+        this.enabled = enabled;
+        this.trackingEventRepository = trackingEventRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryInterval = retryInterval;
+        this.compactSize = compactSize.toBytes();
+        this.fsync = fsync;
+        this.checkpointFile = dir.resolve(CHECKPOINT_FILE);
+        this.deadLetterFile = dir.resolve(DEAD_LETTER_FILE);
+
+        this.appended = Counter.builder("tracking.write-behind.appended")
+                .description("Tracking events accepted into the write-behind log")
+                .register(meterRegistry);
+        this.drained = Counter.builder("tracking.write-behind.drained")
+                .description("Tracking events inserted from the write-behind log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tracking.write-behind.dropped")
+                .description("Logged tracking events that could not be inserted (order gone, refused by the database or unreadable line)")
+                .register(meterRegistry);
+        this.lag = Timer.builder("tracking.write-behind.lag")
+                .description("Time from accepting a tracking event to committing it")
+                .register(meterRegistry);
+        Gauge.builder("tracking.write-behind.pending", pending, AtomicLong::get)
+                .description("Logged tracking events not yet inserted")
+                .register(meterRegistry);
+        Gauge.builder("tracking.write-behind.pending.bytes", this, w -> w.endOffset - w.drainedOffset)
+                .description("Size of the undrained part of the write-behind log")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            this.channel = null;
+            return;
+        }
+        try {
+            Files.createDirectories(dir);
+            this.channel = FileChannel.open(dir.resolve(LOG_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open tracking write-behind log in " + dir, e);
+        }
+    }
+
+    /** A tracking event as written to the log. */
+    public record LogRecord(UUID id, UUID orderId, String status, String description, String locationName,
+                     LocalDateTime eventTime, Instant appendedAt) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    long pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Append an event to the log; once this returns the event survives a crash.
+     * An event that the tracking_events table would refuse is rejected here, before it is acknowledged.
+     */
+    public LogRecord append(UUID orderId, String status, String description, String locationName,
+                            LocalDateTime eventTime) {
+        if (!enabled) {
+            throw new IllegalStateException("Tracking write-behind is disabled");
+        }
+        String violation = validate(orderId, status, description, locationName, eventTime);
+        if (violation != null) {
+            throw DomainStatusException.badRequest(violation, "INVALID_TRACKING_EVENT");
+        }
+        LogRecord record = new LogRecord(UUID.randomUUID(), orderId, status, description, locationName,
+                eventTime, Instant.now());
+        byte[] line = encode(record);
+        synchronized (this) {
+            if (!channel.isOpen()) {
+                throw DomainStatusException.serviceUnavailable("Tracking log is shutting down", "TRACKING_LOG_CLOSED");
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                long position = endOffset;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                if (fsync) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                // Nothing past endOffset is ever read, so a partial line is overwritten by the next append
+                throw new UncheckedIOException("Cannot append to tracking write-behind log", e);
+            }
+            endOffset += line.length;
+        }
+        pending.incrementAndGet();
+        appended.increment();
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        return record;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || drainer != null) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "tracking-write-behind");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException, IOException {
+        running = false;
+        Thread thread = drainer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (channel != null) {
+            synchronized (this) {
+                channel.close();
+            }
+        }
+        if (pending.get() > 0) {
+            log.info("Tracking write-behind stopped with {} events pending; they are drained on next start", pending.get());
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                if (drainOnce() == 0) {
+                    LockSupport.parkNanos(pollInterval.toNanos());
+                }
+            } catch (RuntimeException | IOException e) {
+                log.warn("Draining tracking write-behind log failed ({} events pending), retrying in {}",
+                        pending.get(), retryInterval, e);
+                LockSupport.parkNanos(retryInterval.toNanos());
+            }
+        }
+    }
+
+    /**
+     * Insert the next micro-batch and advance the checkpoint.
+     * @return the number of log lines consumed
+     */
+    int drainOnce() throws IOException {
+        Batch batch = readBatch();
+        if (batch.lines() == 0) {
+            return 0;
+        }
+        List<LogRecord> records = batch.records();
+        if (!records.isEmpty()) {
+            insertBatch(records);
+            Instant now = Instant.now();
+            for (LogRecord record : records) {
+                lag.record(Duration.between(record.appendedAt(), now));
+            }
+        }
+        drainedOffset = batch.endOffset();
+        writeCheckpoint(drainedOffset);
+        pending.addAndGet(-batch.lines());
+        compactIfDrained();
+        return batch.lines();
+    }
+
+    private void insertBatch(List<LogRecord> records) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(records));
+        } catch (DataIntegrityViolationException e) {
+            // Retrying the batch would fail the same way forever: find the refused events one at a time.
+            // A transient failure here propagates and the whole batch is retried; events inserted
+            // meanwhile are skipped by their log id
+            log.warn("Tracking write-behind batch of {} events was refused, inserting them one by one", records.size());
+            for (LogRecord record : records) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(record)));
+                } catch (DataIntegrityViolationException refused) {
+                    deadLetter(record, refused);
+                }
+            }
+        }
+    }
+
+    private void deadLetter(LogRecord record, DataIntegrityViolationException cause) throws IOException {
+        log.error("Moving logged tracking event {} of order {} to {}: refused by the database",
+                record.id(), record.orderId(), deadLetterFile, cause);
+        try (FileChannel out = FileChannel.open(deadLetterFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encode(record));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        }
+        dropped.increment();
+    }
+
+    private void insert(List<LogRecord> records) {
+        Set<String> logIds = records.stream().map(r -> LOG_ID_PREFIX + r.id()).collect(Collectors.toSet());
+        // Events inserted just before a crash, whose checkpoint was not written yet
+        Set<String> stored = trackingEventRepository.findByScanIdIn(logIds).stream()
+                .map(TrackingEventRepository.ScanIdRow::getScanId)
+                .collect(Collectors.toSet());
+        Set<UUID> orderIds = records.stream().map(LogRecord::orderId).collect(Collectors.toSet());
+        Map<UUID, Order> orders = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<TrackingEvent> events = new ArrayList<>(records.size());
+        for (LogRecord record : records) {
+            String logId = LOG_ID_PREFIX + record.id();
+            if (stored.contains(logId)) {
+                continue;
+            }
+            Order order = orders.get(record.orderId());
+            if (order == null) {
+                log.warn("Dropping logged tracking event {}: order {} no longer exists", record.id(), record.orderId());
+                dropped.increment();
+                continue;
+            }
+            events.add(TrackingEvent.builder()
+                    .order(order)
+                    .scanId(logId)
+                    .status(record.status())
+                    .description(record.description())
+                    .locationName(record.locationName())
+                    .eventTime(record.eventTime())
+                    .build());
+        }
+        trackingEventRepository.saveAll(events);
+        eventPublisher.publishEvent(new TrackingEventsWrittenEvent(events));
+        drained.increment(events.size());
+    }
+
+    private record Batch(List<LogRecord> records, int lines, long endOffset) {
+    }
+
+    private Batch readBatch() throws IOException {
+        long position = drainedOffset;
+        long end = endOffset;
+        long consumed = position;
+        List<LogRecord> records = new ArrayList<>();
+        int lines = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+        while (position < end && lines < batchSize) {
+            buffer.clear().limit((int) Math.min(READ_CHUNK, end - position));
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining() && lines < batchSize) {
+                byte b = buffer.get();
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                LogRecord record = decode(line.toByteArray());
+                if (record != null) {
+                    records.add(record);
+                } else {
+                    log.error("Skipping unreadable line in tracking write-behind log at offset {}", consumed);
+                    dropped.increment();
+                }
+                lines++;
+                line.reset();
+                consumed = position;
+            }
+        }
+        return new Batch(records, lines, consumed);
+    }
+
+    // Truncate the log once everything in it has been inserted, so it does not grow without bound
+    private void compactIfDrained() throws IOException {
+        if (drainedOffset < compactSize) {
+            return;
+        }
+        synchronized (this) {
+            if (drainedOffset != endOffset) {
+                return;
+            }
+            channel.truncate(0);
+            channel.force(true);
+            endOffset = 0;
+            drainedOffset = 0;
+            writeCheckpoint(0);
+        }
+    }
+
+    // Finds the undrained records and cuts off a torn line left by a crash during an append. Only an
+    // unterminated last line can be torn: a complete line that fails its check was acknowledged along with
+    // everything after it, so it is counted here and skipped (and dropped) when drained
+    private void recover() throws IOException {
+        long size = channel.size();
+        long checkpoint = readCheckpoint();
+        if (checkpoint > size) {
+            // Crashed between truncating the log and resetting the checkpoint
+            checkpoint = 0;
+        }
+        drainedOffset = checkpoint;
+        endOffset = size;
+
+        long position = checkpoint;
+        long validEnd = checkpoint;
+        long records = 0;
+        long unreadable = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                if (decode(line.toByteArray()) == null) {
+                    log.error("Unreadable line in tracking write-behind log at offset {}; it is skipped when drained",
+                            validEnd);
+                    unreadable++;
+                }
+                records++;
+                validEnd = position;
+                line.reset();
+            }
+        }
+        if (validEnd < size) {
+            log.warn("Cutting {} bytes of incomplete data off the end of the tracking write-behind log", size - validEnd);
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        endOffset = validEnd;
+        pending.set(records);
+        if (records > 0) {
+            log.info("Recovered {} undrained tracking events from the write-behind log ({} unreadable)",
+                    records - unreadable, unreadable);
+        }
+    }
+
+    // Null when the event fits the tracking_events columns, otherwise the reason it does not
+    static String validate(UUID orderId, String status, String description, String locationName,
+                           LocalDateTime eventTime) {
+        if (orderId == null) {
+            return "Order id is required";
+        }
+        if (status == null || status.isBlank()) {
+            return "Status is required";
+        }
+        if (status.length() > MAX_STATUS_LENGTH) {
+            return "Status must be at most " + MAX_STATUS_LENGTH + " characters";
+        }
+        if (description == null) {
+            return "Description is required";
+        }
+        if (description.getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            return "Description must be at most " + MAX_DESCRIPTION_BYTES + " bytes";
+        }
+        if (locationName != null && locationName.length() > MAX_LOCATION_NAME_LENGTH) {
+            return "Location name must be at most " + MAX_LOCATION_NAME_LENGTH + " characters";
+        }
+        if (eventTime == null) {
+            return "Event time is required";
+        }
+        return null;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String value = Files.readString(checkpointFile, StandardCharsets.US_ASCII).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        // Write and rename, so a crash leaves either the old or the new checkpoint
+        Path temp = checkpointFile.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private byte[] encode(LogRecord record) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(record);
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            byte[] prefix = String.format("%08x ", crc.getValue()).getBytes(StandardCharsets.US_ASCII);
+            byte[] line = new byte[prefix.length + json.length + 1];
+            System.arraycopy(prefix, 0, line, 0, prefix.length);
+            System.arraycopy(json, 0, line, prefix.length, json.length);
+            line[line.length - 1] = '\n';
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private LogRecord decode(byte[] line) {
+        if (line.length < 10 || line[8] != ' ') {
+            return null;
+        }
+        try {
+            long expected = Long.parseLong(new String(line, 0, 8, StandardCharsets.US_ASCII), 16);
+            CRC32 crc = new CRC32();
+            crc.update(line, 9, line.length - 9);
+            if (crc.getValue() != expected) {
+                return null;
+            }
+            return objectMapper.readValue(line, 9, line.length - 9, LogRecord.class);
+        } catch (NumberFormatException | IOException e) {
+            return null;
+        }
+    }
+}
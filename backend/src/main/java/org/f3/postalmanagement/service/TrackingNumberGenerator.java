@@ -1,37 +1,132 @@
 package org.f3.postalmanagement.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 /**
  * Service for generating unique tracking numbers for orders.
- * Uses atomic counter to prevent race conditions in concurrent environments.
+ * Snowflake-style: the 17 digits encode a millisecond timestamp, the node id of this
+ * backend replica and a per-millisecond sequence, so replicas never collide.
+ * Lock-free: the last issued (timestamp, sequence) pair lives in a single AtomicLong.
  */
 @Slf4j
 @Service
 public class TrackingNumberGenerator {
     
     private static final String PREFIX = "VN";
-    private static final int SEQUENCE_MODULO = 10000;
+    private static final int DIGITS = 17;
+
+    // 41 bits timestamp | 5 bits node | 10 bits sequence = 56 bits < 10^17
+    static final int SEQUENCE_BITS = 10;
+    static final int NODE_BITS = 5;
+    static final int TIMESTAMP_BITS = 41;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /** Custom epoch 2024-01-01T00:00:00Z; 41 bits of milliseconds last until 2093. */
+    static final long EPOCH_MILLIS = 1704067200000L;
+
+    /**
+     * When the sequence runs out within a millisecond, the next millisecond is borrowed
+     * instead of waiting. The logical clock may run at most this far ahead of the wall clock.
+     */
+    static final long MAX_BORROW_MILLIS = 50;
+
+    /** Clock rollbacks larger than this fail fast rather than stalling request threads. */
+    static final long MAX_ROLLBACK_WAIT_MILLIS = 5000;
+
+    private final int nodeId;
+    private final LongSupplier clock;
+
+    // (timestamp << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong lastState = new AtomicLong(0);
     
-    private final AtomicLong counter = new AtomicLong(0);
+    // No default: replicas sharing a node id could issue the same tracking number
+    @Autowired
+    public TrackingNumberGenerator(@Value("${tracking-number.node-id}") int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TrackingNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "Tracking number node id must be between 0 and " + MAX_NODE_ID + ", got " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
     
     /**
      * Generates a unique tracking number.
-     * Format: VN{timestamp}{4-digit-sequence}
-     * Example: VN17369123450001
+     * Format: VN{17 digits}, the zero-padded decimal of (timestamp | node | sequence)
+     * Example: VN00024690321940481
      * 
      * @return unique tracking number
      */
     public String generate() {
-        long timestamp = System.currentTimeMillis();
-        long sequence = counter.incrementAndGet() % SEQUENCE_MODULO;
-        String trackingNumber = String.format("%s%d%04d", PREFIX, timestamp, sequence);
-        
-        log.debug("Generated tracking number: {}", trackingNumber);
-        return trackingNumber;
+        return format(nextId());
+    }
+
+    /**
+     * Next id as a number: strictly increasing for this generator, unique across nodes.
+     */
+    long nextId() {
+        long waitStarted = 0;
+        while (true) {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+
+            // New millisecond starts at sequence 0; otherwise continue after the last id.
+            // A sequence overflow carries into the timestamp, i.e. borrows the next millisecond,
+            // and a clock that moved backwards keeps counting from the last issued id.
+            long next = now > lastTimestamp ? now << SEQUENCE_BITS : last + 1;
+            long ahead = (next >>> SEQUENCE_BITS) - now;
+
+            if (ahead > MAX_BORROW_MILLIS) {
+                if (waitStarted == 0) {
+                    waitStarted = System.nanoTime();
+                    log.warn("Tracking number clock is {} ms ahead of system time, waiting", ahead);
+                } else if (System.nanoTime() - waitStarted > TimeUnit.MILLISECONDS.toNanos(MAX_ROLLBACK_WAIT_MILLIS)) {
+                    throw new IllegalStateException(
+                        "System clock moved backwards by " + ahead + " ms, refusing to generate tracking numbers");
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                continue;
+            }
+
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * Formats the id as VN + 17 zero-padded digits without String.format.
+     */
+    static String format(long id) {
+        char[] chars = new char[PREFIX.length() + DIGITS];
+        chars[0] = 'V';
+        chars[1] = 'N';
+        long remaining = id;
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = (char) ('0' + (remaining % 10));
+            remaining /= 10;
+        }
+        return new String(chars);
+    }
+
+    public int getNodeId() {
+        return nodeId;
     }
     
     /**
@@ -45,7 +140,16 @@ public class TrackingNumberGenerator {
             return false;
         }
         
-        // Format: VN + 13 digits (timestamp) + 4 digits (sequence) = VN + 17 digits
-        return trackingNumber.matches("^VN\\d{17}$");
+        // Format: VN + 17 digits
+        if (trackingNumber.length() != PREFIX.length() + DIGITS || !trackingNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        for (int i = PREFIX.length(); i < trackingNumber.length(); i++) {
+            char c = trackingNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 }
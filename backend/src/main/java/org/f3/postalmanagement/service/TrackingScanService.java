@@ -0,0 +1,206 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.dto.request.order.ScanEventRequest;
+import org.f3.postalmanagement.dto.response.order.ScanResultResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.repository.OfficeRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Records parcel scans in bulk. Orders, offices and already recorded scan ids are each resolved
+ * with one IN query, and the new events are inserted in JDBC batches (hibernate.jdbc.batch_size).
+ * Scan ids make submissions idempotent: a scan recorded before is reported as a duplicate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrackingScanService {
+
+    private final TrackingEventRepository trackingEventRepository;
+    private final OrderRepository orderRepository;
+    private final OfficeRepository officeRepository;
+    private final TrackingService trackingService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    /**
+     * Record the scans; results are returned in input order.
+     */
+    public List<ScanResultResponse> recordScans(List<ScanEventRequest> scans) {
+        try {
+            return transactionTemplate.execute(status -> record(scans));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent submission stored some of the same scan ids first; they are duplicates now
+            log.info("Scan batch conflicted with a concurrent submission, retrying");
+            return transactionTemplate.execute(status -> record(scans));
+        }
+    }
+
+    private List<ScanResultResponse> record(List<ScanEventRequest> scans) {
+        int size = scans.size();
+        ScanResultResponse[] results = new ScanResultResponse[size];
+
+        // 1. Validate each scan and collect the keys to resolve
+        Set<String> scanIds = new HashSet<>();
+        Set<String> trackingNumbers = new HashSet<>();
+        Set<UUID> officeIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            ScanEventRequest scan = scans.get(i);
+            String violation = validate(scan);
+            if (violation != null) {
+                results[i] = failedResult(i, scan, "VALIDATION_ERROR", violation);
+                continue;
+            }
+            scanIds.add(scan.getScanId());
+            trackingNumbers.add(scan.getTrackingNumber());
+            if (scan.getOfficeId() != null) {
+                officeIds.add(scan.getOfficeId());
+            }
+        }
+
+        // 2. One query each
+        Map<String, UUID> recordedScans = scanIds.isEmpty() ? Map.of() : trackingEventRepository.findByScanIdIn(scanIds)
+                .stream()
+                .collect(Collectors.toMap(TrackingEventRepository.ScanIdRow::getScanId,
+                        TrackingEventRepository.ScanIdRow::getEventId));
+        Map<String, Order> ordersByTrackingNumber = trackingNumbers.isEmpty() ? Map.of() : orderRepository
+                .findByTrackingNumberIn(trackingNumbers)
+                .stream()
+                .collect(Collectors.toMap(Order::getTrackingNumber, Function.identity()));
+        Set<UUID> knownOffices = officeIds.isEmpty() ? Set.of() : new HashSet<>(officeRepository.findExistingIds(officeIds));
+
+        // 3. Build the new events; a scan id repeated within the batch refers to its first occurrence
+        List<TrackingEvent> events = new ArrayList<>();
+        Map<String, TrackingEvent> batchScans = new HashMap<>();
+        TrackingEvent[] eventAt = new TrackingEvent[size];
+        boolean[] repeated = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ScanEventRequest scan = scans.get(i);
+            UUID recordedEventId = recordedScans.get(scan.getScanId());
+            if (recordedEventId != null) {
+                results[i] = duplicateResult(i, scan, recordedEventId);
+                continue;
+            }
+            TrackingEvent first = batchScans.get(scan.getScanId());
+            if (first != null) {
+                eventAt[i] = first;
+                repeated[i] = true;
+                continue;
+            }
+            Order order = ordersByTrackingNumber.get(scan.getTrackingNumber());
+            if (order == null) {
+                results[i] = failedResult(i, scan, "ORDER_NOT_FOUND", "No order with tracking number " + scan.getTrackingNumber());
+                continue;
+            }
+            if (scan.getOfficeId() != null && !knownOffices.contains(scan.getOfficeId())) {
+                results[i] = failedResult(i, scan, "OFFICE_NOT_FOUND", "No office with id " + scan.getOfficeId());
+                continue;
+            }
+            TrackingEvent event = TrackingEvent.builder()
+                    .order(order)
+                    .scanId(scan.getScanId())
+                    .status(scan.getStatus())
+                    .description(scan.getDescription() != null ? scan.getDescription() : describe(scan))
+                    .locationName(scan.getLocationName())
+                    // Existence checked above; the reference avoids loading each office
+                    .office(scan.getOfficeId() != null ? officeRepository.getReferenceById(scan.getOfficeId()) : null)
+                    .eventTime(scan.getScannedAt())
+                    .build();
+            events.add(event);
+            batchScans.put(scan.getScanId(), event);
+            eventAt[i] = event;
+        }
+
+        // 4. Insert in JDBC batches; ids are assigned on persist, before the flush at commit
+        trackingEventRepository.saveAll(events);
+        for (TrackingEvent event : events) {
+            trackingService.trackingEventAdded(event.getOrder(), OrderDtoMapper.toEventResponse(event));
+        }
+
+        int duplicates = 0;
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            if (results[i] == null) {
+                ScanEventRequest scan = scans.get(i);
+                results[i] = repeated[i]
+                        ? duplicateResult(i, scan, eventAt[i].getId())
+                        : ScanResultResponse.builder()
+                                .index(i)
+                                .scanId(scan.getScanId())
+                                .success(true)
+                                .eventId(eventAt[i].getId())
+                                .build();
+            }
+            if (results[i].isDuplicate()) {
+                duplicates++;
+            } else if (!results[i].isSuccess()) {
+                failed++;
+            }
+        }
+        log.info("Recorded {} scans ({} duplicates, {} failed)", events.size(), duplicates, failed);
+        return Arrays.asList(results);
+    }
+
+    private String validate(ScanEventRequest scan) {
+        if (scan == null) {
+            return "Scan is required";
+        }
+        Set<ConstraintViolation<ScanEventRequest>> violations = validator.validate(scan);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String describe(ScanEventRequest scan) {
+        return scan.getLocationName() != null
+                ? "Scanned " + scan.getStatus() + " at " + scan.getLocationName()
+                : "Scanned " + scan.getStatus();
+    }
+
+    private static ScanResultResponse duplicateResult(int index, ScanEventRequest scan, UUID eventId) {
+        return ScanResultResponse.builder()
+                .index(index)
+                .scanId(scan.getScanId())
+                .success(true)
+                .duplicate(true)
+                .eventId(eventId)
+                .build();
+    }
+
+    private static ScanResultResponse failedResult(int index, ScanEventRequest scan, String errorCode, String message) {
+        return ScanResultResponse.builder()
+                .index(index)
+                .scanId(scan != null ? scan.getScanId() : null)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+}
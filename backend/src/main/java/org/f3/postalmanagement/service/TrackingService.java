@@ -2,51 +2,145 @@ package org.f3.postalmanagement.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.f3.postalmanagement.config.CacheConfig;
 import org.f3.postalmanagement.dto.response.order.OrderResponse;
 import org.f3.postalmanagement.dto.response.order.TrackingEventResponse;
 import org.f3.postalmanagement.dto.response.order.TrackingResponse;
+import org.f3.postalmanagement.dto.response.order.TrackingUpdateResponse;
+import org.f3.postalmanagement.entity.order.ArchivedTrackingEvent;
 import org.f3.postalmanagement.entity.order.Order;
 import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.order.TrackingEventsWrittenEvent;
 import org.f3.postalmanagement.entity.actor.Account;
 import org.f3.postalmanagement.entity.actor.Employee;
+import org.f3.postalmanagement.repository.ArchivedTrackingEventRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.repository.OrderRepository;
 import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository.TimelineRow;
 import org.f3.postalmanagement.utils.SecurityUtils;
-import org.springframework.data.domain.Sort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TrackingService {
 
     private final TrackingEventRepository trackingEventRepository;
+    private final ArchivedTrackingEventRepository archivedTrackingEventRepository;
     private final OrderRepository orderRepository;
     private final EmployeeRepository employeeRepository;
+    private final CacheManager cacheManager;
+    private final TrackingUpdateBroadcaster trackingUpdateBroadcaster;
+    private final TrackingEventWriteBehind trackingEventWriteBehind;
     // We reuse OrderService mapper if possible, or duplicate/inject it.
     // Ideally we duplicate mapper logic or make it utility to avoid circular dep if OrderService uses TrackingService later.
     // For now I'll implement mapping logic here to be safe and fast.
     
+    /**
+     * Public tracking page, read with a single query and cached by tracking number.
+     * Finished orders may have part of their history in the archive, which is read as well.
+     * The entry is evicted when an event is added or the order status changes.
+     */
+    @Cacheable(cacheNames = CacheConfig.TRACKING_CACHE, key = "#trackingNumber")
     public TrackingResponse getTrackingInfo(String trackingNumber) {
-        Order order = orderRepository.findByTrackingNumber(trackingNumber)
-                .orElseThrow(() -> new RuntimeException("Order not found with tracking number: " + trackingNumber));
-        
-        List<TrackingEvent> events = trackingEventRepository.findByOrderId(order.getId(), Sort.by("eventTime").descending());
-        
+        List<TimelineRow> rows = trackingEventRepository.findTimelineByTrackingNumber(trackingNumber);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Order not found with tracking number: " + trackingNumber);
+        }
+
+        List<TrackingEventResponse> events = new ArrayList<>(rows.size());
+        for (TimelineRow row : rows) {
+            if (row.getEventId() != null) {
+                events.add(mapRowToEventResponse(row));
+            }
+        }
+        TimelineRow header = rows.get(0);
+        if (TrackingEventArchiver.ARCHIVABLE_STATUSES.contains(header.getOrderStatus())) {
+            events = withArchivedEvents(header, events);
+        }
+
         return TrackingResponse.builder()
-                .order(mapOrderToResponse(order))
-                .events(events.stream().map(this::mapEventToResponse).collect(Collectors.toList()))
+                .order(mapRowToOrderResponse(header))
+                .events(events)
+                .version(version(header, events))
                 .build();
     }
 
+    /**
+     * Drop the cached tracking page of an order. Inside a transaction this applies once it commits.
+     */
+    public void evictTrackingInfo(String trackingNumber) {
+        Cache cache = cacheManager.getCache(CacheConfig.TRACKING_CACHE);
+        if (cache != null) {
+            cache.evict(trackingNumber);
+        }
+    }
+
+    /**
+     * Called after an order status transition: refreshes the tracking page and notifies subscribers.
+     */
+    public void orderStatusChanged(Order order) {
+        evictTrackingInfo(order.getTrackingNumber());
+        trackingUpdateBroadcaster.publish(TrackingUpdateResponse.builder()
+                .trackingNumber(order.getTrackingNumber())
+                .orderStatus(order.getStatus().name())
+                .build());
+    }
+
+    /**
+     * Called after a tracking event is saved: refreshes the tracking page and notifies subscribers.
+     */
+    public void trackingEventAdded(Order order, TrackingEventResponse event) {
+        evictTrackingInfo(order.getTrackingNumber());
+        trackingUpdateBroadcaster.publish(TrackingUpdateResponse.builder()
+                .trackingNumber(order.getTrackingNumber())
+                .orderStatus(order.getStatus().name())
+                .event(event)
+                .build());
+    }
+
+    /**
+     * Events accepted by the write-behind log have been inserted.
+     */
+    @EventListener
+    public void onTrackingEventsWritten(TrackingEventsWrittenEvent written) {
+        for (TrackingEvent event : written.events()) {
+            trackingEventAdded(event.getOrder(), mapEventToResponse(event));
+        }
+    }
+
+    /**
+     * Record a tracking event. In write-behind mode the event is only appended to the local log and
+     * inserted shortly afterwards; the returned response then has no id yet.
+     */
     @Transactional
     public TrackingEventResponse addTrackingEvent(UUID orderId, String status, String description, String locationName) {
+        if (trackingEventWriteBehind.isEnabled()) {
+            if (!orderRepository.existsById(orderId)) {
+                throw new RuntimeException("Order not found");
+            }
+            TrackingEventWriteBehind.LogRecord logged = trackingEventWriteBehind.append(
+                    orderId, status, description, locationName, LocalDateTime.now());
+            return TrackingEventResponse.builder()
+                    .status(logged.status())
+                    .description(logged.description())
+                    .locationName(logged.locationName())
+                    .eventTime(logged.eventTime())
+                    .build();
+        }
+
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
         
@@ -67,34 +161,77 @@ public class TrackingService {
                 .build();
         
         TrackingEvent saved = trackingEventRepository.save(event);
-        return mapEventToResponse(saved);
+        TrackingEventResponse response = mapEventToResponse(saved);
+        trackingEventAdded(order, response);
+        return response;
     }
     
     // Mapper methods
     private TrackingEventResponse mapEventToResponse(TrackingEvent event) {
-         return TrackingEventResponse.builder()
-                 .id(event.getId())
-                 .status(event.getStatus())
-                 .description(event.getDescription())
-                 .locationName(event.getLocationName())
-                 .officeId(event.getOffice() != null ? event.getOffice().getId() : null)
-                 .eventTime(event.getEventTime())
-                 .build();
+        return OrderDtoMapper.toEventResponse(event);
     }
     
-    private OrderResponse mapOrderToResponse(Order order) {
-        // Simplified mapping or duplicate from OrderService
+    private TrackingEventResponse mapRowToEventResponse(TimelineRow row) {
+        return TrackingEventResponse.builder()
+                .id(row.getEventId())
+                .status(row.getEventStatus())
+                .description(row.getDescription())
+                .locationName(row.getLocationName())
+                .officeId(row.getOfficeId())
+                .eventTime(row.getEventTime())
+                .build();
+    }
+
+    // Archived events are read after the hot ones, so one archived in between shows up in both lists
+    private List<TrackingEventResponse> withArchivedEvents(TimelineRow header, List<TrackingEventResponse> hotEvents) {
+        LocalDateTime createdAt = header.getOrderCreatedAt();
+        int fromMonth = createdAt != null ? createdAt.getYear() * 100 + createdAt.getMonthValue() : 0;
+        List<ArchivedTrackingEvent> archived = archivedTrackingEventRepository.findTimeline(header.getOrderId(), fromMonth);
+        if (archived.isEmpty()) {
+            return hotEvents;
+        }
+        Set<UUID> hotIds = new HashSet<>();
+        List<TrackingEventResponse> events = new ArrayList<>(hotEvents.size() + archived.size());
+        for (TrackingEventResponse event : hotEvents) {
+            hotIds.add(event.getId());
+            events.add(event);
+        }
+        for (ArchivedTrackingEvent event : archived) {
+            if (!hotIds.contains(event.getId())) {
+                events.add(mapArchivedEventToResponse(event));
+            }
+        }
+        events.sort(Comparator.comparing(TrackingEventResponse::getEventTime).reversed());
+        return events;
+    }
+
+    private TrackingEventResponse mapArchivedEventToResponse(ArchivedTrackingEvent event) {
+        return TrackingEventResponse.builder()
+                .id(event.getId())
+                .status(event.getStatus())
+                .description(event.getDescription())
+                .locationName(event.getLocationName())
+                .officeId(event.getOfficeId())
+                .eventTime(event.getEventTime())
+                .build();
+    }
+
+    private OrderResponse mapRowToOrderResponse(TimelineRow row) {
+        // Public tracking page: no addresses or phone numbers
         return OrderResponse.builder()
-                .id(order.getId())
-                .trackingNumber(order.getTrackingNumber())
-                .status(order.getStatus().name())
-                .senderName(order.getSenderName())
-                .receiverName(order.getReceiverName())
-                // ... map other fields as needed for public tracking ...
-                // Usually tracking page shows: Dates, Status, Locations. Maybe not full address/phone for privacy?
-                // But simplified MVP: show what we have.
-                .senderWardCode(order.getSenderWardCode())
-                .receiverWardCode(order.getReceiverWardCode())
+                .id(row.getOrderId())
+                .trackingNumber(row.getTrackingNumber())
+                .status(row.getOrderStatus().name())
+                .senderName(row.getSenderName())
+                .receiverName(row.getReceiverName())
+                .senderWardCode(row.getSenderWardCode())
+                .receiverWardCode(row.getReceiverWardCode())
                 .build();
     }
+
+    // Events are append-only, so status, event count and newest event identify the page content
+    private static String version(TimelineRow header, List<TrackingEventResponse> events) {
+        String latestEvent = events.isEmpty() ? "0" : events.get(0).getId().toString();
+        return header.getOrderStatus().name() + "-" + events.size() + "-" + latestEvent;
+    }
 }
@@ -0,0 +1,239 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.f3.postalmanagement.dto.response.order.TrackingUpdateResponse;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pushes tracking updates to STOMP subscribers of /topic/tracking/{trackingNumber} and to SSE streams.
+ * Publishing never blocks on a client: STOMP sessions are written by the outbound channel through
+ * bounded per-session buffers (WebSocketConfig), and each SSE stream has its own bounded queue drained
+ * on a small pool. A stream whose queue overflows is closed; the client reconnects and gets a fresh snapshot.
+ * Updates reach clients connected to this node only.
+ * Metrics: tracking.push.sse.subscribers, tracking.push.sse.dropped and executor.* (tag name=tracking.push).
+ */
+@Service
+@Slf4j
+public class TrackingUpdateBroadcaster implements DisposableBean {
+
+    public static final String TOPIC_PREFIX = "/topic/tracking/";
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String UPDATE_EVENT = "update";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final Duration sseTimeout;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final ExecutorService executor;
+    private final Counter dropped;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public TrackingUpdateBroadcaster(
+            SimpMessageSendingOperations messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${tracking.push.sse.timeout:PT30M}") Duration sseTimeout,
+            @Value("${tracking.push.sse.queue-capacity:16}") int queueCapacity,
+            @Value("${tracking.push.sse.max-subscribers:10000}") int maxSubscribers,
+            @Value("${tracking.push.sse.threads:4}") int threads
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.sseTimeout = sseTimeout;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // At most one drain task per stream is queued, so the queue is bounded by max-subscribers
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tracking-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        new ExecutorServiceMetrics(executor, "tracking.push", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("tracking.push.sse.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open tracking SSE streams")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("tracking.push.sse.dropped")
+                .description("Tracking SSE streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open an SSE stream for a tracking number, starting with a snapshot.
+     * The snapshot is read only once the stream is registered, so an update published meanwhile is not lost:
+     * it is held back and sent after the snapshot. A snapshot that cannot be read closes the stream and is rethrown.
+     */
+    public SseEmitter subscribe(String trackingNumber, Supplier<?> snapshot) {
+        return subscribe(trackingNumber, snapshot, new SseEmitter(sseTimeout.toMillis()));
+    }
+
+    SseEmitter subscribe(String trackingNumber, Supplier<?> snapshot, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw DomainStatusException.serviceUnavailable(
+                    "Too many tracking streams, please poll instead", "TRACKING_STREAMS_EXHAUSTED");
+        }
+        Subscriber subscriber = new Subscriber(trackingNumber, emitter, queueCapacity);
+        // Added inside compute so a concurrent remove cannot drop the set it is being added to
+        subscribers.compute(trackingNumber, (key, streams) -> {
+            Set<Subscriber> updated = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        Object data;
+        try {
+            data = snapshot.get();
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+        // Updates queued while the snapshot was read go after it
+        if (!subscriber.queue.offerFirst(SseEmitter.event().name(SNAPSHOT_EVENT).data(data))) {
+            close(subscriber);
+            return emitter;
+        }
+        subscriber.started = true;
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Push an update to every subscriber of its tracking number.
+     * Inside a transaction the update is sent only once it commits.
+     */
+    public void publish(TrackingUpdateResponse update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(update);
+                }
+            });
+        } else {
+            send(update);
+        }
+    }
+
+    /**
+     * Number of open SSE streams.
+     */
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void send(TrackingUpdateResponse update) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + update.getTrackingNumber(), update);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish tracking update for {}", update.getTrackingNumber(), e);
+        }
+        Set<Subscriber> streams = subscribers.get(update.getTrackingNumber());
+        if (streams != null) {
+            for (Subscriber subscriber : streams) {
+                offer(subscriber, SseEmitter.event().name(UPDATE_EVENT).data(update));
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.queue.offer(event)) {
+            close(subscriber);
+            return;
+        }
+        if (subscriber.started) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        dropped.increment();
+        log.debug("Closing slow tracking stream for {}", subscriber.trackingNumber);
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (Exception e) {
+            // Client went away; the emitter callbacks may not fire for a failed write
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event offered after the last poll but before the flag was cleared would otherwise wait
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.trackingNumber, (key, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    private static final class Subscriber {
+        private final String trackingNumber;
+        private final SseEmitter emitter;
+        private final BlockingDeque<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Set once the snapshot is at the head of the queue; nothing is sent before that
+        private volatile boolean started;
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Subscriber(String trackingNumber, SseEmitter emitter, int queueCapacity) {
+            this.trackingNumber = trackingNumber;
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.f3.postalmanagement.service.impl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.f3.postalmanagement.dto.request.auth.CustomerRegisterRequest;
@@ -15,6 +17,8 @@ import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.entity.actor.Employee;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.service.IAuthService;
+import org.f3.postalmanagement.service.LoginRateLimiter;
+import org.f3.postalmanagement.service.TokenRevocationService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,6 +28,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -36,10 +41,13 @@ public class IAuthServiceImpl implements IAuthService {
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Override
-    public AuthResponse login(String username, String password) {
+    public AuthResponse login(String username, String password, String clientIp) {
         log.info("Login attempt for username: {}", username);
+        loginRateLimiter.acquire(username, clientIp);
 
         Optional<Account> account = accountRepository.findByUsername(username);
 
@@ -112,6 +120,24 @@ public class IAuthServiceImpl implements IAuthService {
         log.info("Customer registered successfully: {}", request.getUsername());
     }
 
+    @Override
+    public void logout(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Logout with an invalid or expired token, nothing to revoke");
+            return;
+        }
+
+        tokenRevocationService.revoke(claims.getId(), UUID.fromString(claims.getSubject()), claims.getExpiration());
+        log.info("Logout for account: {}", claims.getSubject());
+    }
+
     private void createCustomer(CustomerRegisterRequest request, Account account) {
         Customer customer = new Customer();
         customer.setAccount(account);
@@ -7,6 +7,7 @@ import org.f3.postalmanagement.entity.actor.CustomUserDetails;
 import org.f3.postalmanagement.exception.AccountNotFoundException;
 import org.f3.postalmanagement.repository.AccountRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final AccountRepository accountRepository;
 
@@ -39,4 +40,18 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new CustomUserDetails(account);
     }
+
+    /**
+     * Store a rehashed password. Called by the authentication provider after a successful login
+     * whenever the stored hash uses another algorithm or cost than the current encoder.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = accountRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new AccountNotFoundException("User not found: " + user.getUsername()));
+        account.setPassword(newPassword);
+        accountRepository.save(account);
+        log.info("Rehashed password of account {}", account.getId());
+        return new CustomUserDetails(account);
+    }
 }
@@ -9,6 +9,7 @@ import org.f3.postalmanagement.entity.actor.Customer;
 import org.f3.postalmanagement.entity.actor.Employee;
 import org.f3.postalmanagement.entity.unit.Office;
 import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.AccountRepository;
 import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.service.IUserService;
@@ -23,13 +24,17 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserServiceImpl implements IUserService {
 
+    private final AccountRepository accountRepository;
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
 
     @Override
     @Transactional(readOnly = true)
     public Object fetchMe() {
-        Account account = SecurityUtils.getCurrentAccount();
+        // The principal only carries the token's claims; the profile needs the stored account (e.g. its email)
+        Account principal = SecurityUtils.getCurrentAccount();
+        Account account = accountRepository.findById(principal.getId())
+                .orElseThrow(() -> new IllegalStateException("Account not found: " + principal.getId()));
         Role role = account.getRole();
 
         if (role == Role.CUSTOMER) {
@@ -14,6 +14,7 @@ import org.f3.postalmanagement.enums.OfficeType;
 import org.f3.postalmanagement.enums.Role;
 import org.f3.postalmanagement.repository.AccountRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
+import org.f3.postalmanagement.service.AccountTokenStateService;
 import org.f3.postalmanagement.service.IWardManagerService;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +33,7 @@ public class WardManagerServiceImpl implements IWardManagerService {
     private final EmployeeRepository employeeRepository;
     private final AccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountTokenStateService accountTokenStateService;
 
     @Override
     @Transactional
@@ -150,11 +152,15 @@ public class WardManagerServiceImpl implements IWardManagerService {
         // Update details
         employee.setFullName(request.getFullName());
         employee.setPhoneNumber(request.getPhoneNumber());
-        account.setUsername(request.getPhoneNumber());
         account.setEmail(request.getEmail());
+        boolean revoked = accountTokenStateService.updateClaims(
+                account, request.getPhoneNumber(), account.getRole(), account.isActive());
 
         if (request.getPassword() != null && !request.getPassword().isBlank()) {
             account.setPassword(passwordEncoder.encode(request.getPassword()));
+            if (!revoked) {
+                accountTokenStateService.revokeTokens(account);
+            }
         }
 
         accountRepository.save(account);
@@ -185,7 +191,7 @@ public class WardManagerServiceImpl implements IWardManagerService {
 
         // Soft delete Employee and deactivate Account
         Account account = employee.getAccount();
-        account.setActive(false);
+        accountTokenStateService.updateClaims(account, account.getUsername(), account.getRole(), false);
         accountRepository.save(account);
         
         employeeRepository.delete(employee);
@@ -0,0 +1,67 @@
+package org.f3.postalmanagement.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrackingDestinationInterceptor Path Coverage Tests")
+class TrackingDestinationInterceptorTest {
+
+    private final TrackingDestinationInterceptor interceptor = new TrackingDestinationInterceptor();
+
+    private Message<byte[]> frame(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    // ==================== preSend Tests ====================
+    @Nested
+    @DisplayName("preSend()")
+    class PreSendTests {
+
+        @Test
+        @DisplayName("Path 1: Subscription to a single tracking number is allowed")
+        void preSend_TrackingSubscription_Allowed() {
+            Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/tracking/VN12345678901234567");
+
+            assertThat(interceptor.preSend(message, null)).isSameAs(message);
+        }
+
+        @Test
+        @DisplayName("Path 2: Wildcard and foreign subscriptions are refused")
+        void preSend_OtherSubscriptions_Refused() {
+            assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/tracking/**"), null))
+                    .isInstanceOf(MessageDeliveryException.class);
+            assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/tracking/"), null))
+                    .isInstanceOf(MessageDeliveryException.class);
+            assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/orders"), null))
+                    .isInstanceOf(MessageDeliveryException.class);
+        }
+
+        @Test
+        @DisplayName("Path 3: Clients cannot publish to a tracking topic")
+        void preSend_Send_Refused() {
+            assertThatThrownBy(() -> interceptor.preSend(
+                    frame(StompCommand.SEND, "/topic/tracking/VN12345678901234567"), null))
+                    .isInstanceOf(MessageDeliveryException.class);
+        }
+
+        @Test
+        @DisplayName("Path 4: Connection frames pass through")
+        void preSend_Connect_Allowed() {
+            Message<byte[]> message = frame(StompCommand.CONNECT, null);
+
+            assertThat(interceptor.preSend(message, null)).isSameAs(message);
+        }
+    }
+}
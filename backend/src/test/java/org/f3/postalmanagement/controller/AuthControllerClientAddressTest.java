@@ -0,0 +1,68 @@
+package org.f3.postalmanagement.controller;
+
+import org.f3.postalmanagement.dto.response.auth.AuthResponse;
+import org.f3.postalmanagement.service.IAuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Runs on a real Tomcat, since the forwarded address is resolved by its RemoteIpValve
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("AuthController client address tests")
+class AuthControllerClientAddressTest {
+
+    @MockitoBean
+    private IAuthService authService;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private void login(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (forwardedFor != null) {
+            headers.set("X-Forwarded-For", forwardedFor);
+        }
+        restTemplate.postForEntity("/api/auth/login",
+                new HttpEntity<>(Map.of("username", "0900000000", "password", "secret"), headers), String.class);
+    }
+
+    @Test
+    @DisplayName("Path 1: Behind the proxy, logins are limited by the forwarded client address")
+    void login_FromTrustedProxy_UsesForwardedAddress() {
+        when(authService.login(anyString(), anyString(), anyString()))
+                .thenReturn(AuthResponse.builder().token("token").build());
+
+        // The test client connects from loopback, which Tomcat trusts as a proxy
+        login("203.0.113.7, 10.0.0.2");
+
+        verify(authService).login("0900000000", "secret", "203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("Path 2: Without a forwarded header, the connection address is used")
+    void login_Direct_UsesRemoteAddress() {
+        when(authService.login(anyString(), anyString(), anyString()))
+                .thenReturn(AuthResponse.builder().token("token").build());
+
+        login(null);
+
+        ArgumentCaptor<String> clientIp = ArgumentCaptor.forClass(String.class);
+        verify(authService).login(eq("0900000000"), eq("secret"), clientIp.capture());
+        assertThat(clientIp.getValue()).isIn("127.0.0.1", "0:0:0:0:0:0:0:1");
+    }
+}
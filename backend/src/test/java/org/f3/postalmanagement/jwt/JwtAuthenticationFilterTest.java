@@ -0,0 +1,150 @@
+package org.f3.postalmanagement.jwt;
+
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.CustomUserDetails;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.service.AccountTokenStateService;
+import org.f3.postalmanagement.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Path Coverage Tests")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private AccountTokenStateService accountTokenStateService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(JwtUtilTest.properties(86400000L));
+        filter = new JwtAuthenticationFilter(jwtUtil, accountTokenStateService, tokenRevocationService);
+
+        account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setUsername("0900000000");
+        account.setRole(Role.PO_STAFF);
+        account.setActive(true);
+        account.setTokenVersion(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Authentication filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // ==================== doFilterInternal Tests ====================
+    @Nested
+    @DisplayName("doFilterInternal()")
+    class DoFilterInternalTests {
+
+        @Test
+        @DisplayName("Path 1: Valid token - Principal built from the token claims")
+        void doFilter_ValidToken_AuthenticatesFromClaims() throws Exception {
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+
+            Authentication authentication = filter("Bearer " + token);
+
+            assertThat(authentication).isNotNull();
+            CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+            assertThat(principal.getId()).isEqualTo(account.getId());
+            assertThat(principal.getUsername()).isEqualTo("0900000000");
+            assertThat(principal.getAccount().getRole()).isEqualTo(Role.PO_STAFF);
+            assertThat(principal.getAccount().getTokenVersion()).isEqualTo(4);
+            assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_PO_STAFF");
+            verify(accountTokenStateService).isRevoked(account.getId(), 4);
+        }
+
+        @Test
+        @DisplayName("Path 2: Revoked token - Request stays unauthenticated")
+        void doFilter_RevokedToken_NotAuthenticated() throws Exception {
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+            when(accountTokenStateService.isRevoked(account.getId(), 4)).thenReturn(true);
+
+            assertThat(filter("Bearer " + token)).isNull();
+        }
+
+        @Test
+        @DisplayName("Path 3: Token revoked by logout - Request stays unauthenticated")
+        void doFilter_LoggedOutToken_NotAuthenticated() throws Exception {
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+            String jti = jwtUtil.parseClaims(token).getId();
+            when(tokenRevocationService.isRevoked(eq(jti), any(Date.class))).thenReturn(true);
+
+            assertThat(filter("Bearer " + token)).isNull();
+        }
+
+        @Test
+        @DisplayName("Path 4: Token of an inactive account - Request stays unauthenticated")
+        void doFilter_InactiveAccount_NotAuthenticated() throws Exception {
+            account.setActive(false);
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+
+            assertThat(filter("Bearer " + token)).isNull();
+            verifyNoInteractions(accountTokenStateService);
+        }
+
+        @Test
+        @DisplayName("Path 5: Tampered token - Request stays unauthenticated")
+        void doFilter_TamperedToken_NotAuthenticated() throws Exception {
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+            assertThat(filter("Bearer " + tampered)).isNull();
+            verify(accountTokenStateService, never()).isRevoked(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Path 6: Expired token - Request stays unauthenticated")
+        void doFilter_ExpiredToken_NotAuthenticated() throws Exception {
+            String token = new JwtUtil(JwtUtilTest.properties(-1000L)).generateToken(new CustomUserDetails(account));
+
+            assertThat(filter("Bearer " + token)).isNull();
+        }
+
+        @Test
+        @DisplayName("Path 7: No bearer header - Filter chain continues anonymously")
+        void doFilter_NoHeader_NotAuthenticated() throws Exception {
+            assertThat(filter(null)).isNull();
+            verifyNoInteractions(accountTokenStateService);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.f3.postalmanagement.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.CustomUserDetails;
+import org.f3.postalmanagement.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtUtil Path Coverage Tests")
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci10ZXN0aW5nLW9ubHktZG8tbm90LXVzZS1pbi1wcm9kdWN0aW9u";
+    private static final String NEW_SECRET = "cm90YXRlZC10ZXN0LWtleS1mb3ItdGVzdGluZy1vbmx5LWRvLW5vdC11c2UtaW4tcHJvZA==";
+
+    private Account account;
+
+    static JwtProperties properties(long expiration) {
+        return properties(expiration, "k1", Map.of("k1", OLD_SECRET));
+    }
+
+    static JwtProperties properties(long expiration, String activeKeyId, Map<String, String> keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setExpiration(expiration);
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(new LinkedHashMap<>(keys));
+        return properties;
+    }
+
+    @BeforeEach
+    void setUp() {
+        account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setUsername("0900000000");
+        account.setRole(Role.SHIPPER);
+        account.setActive(true);
+    }
+
+    // ==================== construction Tests ====================
+    @Nested
+    @DisplayName("JwtUtil(JwtProperties)")
+    class ConstructionTests {
+
+        @Test
+        @DisplayName("Path 1: Failure - No keys configured")
+        void construct_NoKeys_ThrowsException() {
+            assertThatThrownBy(() -> new JwtUtil(properties(1000L, "k1", Map.of())))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("No JWT signing keys");
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Active key id not configured")
+        void construct_UnknownActiveKey_ThrowsException() {
+            assertThatThrownBy(() -> new JwtUtil(properties(1000L, "k2", Map.of("k1", OLD_SECRET))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("'k2'");
+        }
+
+        @Test
+        @DisplayName("Path 3: Failure - Key configured without a secret")
+        void construct_BlankKey_ThrowsException() {
+            assertThatThrownBy(() -> new JwtUtil(properties(1000L, "k1", Map.of("k1", ""))))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("'k1' is empty");
+        }
+    }
+
+    // ==================== key rotation Tests ====================
+    @Nested
+    @DisplayName("Key rotation")
+    class KeyRotationTests {
+
+        @Test
+        @DisplayName("Path 1: New tokens carry the active key id")
+        void generateToken_WritesKeyIdHeader() {
+            JwtUtil jwtUtil = new JwtUtil(properties(60000L, "k2", Map.of("k1", OLD_SECRET, "k2", NEW_SECRET)));
+
+            String token = jwtUtil.generateToken(new CustomUserDetails(account));
+
+            String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                    StandardCharsets.UTF_8);
+            assertThat(header).contains("\"kid\":\"k2\"");
+        }
+
+        @Test
+        @DisplayName("Path 2: Token signed with a rotated-out key still verifies while the key is configured")
+        void parseClaims_PreviousKey_Verifies() {
+            String token = new JwtUtil(properties(60000L)).generateToken(new CustomUserDetails(account));
+            JwtUtil rotated = new JwtUtil(properties(60000L, "k2", Map.of("k1", OLD_SECRET, "k2", NEW_SECRET)));
+
+            Claims claims = rotated.parseClaims(token);
+
+            assertThat(claims.getSubject()).isEqualTo(account.getId().toString());
+        }
+
+        @Test
+        @DisplayName("Path 3: Token signed with a removed key is rejected")
+        void parseClaims_RemovedKey_ThrowsException() {
+            String token = new JwtUtil(properties(60000L)).generateToken(new CustomUserDetails(account));
+            JwtUtil rotated = new JwtUtil(properties(60000L, "k2", Map.of("k2", NEW_SECRET)));
+
+            assertThatThrownBy(() -> rotated.parseClaims(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("k1");
+            assertThat(rotated.validateToken(token)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 4: Token without a key id is verified with the active key")
+        void parseClaims_NoKeyId_UsesActiveKey() {
+            String token = Jwts.builder()
+                    .setSubject(account.getId().toString())
+                    .setExpiration(new Date(System.currentTimeMillis() + 60000L))
+                    .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                    .compact();
+
+            assertThat(new JwtUtil(properties(60000L)).extractUserId(token)).isEqualTo(account.getId().toString());
+        }
+    }
+
+    // ==================== claims Tests ====================
+    @Nested
+    @DisplayName("parseClaims() / toUserDetails()")
+    class ClaimsTests {
+
+        @Test
+        @DisplayName("Path 1: Principal round-trips through the token claims")
+        void toUserDetails_RoundTrip() {
+            account.setTokenVersion(7);
+            JwtUtil jwtUtil = new JwtUtil(properties(60000L));
+
+            CustomUserDetails userDetails = jwtUtil.toUserDetails(
+                    jwtUtil.parseClaims(jwtUtil.generateToken(new CustomUserDetails(account))));
+
+            assertThat(userDetails.getId()).isEqualTo(account.getId());
+            assertThat(userDetails.getUsername()).isEqualTo("0900000000");
+            assertThat(userDetails.getAccount().getRole()).isEqualTo(Role.SHIPPER);
+            assertThat(userDetails.isEnabled()).isTrue();
+            assertThat(userDetails.getAccount().getTokenVersion()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Token without account claims")
+        void toUserDetails_MissingClaims_ThrowsException() {
+            JwtUtil jwtUtil = new JwtUtil(properties(60000L));
+            String token = Jwts.builder()
+                    .setSubject(account.getId().toString())
+                    .setExpiration(new Date(System.currentTimeMillis() + 60000L))
+                    .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                    .compact();
+
+            assertThatThrownBy(() -> jwtUtil.toUserDetails(jwtUtil.parseClaims(token)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("missing account claims");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.entity.administrative.AdministrativeRegion;
+import org.f3.postalmanagement.entity.administrative.AdministrativeUnit;
+import org.f3.postalmanagement.entity.administrative.Province;
+import org.f3.postalmanagement.entity.administrative.Ward;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Administrative repository statement count tests")
+class AdministrativeQueryCountTest {
+
+    private static final int WARDS_PER_PROVINCE = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WardRepository wardRepository;
+
+    @Autowired
+    private ProvinceRepository provinceRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        AdministrativeRegion region = new AdministrativeRegion();
+        region.setId(1);
+        region.setName("Đồng bằng sông Hồng");
+        entityManager.persist(region);
+
+        for (int p = 1; p <= 2; p++) {
+            AdministrativeUnit unit = new AdministrativeUnit();
+            unit.setId(p);
+            unit.setName(p == 1 ? "Phường" : "Xã");
+            entityManager.persist(unit);
+
+            Province province = new Province();
+            province.setCode("0" + p);
+            province.setName("Tỉnh " + p);
+            province.setAdministrativeRegion(region);
+            entityManager.persist(province);
+
+            for (int w = 0; w < WARDS_PER_PROVINCE; w++) {
+                Ward ward = new Ward();
+                ward.setCode(String.format("%d%04d", p, w));
+                ward.setName("Ward " + w);
+                ward.setProvince(province);
+                ward.setAdministrativeUnit(unit);
+                entityManager.persist(ward);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Path 1: Ward rows for every province are read in a single statement")
+    void findAllWardRows_SingleStatement() {
+        List<WardRepository.WardRow> rows = wardRepository.findAllWardRows();
+
+        assertThat(rows).hasSize(2 * WARDS_PER_PROVINCE);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getUnitName()).isNotNull();
+            assertThat(row.getProvinceName()).startsWith("Tỉnh");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Path 2: Province rows with their region are read in a single statement")
+    void findAllProvinceRows_SingleStatement() {
+        List<ProvinceRepository.ProvinceRow> rows = provinceRepository.findAllProvinceRows();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getRegionName()).isEqualTo("Đồng bằng sông Hồng"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Path 3: Reading the same fields through LAZY associations issues extra selects")
+    void findByProvinceCode_LazyAssociations_ExtraStatements() {
+        List<Ward> wards = wardRepository.findByProvince_Code("01");
+        wards.forEach(ward -> {
+            ward.getAdministrativeUnit().getName();
+            ward.getProvince().getName();
+        });
+
+        // One for the wards, then one per distinct unit and province proxy
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,106 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.f3.postalmanagement.repository.OrderRepository.ClientReferenceRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Order client reference query tests")
+class OrderClientReferenceQueryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Customer merchant;
+    private Customer otherMerchant;
+
+    @BeforeEach
+    void setUp() {
+        merchant = customer("Merchant");
+        otherMerchant = customer("Other merchant");
+        order(merchant, "VN0000000000000001", "manifest-1#0");
+        order(merchant, "VN0000000000000002", "manifest-1#1");
+        order(otherMerchant, "VN0000000000000003", "manifest-1#2");
+        order(merchant, "VN0000000000000004", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Customer customer(String name) {
+        Customer customer = new Customer();
+        customer.setFullName(name);
+        customer.setPhoneNumber("0900000000");
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(customer);
+        return customer;
+    }
+
+    private void order(Customer customer, String trackingNumber, String clientReference) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(customer)
+                .clientReference(clientReference)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(OrderStatus.PENDING)
+                .build();
+        order.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(order);
+    }
+
+    @Test
+    @DisplayName("Path 1: Only the customer's own manifest rows are found")
+    void findByClientReferences_ScopedToCustomer() {
+        List<ClientReferenceRow> rows = orderRepository.findByClientReferences(merchant.getId(),
+                List.of("manifest-1#0", "manifest-1#1", "manifest-1#2", "manifest-1#3"));
+
+        assertThat(rows).extracting(ClientReferenceRow::getClientReference)
+                .containsExactlyInAnyOrder("manifest-1#0", "manifest-1#1");
+        assertThat(rows).extracting(ClientReferenceRow::getTrackingNumber)
+                .containsExactlyInAnyOrder("VN0000000000000001", "VN0000000000000002");
+        assertThat(rows).allSatisfy(row -> assertThat(row.getId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("Path 2: A manifest row cannot be created twice for the same customer")
+    void clientReference_UniquePerCustomer() {
+        // Another customer may use the same key, and orders without a reference never collide
+        order(otherMerchant, "VN0000000000000005", "manifest-1#0");
+        order(merchant, "VN0000000000000006", null);
+        entityManager.flush();
+
+        order(merchant, "VN0000000000000007", "manifest-1#1");
+        assertThatThrownBy(() -> entityManager.flush()).isInstanceOf(PersistenceException.class);
+    }
+}
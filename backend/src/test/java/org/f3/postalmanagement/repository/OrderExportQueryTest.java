@@ -0,0 +1,224 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.administrative.AdministrativeRegion;
+import org.f3.postalmanagement.entity.administrative.Province;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.unit.Office;
+import org.f3.postalmanagement.enums.OfficeType;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.f3.postalmanagement.repository.OrderRepository.OrderExportRow;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderExportQueryTest.StreamingFetchSizeOnH2.class)
+@DisplayName("Order export query tests")
+class OrderExportQueryTest {
+
+    /**
+     * The export asks MySQL Connector/J for row streaming with a fetch size of Integer.MIN_VALUE,
+     * which H2 rejects; here that fetch size is recorded and dropped so the query runs with H2's default.
+     */
+    @TestConfiguration
+    static class StreamingFetchSizeOnH2 {
+
+        static volatile boolean streamingRequested;
+
+        @Bean
+        static BeanPostProcessor ignoreStreamingFetchSize() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return withoutStreamingFetchSize(super.getConnection(), Connection.class);
+                        }
+                    };
+                }
+            };
+        }
+
+        private static <T> T withoutStreamingFetchSize(T target, Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().equals("setFetchSize") && (int) args[0] == Integer.MIN_VALUE) {
+                    streamingRequested = true;
+                    return null;
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return method.getName().equals("prepareStatement")
+                        ? withoutStreamingFetchSize((PreparedStatement) result, PreparedStatement.class)
+                        : result;
+            }));
+        }
+    }
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 9, 1, 8, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Office hanoiPost;
+    private Office hanoiWard;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        AdministrativeRegion region = new AdministrativeRegion();
+        region.setId(1);
+        region.setName("Region");
+        entityManager.persist(region);
+        Province hanoi = province("01", region);
+        Province haiPhong = province("31", region);
+        hanoiPost = office("hanoi-post", hanoi, region);
+        hanoiWard = office("hanoi-ward", hanoi, region);
+        Office haiPhongPost = office("haiphong-post", haiPhong, region);
+
+        Customer customer = new Customer();
+        customer.setFullName("Customer");
+        customer.setPhoneNumber("0900000000");
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(START);
+        entityManager.persist(customer);
+
+        order(customer, "VN0000000000000001", hanoiPost, OrderStatus.DELIVERED, START);
+        order(customer, "VN0000000000000002", hanoiWard, OrderStatus.DELIVERED, START.plusDays(1));
+        order(customer, "VN0000000000000003", hanoiPost, OrderStatus.PENDING, START.plusDays(2));
+        order(customer, "VN0000000000000004", haiPhongPost, OrderStatus.DELIVERED, START.plusDays(1));
+        order(customer, "VN0000000000000005", null, OrderStatus.PENDING, START.plusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Province province(String code, AdministrativeRegion region) {
+        Province province = new Province();
+        province.setCode(code);
+        province.setName("Province " + code);
+        province.setAdministrativeRegion(region);
+        entityManager.persist(province);
+        return province;
+    }
+
+    private Office office(String name, Province province, AdministrativeRegion region) {
+        Office office = new Office();
+        office.setOfficeName(name);
+        office.setOfficeEmail(name + "@post.vn");
+        office.setOfficePhoneNumber("0240000000");
+        office.setOfficeAddress("Address");
+        office.setRegion(region);
+        office.setProvince(province);
+        office.setOfficeType(OfficeType.PROVINCE_POST);
+        office.setCreatedAt(START);
+        entityManager.persist(office);
+        return office;
+    }
+
+    private void order(Customer customer, String trackingNumber, Office origin, OrderStatus status, LocalDateTime createdAt) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(customer)
+                .originOffice(origin)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(status)
+                .build();
+        order.setCreatedAt(createdAt);
+        entityManager.persist(order);
+    }
+
+    private List<String> export(OrderStatus status, Office office, String provinceCode,
+                                LocalDateTime from, LocalDateTime to) {
+        try (Stream<OrderExportRow> rows = orderRepository.streamForExport(
+                status, office == null ? null : office.getId(), provinceCode, from, to)) {
+            return rows.map(OrderExportRow::getTrackingNumber).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Path 1: Without filters every order streams in creation order, without loading entities")
+    void noFilters_AllOrdersInCreationOrder() {
+        StreamingFetchSizeOnH2.streamingRequested = false;
+        List<String> all = export(null, null, null, null, null);
+
+        assertThat(all).hasSize(5).startsWith("VN0000000000000001").endsWith("VN0000000000000003");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // Connector/J row streaming instead of a buffered result
+        assertThat(StreamingFetchSizeOnH2.streamingRequested).isTrue();
+    }
+
+    @Test
+    @DisplayName("Path 2: Province, office, status and date filters narrow the export")
+    void filters_NarrowExport() {
+        assertThat(export(null, null, "01", null, null))
+                .containsExactly("VN0000000000000001", "VN0000000000000002", "VN0000000000000003");
+        assertThat(export(null, hanoiPost, "01", null, null))
+                .containsExactly("VN0000000000000001", "VN0000000000000003");
+        assertThat(export(OrderStatus.DELIVERED, null, "01", null, null))
+                .containsExactly("VN0000000000000001", "VN0000000000000002");
+        assertThat(export(null, null, null, START.plusDays(1), START.plusDays(2)))
+                .containsExactlyInAnyOrder("VN0000000000000002", "VN0000000000000004", "VN0000000000000005");
+        assertThat(export(null, hanoiWard, "31", null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Path 3: Only the filters given are written into the query")
+    void filters_OnlyGivenOnesInQuery() {
+        export(OrderStatus.DELIVERED, null, null, START, null);
+
+        assertThat(statistics.getQueries()).singleElement().satisfies(query -> assertThat(query)
+                .contains("o.status = :status", "o.createdAt >= :from")
+                .doesNotContain("IS NULL", ":officeId", ":provinceCode", ":to"));
+    }
+}
@@ -0,0 +1,150 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.repository.OrderRepository.OrderSummaryRow;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Order keyset query tests")
+class OrderKeysetQueryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Customer customer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        customer = customer("0900000000");
+        Customer other = customer("0900000009");
+        // Two orders share a creation time, so the id has to break the tie
+        order(customer, "VN0000000000000001", START);
+        order(customer, "VN0000000000000002", START.plusHours(1));
+        order(customer, "VN0000000000000003", START.plusHours(1));
+        order(customer, "VN0000000000000004", START.plusHours(2));
+        order(customer, "VN0000000000000005", START.plusHours(3));
+        order(other, "VN0000000000000006", START.plusHours(4));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Customer customer(String phoneNumber) {
+        Customer customer = new Customer();
+        customer.setFullName("Customer");
+        customer.setPhoneNumber(phoneNumber);
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(START);
+        entityManager.persist(customer);
+        return customer;
+    }
+
+    private void order(Customer owner, String trackingNumber, LocalDateTime createdAt) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(owner)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(OrderStatus.PENDING)
+                .build();
+        order.setCreatedAt(createdAt);
+        entityManager.persist(order);
+    }
+
+    @Test
+    @DisplayName("Path 1: Walking the customer's slices visits every order once, newest first, without a count")
+    void customerSlices_CoverAllOrdersOnce() {
+        Pageable limit = PageRequest.of(0, 2);
+        List<OrderSummaryRow> seen = new ArrayList<>();
+        int slices = 0;
+
+        Slice<OrderSummaryRow> slice = orderRepository.findLatestByCustomerId(customer.getId(), limit);
+        while (true) {
+            slices++;
+            seen.addAll(slice.getContent());
+            if (!slice.hasNext()) {
+                break;
+            }
+            OrderSummaryRow last = slice.getContent().get(slice.getContent().size() - 1);
+            slice = orderRepository.findByCustomerIdAfter(customer.getId(), last.getCreatedAt(), last.getId(), limit);
+        }
+
+        assertThat(slices).isEqualTo(3);
+        assertThat(seen).extracting(OrderSummaryRow::getTrackingNumber).doesNotHaveDuplicates().hasSize(5)
+                .doesNotContain("VN0000000000000006")
+                .startsWith("VN0000000000000005", "VN0000000000000004")
+                .endsWith("VN0000000000000001");
+        assertThat(seen).extracting(OrderSummaryRow::getCreatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        // One select per slice: no COUNT query
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Path 2: Admin listing continues after the cursor across customers")
+    void allSlices_AfterCursor() {
+        Slice<OrderSummaryRow> first = orderRepository.findLatest(PageRequest.of(0, 1));
+        OrderSummaryRow newest = first.getContent().get(0);
+
+        Slice<OrderSummaryRow> next = orderRepository.findAllAfter(newest.getCreatedAt(), newest.getId(), PageRequest.of(0, 10));
+
+        assertThat(newest.getTrackingNumber()).isEqualTo("VN0000000000000006");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(next.getContent()).hasSize(5);
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Path 3: Paged customer listing reads summary rows without loading any entity")
+    void customerPage_ProjectsWithoutEntities() {
+        Page<OrderSummaryRow> page = orderRepository.findByCustomerId(customer.getId(),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt", "id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        // Same creation time: their order is decided by the random ids
+        assertThat(page.getContent()).extracting(OrderSummaryRow::getTrackingNumber)
+                .containsExactlyInAnyOrder("VN0000000000000003", "VN0000000000000002");
+        assertThat(page.getContent().get(0).getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
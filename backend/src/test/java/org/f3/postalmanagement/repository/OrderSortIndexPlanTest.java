@@ -0,0 +1,155 @@
+package org.f3.postalmanagement.repository;
+
+import org.f3.postalmanagement.service.OrderSortField;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the promise of {@link OrderSortField}: every allowed sort, in every listing scope and both directions,
+ * reads its composite index in order instead of sorting the table.
+ * <p>
+ * H2 only credits an index for ORDER BY when the sort starts at the index's first column, so for the customer
+ * and office scopes (equality on the first column) it cannot show the plan MySQL picks. Those are checked on the
+ * SQL instead: the filter is on the orders column itself and the index is exactly (scope column, sort columns).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.f3.postalmanagement.repository.OrderSortIndexPlanTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Order sort index plan tests")
+class OrderSortIndexPlanTest {
+
+    private static final UUID SCOPE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Pattern SELECT = Pattern.compile("^select (.+?) from ");
+    private static final Pattern ORDER_BY = Pattern.compile(" order by (.+?) (?:offset|fetch) ");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Records the SQL Hibernate sends, so the test inspects exactly what the repository runs. */
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Path 1: Customer listings filter and sort along the customer's index")
+    void customerScope_MatchesIndex() {
+        for (OrderSortField field : OrderSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                String sql = capture(() -> orderRepository.findByCustomerId(SCOPE_ID, page(field, direction)));
+                assertScopedIndex(sql, "customer_id", field.getCustomerIndex(), field + " " + direction);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Path 2: Office listings filter and sort along the office's index")
+    void officeScope_MatchesIndex() {
+        for (OrderSortField field : OrderSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                String sql = capture(() -> orderRepository.findByOriginOfficeId(SCOPE_ID, page(field, direction)));
+                assertScopedIndex(sql, "origin_office_id", field.getOfficeIndex(), field + " " + direction);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Path 3: Admin listings are planned as an index-sorted read")
+    void allScope_IndexSorted() {
+        for (OrderSortField field : OrderSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                String sql = capture(() -> orderRepository.findAllSummaries(page(field, direction)));
+                String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql.replace("?", "10"), String.class);
+
+                assertThat(plan).as("plan for %s %s", field, direction)
+                        .contains("/* PUBLIC." + field.getAllIndex().toUpperCase(Locale.ROOT) + " */")
+                        .contains("/* index sorted */");
+            }
+        }
+    }
+
+    private static Pageable page(OrderSortField field, Sort.Direction direction) {
+        return PageRequest.of(1, 10, field.toSort(direction));
+    }
+
+    private static String capture(Runnable query) {
+        CapturingInspector.STATEMENTS.clear();
+        query.run();
+        // The page select; the count query follows it
+        return CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains(" order by "))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void assertScopedIndex(String sql, String scopeColumn, String index, String description) {
+        assertThat(sql).as("filter for %s", description)
+                .doesNotContain(" join ")
+                .contains(" where o1_0." + scopeColumn + "=? ");
+
+        Matcher select = SELECT.matcher(sql);
+        Matcher orderBy = ORDER_BY.matcher(sql);
+        assertThat(select.find() && orderBy.find()).as("select and order by for %s", description).isTrue();
+        String[] selected = select.group(1).split(",");
+        List<String> sortColumns = new ArrayList<>();
+        List<String> directions = new ArrayList<>();
+        for (String term : orderBy.group(1).split(",")) {
+            String[] parts = term.trim().split(" ");
+            // Sorting by a select alias is rendered as the column's position in the select list
+            String column = parts[0].chars().allMatch(Character::isDigit)
+                    ? selected[Integer.parseInt(parts[0]) - 1].trim()
+                    : parts[0];
+            sortColumns.add(column.substring(column.indexOf('.') + 1));
+            directions.add(parts.length > 1 ? parts[1] : "asc");
+        }
+        // Mixed directions cannot be read off a single index
+        assertThat(directions).as("directions for %s", description).containsOnly(directions.get(0));
+
+        List<String> expected = new ArrayList<>(List.of(scopeColumn));
+        expected.addAll(sortColumns);
+        assertThat(indexColumns(index)).as("columns of %s for %s", index, description).isEqualTo(expected);
+    }
+
+    private List<String> indexColumns(String index) {
+        return jdbcTemplate.queryForList(
+                        "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                                + "WHERE TABLE_NAME = 'ORDERS' AND INDEX_NAME = ? ORDER BY ORDINAL_POSITION",
+                        String.class, index.toUpperCase(Locale.ROOT))
+                .stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+}
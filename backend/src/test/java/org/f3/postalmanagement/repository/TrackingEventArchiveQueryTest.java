@@ -0,0 +1,156 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.ArchivedTrackingEvent;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.f3.postalmanagement.service.TrackingEventArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Tracking event archive query tests")
+class TrackingEventArchiveQueryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 30, 8, 0);
+    private static final LocalDateTime CUTOFF = START.plusDays(30);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TrackingEventRepository trackingEventRepository;
+
+    @Autowired
+    private ArchivedTrackingEventRepository archivedTrackingEventRepository;
+
+    private Order delivered;
+    private Order recentlyDelivered;
+    private Order inTransit;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setFullName("Customer");
+        customer.setPhoneNumber("0900000000");
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(START);
+        entityManager.persist(customer);
+
+        delivered = order(customer, "VN0000000000000001", OrderStatus.DELIVERED);
+        recentlyDelivered = order(customer, "VN0000000000000002", OrderStatus.DELIVERED);
+        inTransit = order(customer, "VN0000000000000003", OrderStatus.IN_TRANSIT);
+
+        // Spans a month boundary
+        event(delivered, "PICKED_UP", START);
+        event(delivered, "DELIVERED", START.plusDays(3));
+        event(recentlyDelivered, "PICKED_UP", START);
+        event(recentlyDelivered, "DELIVERED", CUTOFF.plusDays(1));
+        event(inTransit, "PICKED_UP", START);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Order order(Customer customer, String trackingNumber, OrderStatus status) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(customer)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(status)
+                .build();
+        order.setCreatedAt(START);
+        entityManager.persist(order);
+        return order;
+    }
+
+    private void event(Order order, String status, LocalDateTime eventTime) {
+        TrackingEvent event = TrackingEvent.builder()
+                .order(order)
+                .status(status)
+                .description(status)
+                .eventTime(eventTime)
+                .build();
+        event.setCreatedAt(eventTime);
+        entityManager.persist(event);
+    }
+
+    @Test
+    @DisplayName("Path 1: Only finished orders whose events are all older than the cutoff are archivable")
+    void findArchivableOrderIds_FinishedAndOld() {
+        List<UUID> ids = trackingEventRepository.findArchivableOrderIds(
+                TrackingEventArchiver.ARCHIVABLE_STATUSES, CUTOFF, PageRequest.of(0, 10));
+
+        assertThat(ids).containsExactly(delivered.getId());
+    }
+
+    @Test
+    @DisplayName("Path 2: Events are copied with their ids and month, then removed from the hot table")
+    void copyAndDelete_MovesEvents() {
+        List<UUID> ids = List.of(delivered.getId());
+
+        int copied = archivedTrackingEventRepository.copyFromHotTable(ids, CUTOFF);
+        int deleted = trackingEventRepository.deleteArchived(ids);
+        entityManager.clear();
+
+        assertThat(copied).isEqualTo(2);
+        assertThat(deleted).isEqualTo(2);
+        List<ArchivedTrackingEvent> archived = archivedTrackingEventRepository.findTimeline(delivered.getId(), 202501);
+        assertThat(archived).extracting(ArchivedTrackingEvent::getStatus).containsExactly("DELIVERED", "PICKED_UP");
+        assertThat(archived).extracting(ArchivedTrackingEvent::getEventMonth).containsExactly(202502, 202501);
+        assertThat(trackingEventRepository.findTimelineByTrackingNumber("VN0000000000000001"))
+                .extracting(TrackingEventRepository.TimelineRow::getEventId)
+                .containsOnlyNulls();
+        assertThat(trackingEventRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Path 3: Events newer than the cutoff stay in the hot table")
+    void copyAndDelete_NewerEventsStay() {
+        List<UUID> ids = List.of(recentlyDelivered.getId());
+
+        archivedTrackingEventRepository.copyFromHotTable(ids, CUTOFF);
+        int deleted = trackingEventRepository.deleteArchived(ids);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(trackingEventRepository.findTimelineByTrackingNumber("VN0000000000000002"))
+                .extracting(TrackingEventRepository.TimelineRow::getEventStatus)
+                .containsExactly("DELIVERED");
+    }
+
+    @Test
+    @DisplayName("Path 4: Timeline read skips months before the order was created")
+    void findTimeline_FromMonth_Bounded() {
+        List<UUID> ids = List.of(delivered.getId());
+        archivedTrackingEventRepository.copyFromHotTable(ids, CUTOFF);
+
+        assertThat(archivedTrackingEventRepository.findTimeline(delivered.getId(), 202502))
+                .extracting(ArchivedTrackingEvent::getStatus)
+                .containsExactly("DELIVERED");
+    }
+}
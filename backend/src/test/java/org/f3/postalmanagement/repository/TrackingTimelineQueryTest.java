@@ -0,0 +1,122 @@
+package org.f3.postalmanagement.repository;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Tracking timeline query tests")
+class TrackingTimelineQueryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TrackingEventRepository trackingEventRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setFullName("Customer");
+        customer.setPhoneNumber("0900000000");
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(START);
+        entityManager.persist(customer);
+
+        Order tracked = order(customer, "VN0000000000000001");
+        order(customer, "VN0000000000000002");
+
+        for (int i = 0; i < 3; i++) {
+            TrackingEvent event = TrackingEvent.builder()
+                    .order(tracked)
+                    .status("STEP_" + i)
+                    .description("Step " + i)
+                    .eventTime(START.plusHours(i))
+                    .build();
+            event.setCreatedAt(START);
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Order order(Customer customer, String trackingNumber) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(customer)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(OrderStatus.IN_TRANSIT)
+                .build();
+        order.setCreatedAt(START);
+        entityManager.persist(order);
+        return order;
+    }
+
+    @Test
+    @DisplayName("Path 1: Order header and events, newest first, are read in a single statement")
+    void findTimeline_WithEvents_SingleStatement() {
+        List<TrackingEventRepository.TimelineRow> rows =
+                trackingEventRepository.findTimelineByTrackingNumber("VN0000000000000001");
+
+        assertThat(rows).extracting(TrackingEventRepository.TimelineRow::getEventStatus)
+                .containsExactly("STEP_2", "STEP_1", "STEP_0");
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getTrackingNumber()).isEqualTo("VN0000000000000001");
+            assertThat(row.getOrderStatus()).isEqualTo(OrderStatus.IN_TRANSIT);
+            assertThat(row.getOfficeId()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Path 2: Order without events yields one row with empty event columns")
+    void findTimeline_WithoutEvents_HeaderOnly() {
+        List<TrackingEventRepository.TimelineRow> rows =
+                trackingEventRepository.findTimelineByTrackingNumber("VN0000000000000002");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getOrderId()).isNotNull();
+        assertThat(rows.get(0).getEventId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Path 3: Unknown tracking number yields no rows")
+    void findTimeline_Unknown_Empty() {
+        assertThat(trackingEventRepository.findTimelineByTrackingNumber("UNKNOWN")).isEmpty();
+    }
+}
@@ -0,0 +1,212 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountTokenStateService Path Coverage Tests")
+class AccountTokenStateServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountTokenStateService accountTokenStateService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountTokenStateService = new AccountTokenStateService(accountRepository, 86400000L);
+
+        account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setUsername("0900000000");
+        account.setRole(Role.PO_STAFF);
+        account.setActive(true);
+        account.setTokenVersion(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private AccountRepository.TokenStateRow row(UUID id, int tokenVersion, boolean active) {
+        return new AccountRepository.TokenStateRow() {
+            public UUID getId() { return id; }
+            public int getTokenVersion() { return tokenVersion; }
+            public boolean getActive() { return active; }
+        };
+    }
+
+    // ==================== isRevoked Tests ====================
+    @Nested
+    @DisplayName("isRevoked()")
+    class IsRevokedTests {
+
+        @Test
+        @DisplayName("Path 1: Account without recorded state is trusted")
+        void isRevoked_UnknownAccount_ReturnsFalse() {
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 2: Tokens older than the revocation are rejected, newer ones accepted")
+        void isRevoked_AfterRevoke_ComparesVersions() {
+            accountTokenStateService.revokeTokens(account);
+
+            assertThat(account.getTokenVersion()).isEqualTo(3);
+            assertThat(account.getTokensRevokedAt()).isNotNull();
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isTrue();
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 3)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 3: Every token of a deactivated account is rejected")
+        void isRevoked_DeactivatedAccount_ReturnsTrue() {
+            account.setActive(false);
+            accountTokenStateService.revokeTokens(account);
+
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 3)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 4: Many revocations within the token lifetime are all kept")
+        void isRevoked_ManyRevocations_NoneEvicted() {
+            List<UUID> revoked = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                Account other = new Account();
+                other.setId(UUID.randomUUID());
+                other.setActive(false);
+                accountTokenStateService.revokeTokens(other);
+                revoked.add(other.getId());
+            }
+
+            assertThat(revoked).allMatch(id -> accountTokenStateService.isRevoked(id, 1));
+        }
+    }
+
+    // ==================== revokeTokens Tests ====================
+    @Nested
+    @DisplayName("revokeTokens()")
+    class RevokeTokensTests {
+
+        @Test
+        @DisplayName("Path 1: Inside a transaction the state applies only after commit")
+        void revokeTokens_InTransaction_AppliesAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            accountTokenStateService.revokeTokens(account);
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isTrue();
+        }
+    }
+
+    // ==================== updateClaims Tests ====================
+    @Nested
+    @DisplayName("updateClaims()")
+    class UpdateClaimsTests {
+
+        @Test
+        @DisplayName("Path 1: Role change revokes tokens carrying the old role")
+        void updateClaims_RoleChanged_RevokesTokens() {
+            boolean revoked = accountTokenStateService.updateClaims(account, "0900000000", Role.PO_WARD_MANAGER, true);
+
+            assertThat(revoked).isTrue();
+            assertThat(account.getRole()).isEqualTo(Role.PO_WARD_MANAGER);
+            assertThat(account.getTokenVersion()).isEqualTo(3);
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isTrue();
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 3)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 2: Username or active change revokes tokens")
+        void updateClaims_UsernameOrActiveChanged_RevokesTokens() {
+            assertThat(accountTokenStateService.updateClaims(account, "0900000001", Role.PO_STAFF, true)).isTrue();
+            assertThat(accountTokenStateService.updateClaims(account, "0900000001", Role.PO_STAFF, false)).isTrue();
+
+            assertThat(account.getUsername()).isEqualTo("0900000001");
+            assertThat(account.isActive()).isFalse();
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 4)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 3: Unchanged claims keep existing tokens valid")
+        void updateClaims_Unchanged_NoRevocation() {
+            boolean revoked = accountTokenStateService.updateClaims(account, "0900000000", Role.PO_STAFF, true);
+
+            assertThat(revoked).isFalse();
+            assertThat(account.getTokenVersion()).isEqualTo(2);
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isFalse();
+        }
+    }
+
+    // ==================== reload Tests ====================
+    @Nested
+    @DisplayName("reload()")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Path 1: Revocations from the database are applied")
+        void reload_AppliesRows() {
+            UUID otherId = UUID.randomUUID();
+            when(accountRepository.findTokenStatesRevokedAfter(any(LocalDateTime.class)))
+                    .thenReturn(List.of(row(account.getId(), 5, true), row(otherId, 1, false)));
+
+            int loaded = accountTokenStateService.reload();
+
+            assertThat(loaded).isEqualTo(2);
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 4)).isTrue();
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 5)).isFalse();
+            assertThat(accountTokenStateService.isRevoked(otherId, 1)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 2: Only revocations within the token lifetime are queried")
+        void reload_QueriesWithinTokenLifetime() {
+            when(accountRepository.findTokenStatesRevokedAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+            accountTokenStateService.reload();
+
+            verify(accountRepository).findTokenStatesRevokedAfter(argThat(since ->
+                    since.isAfter(LocalDateTime.now().minusDays(1).minusMinutes(1))
+                            && since.isBefore(LocalDateTime.now().minusDays(1).plusMinutes(1))));
+        }
+
+        @Test
+        @DisplayName("Path 3: Scheduled refresh keeps previous state on failure")
+        void scheduledRefresh_Failure_KeepsState() {
+            accountTokenStateService.revokeTokens(account);
+            when(accountRepository.findTokenStatesRevokedAfter(any(LocalDateTime.class)))
+                    .thenThrow(new RuntimeException("DB down"));
+
+            accountTokenStateService.scheduledRefresh();
+
+            assertThat(accountTokenStateService.isRevoked(account.getId(), 2)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.f3.postalmanagement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BcryptCostCalibrator Path Coverage Tests")
+class BcryptCostCalibratorTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // ==================== calibrate Tests ====================
+    @Nested
+    @DisplayName("calibrate()")
+    class CalibrateTests {
+
+        @Test
+        @DisplayName("Path 1: Highest cost within the target latency is chosen")
+        void calibrate_PicksHighestCostWithinTarget() {
+            // 4 ms at cost 8 -> 64 ms at 12, 128 ms at 13, 256 ms at 14
+            int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, probe -> 4 * MILLIS);
+
+            assertThat(cost).isEqualTo(13);
+        }
+
+        @Test
+        @DisplayName("Path 2: Slow hardware never goes below the minimum cost")
+        void calibrate_SlowHardware_UsesMinimum() {
+            int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, probe -> 200 * MILLIS);
+
+            assertThat(cost).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Path 3: Fast hardware never goes above the maximum cost")
+        void calibrate_FastHardware_UsesMaximum() {
+            int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, probe -> MILLIS / 10);
+
+            assertThat(cost).isEqualTo(14);
+        }
+
+        @Test
+        @DisplayName("Path 4: Median sample is used, so one slow outlier does not lower the cost")
+        void calibrate_Outlier_Ignored() {
+            long[] samples = {4, 4, 4, 400, 4, 4, 4};
+            int[] call = {0};
+
+            int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(250), 10, 14, probe -> samples[call[0]++] * MILLIS);
+
+            assertThat(cost).isEqualTo(13);
+        }
+
+        @Test
+        @DisplayName("Path 5: Real measurement returns a cost within bounds")
+        void calibrate_RealHardware_WithinBounds() {
+            int cost = BcryptCostCalibrator.calibrate(Duration.ofMillis(50), 4, 12);
+
+            assertThat(cost).isBetween(4, 12);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Path Coverage Tests")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    // Encodes by prefixing; blocks while the test holds the latch
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+        };
+    }
+
+    // ==================== encode / matches Tests ====================
+    @Nested
+    @DisplayName("encode() / matches()")
+    class DelegationTests {
+
+        @Test
+        @DisplayName("Path 1: Hashing runs on the pool and returns the delegate's result")
+        void encodeAndMatches_RunOnPool() {
+            encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return Thread.currentThread().getName();
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    return Thread.currentThread().getName().startsWith("password-hashing-");
+                }
+            }, 2, 4, Duration.ofSeconds(5), meterRegistry);
+
+            assertThat(encoder.encode("secret")).startsWith("password-hashing-");
+            assertThat(encoder.matches("secret", "anything")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 2: Delegate exceptions propagate unchanged")
+        void encode_DelegateThrows_Propagates() {
+            encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    throw new IllegalArgumentException("rawPassword cannot be null");
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    return false;
+                }
+            }, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+            assertThatThrownBy(() -> encoder.encode(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cannot be null");
+        }
+    }
+
+    // ==================== overload Tests ====================
+    @Nested
+    @DisplayName("Overload")
+    class OverloadTests {
+
+        @Test
+        @DisplayName("Path 1: Failure - Pool and queue full, request rejected immediately with 503")
+        void encode_Saturated_RejectedFast() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1, Duration.ofSeconds(5), meterRegistry);
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            awaitQueued(1);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(DomainStatusException.class)
+                    .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+            assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:a");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:b");
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Waiting longer than the timeout is rejected")
+        void encode_Timeout_Rejected() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 4, Duration.ofMillis(100), meterRegistry);
+
+            assertThatThrownBy(() -> encoder.encode("a"))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessageContaining("busy");
+            assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Path 3: Queue depth is published as an executor gauge")
+        void metrics_QueueDepthPublished() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 4, Duration.ofSeconds(5), meterRegistry);
+            CompletableFuture.runAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture.runAsync(() -> encoder.encode("b"));
+            awaitQueued(1);
+
+            assertThat(meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("executor.active").tag("name", "password.hashing").gauge().value()).isEqualTo(1.0);
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < expected
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
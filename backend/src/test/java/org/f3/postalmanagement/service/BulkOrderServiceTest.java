@@ -0,0 +1,291 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.f3.postalmanagement.dto.request.order.BulkCreateOrderRequest;
+import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.request.order.CreateOrderRequest;
+import org.f3.postalmanagement.dto.response.order.BulkCreateOrderResponse;
+import org.f3.postalmanagement.dto.response.order.BulkOrderResultResponse;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.CustomerRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.ClientReferenceRow;
+import org.f3.postalmanagement.utils.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkOrderService Path Coverage Tests")
+class BulkOrderServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final String KEY = "manifest-2026-10-17";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private TrackingNumberGenerator trackingNumberGenerator;
+
+    @Mock
+    private ShippingFeeCalculator shippingFeeCalculator;
+
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BulkOrderService bulkOrderService;
+    private MockedStatic<SecurityUtils> securityUtils;
+    private Account account;
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        bulkOrderService = new BulkOrderService(orderRepository, customerRepository, trackingNumberGenerator,
+                shippingFeeCalculator, orderStatsService, transactionTemplate, VALIDATOR);
+
+        account = new Account();
+        account.setId(UUID.randomUUID());
+        account.setRole(Role.CUSTOMER);
+        customer = new Customer();
+        customer.setId(UUID.randomUUID());
+
+        securityUtils = mockStatic(SecurityUtils.class);
+        securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(account);
+        lenient().when(customerRepository.findByAccount(account)).thenReturn(Optional.of(customer));
+        lenient().when(customerRepository.getReferenceById(customer.getId())).thenReturn(customer);
+        AtomicInteger sequence = new AtomicInteger();
+        lenient().when(trackingNumberGenerator.generate())
+                .thenAnswer(inv -> String.format("VN%017d", sequence.incrementAndGet()));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // Ids are assigned on persist
+        lenient().when(orderRepository.saveAll(anyCollection())).thenAnswer(inv -> {
+            Iterable<Order> orders = inv.getArgument(0);
+            orders.forEach(o -> o.setId(UUID.randomUUID()));
+            return orders;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtils.close();
+    }
+
+    private static CreateOrderRequest row(BigDecimal shippingFee) {
+        CreateOrderRequest row = new CreateOrderRequest();
+        row.setSenderName("Shop");
+        row.setSenderPhone("0900000001");
+        row.setSenderAddress("1 Shop Street");
+        row.setSenderWardCode("00001");
+        row.setReceiverName("Buyer");
+        row.setReceiverPhone("0900000002");
+        row.setReceiverAddress("2 Buyer Street");
+        row.setReceiverWardCode("00002");
+        row.setWeightKg(new BigDecimal("1.5"));
+        row.setShippingFee(shippingFee);
+        return row;
+    }
+
+    private static BulkCreateOrderRequest manifest(List<CreateOrderRequest> rows) {
+        BulkCreateOrderRequest request = new BulkCreateOrderRequest();
+        request.setIdempotencyKey(KEY);
+        request.setOrders(rows);
+        return request;
+    }
+
+    private static ShippingFeeQuoteResponse quote(int index, String fee) {
+        return ShippingFeeQuoteResponse.builder().index(index).success(true).fee(new BigDecimal(fee)).build();
+    }
+
+    private static ClientReferenceRow existing(int index, UUID id, String trackingNumber) {
+        return new ClientReferenceRow() {
+            public String getClientReference() { return BulkOrderService.clientReference(KEY, index); }
+            public UUID getId() { return id; }
+            public String getTrackingNumber() { return trackingNumber; }
+            public BigDecimal getShippingFee() { return new BigDecimal("30000"); }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Order>> savedChunks() {
+        ArgumentCaptor<List<Order>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    // ==================== createOrders Tests ====================
+    @Nested
+    @DisplayName("createOrders()")
+    class CreateOrdersTests {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("Path 1: New rows are priced in one batch and inserted with their manifest reference")
+        void createOrders_NewRows_PricedAndInserted() {
+            when(orderRepository.findByClientReferences(eq(customer.getId()), anyCollection())).thenReturn(List.of());
+            when(shippingFeeCalculator.calculateFees(anyList())).thenReturn(List.of(quote(0, "25000"), quote(1, "41000")));
+
+            BulkCreateOrderResponse response = bulkOrderService.createOrders(
+                    manifest(List.of(row(null), row(new BigDecimal("30000")), row(BigDecimal.ZERO))));
+
+            assertThat(response.getCreated()).isEqualTo(3);
+            assertThat(response.getFailed()).isZero();
+            assertThat(response.getResults()).extracting(BulkOrderResultResponse::getShippingFee)
+                    .containsExactly(new BigDecimal("25000"), new BigDecimal("30000"), new BigDecimal("41000"));
+            // Only the rows without a fee are quoted
+            ArgumentCaptor<List<CalculateShippingFeeRequest>> quoted = ArgumentCaptor.forClass(List.class);
+            verify(shippingFeeCalculator).calculateFees(quoted.capture());
+            assertThat(quoted.getValue()).hasSize(2);
+
+            List<Order> saved = savedChunks().get(0);
+            assertThat(saved).extracting(Order::getClientReference)
+                    .containsExactly(KEY + "#0", KEY + "#1", KEY + "#2");
+            assertThat(saved).allSatisfy(order -> {
+                assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+                assertThat(order.getCustomer()).isSameAs(customer);
+            });
+            assertThat(response.getResults()).extracting(BulkOrderResultResponse::getOrderId)
+                    .containsExactlyElementsOf(saved.stream().map(Order::getId).toList());
+            verify(orderStatsService).recordCreated(saved);
+        }
+
+        @Test
+        @DisplayName("Path 2: Retried upload reports created rows as duplicates and only inserts the rest")
+        void createOrders_RetriedUpload_OnlyMissingRowsInserted() {
+            UUID firstId = UUID.randomUUID();
+            when(orderRepository.findByClientReferences(eq(customer.getId()), anyCollection()))
+                    .thenReturn(List.of(existing(0, firstId, "VN00000000000000099")));
+
+            BulkCreateOrderResponse response = bulkOrderService.createOrders(
+                    manifest(List.of(row(new BigDecimal("30000")), row(new BigDecimal("30000")))));
+
+            assertThat(response.getDuplicates()).isEqualTo(1);
+            assertThat(response.getCreated()).isEqualTo(1);
+            BulkOrderResultResponse first = response.getResults().get(0);
+            assertThat(first.isDuplicate()).isTrue();
+            assertThat(first.getOrderId()).isEqualTo(firstId);
+            assertThat(first.getTrackingNumber()).isEqualTo("VN00000000000000099");
+            assertThat(savedChunks().get(0)).extracting(Order::getClientReference).containsExactly(KEY + "#1");
+            verifyNoInteractions(shippingFeeCalculator);
+        }
+
+        @Test
+        @DisplayName("Path 3: Invalid and unpriceable rows fail on their own")
+        void createOrders_BadRows_FailIndividually() {
+            CreateOrderRequest invalid = row(null);
+            invalid.setReceiverPhone(" ");
+            invalid.setWeightKg(new BigDecimal("-1"));
+            when(orderRepository.findByClientReferences(eq(customer.getId()), anyCollection())).thenReturn(List.of());
+            when(shippingFeeCalculator.calculateFees(anyList())).thenReturn(List.of(
+                    quote(0, "25000"),
+                    ShippingFeeQuoteResponse.builder().index(1).success(false)
+                            .errorCode("UNKNOWN_WARD").message("Unknown ward 99999").build()));
+
+            List<CreateOrderRequest> rows = new ArrayList<>(List.of(row(null), invalid, row(null)));
+            rows.add(null);
+            BulkCreateOrderResponse response = bulkOrderService.createOrders(manifest(rows));
+
+            List<BulkOrderResultResponse> results = response.getResults();
+            assertThat(results).extracting(BulkOrderResultResponse::getIndex).containsExactly(0, 1, 2, 3);
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(1).getErrorCode()).isEqualTo("VALIDATION_ERROR");
+            assertThat(results.get(1).getMessage())
+                    .isEqualTo("receiverPhone: Receiver phone is required; weightKg: Weight must be positive");
+            assertThat(results.get(2).getErrorCode()).isEqualTo("UNKNOWN_WARD");
+            assertThat(results.get(3).getMessage()).isEqualTo("Order is required");
+            assertThat(response.getCreated()).isEqualTo(1);
+            assertThat(response.getFailed()).isEqualTo(3);
+            assertThat(savedChunks().get(0)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Path 4: Large manifests are split into one transaction per chunk")
+        void createOrders_LargeManifest_Chunked() {
+            int size = BulkOrderService.CHUNK_SIZE * 2 + 5;
+            List<CreateOrderRequest> rows = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                rows.add(row(new BigDecimal("30000")));
+            }
+            when(orderRepository.findByClientReferences(eq(customer.getId()), anyCollection())).thenReturn(List.of());
+
+            BulkCreateOrderResponse response = bulkOrderService.createOrders(manifest(rows));
+
+            assertThat(response.getCreated()).isEqualTo(size);
+            verify(transactionTemplate, times(3)).execute(any());
+            assertThat(savedChunks()).extracting(List::size)
+                    .containsExactly(BulkOrderService.CHUNK_SIZE, BulkOrderService.CHUNK_SIZE, 5);
+            assertThat(response.getResults().get(size - 1).getIndex()).isEqualTo(size - 1);
+        }
+
+        @Test
+        @DisplayName("Path 5: Chunk racing a concurrent upload is retried and sees the other upload's rows")
+        void createOrders_ConcurrentUpload_Retried() {
+            UUID otherId = UUID.randomUUID();
+            when(orderRepository.findByClientReferences(eq(customer.getId()), anyCollection()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(existing(0, otherId, "VN00000000000000099")));
+            doAnswer(inv -> {
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                throw new DataIntegrityViolationException("Duplicate entry for uk_orders_customer_client_reference");
+            }).doAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                    .when(transactionTemplate).execute(any());
+
+            BulkCreateOrderResponse response = bulkOrderService.createOrders(
+                    manifest(List.of(row(new BigDecimal("30000")))));
+
+            assertThat(response.getDuplicates()).isEqualTo(1);
+            assertThat(response.getCreated()).isZero();
+            assertThat(response.getResults().get(0).getOrderId()).isEqualTo(otherId);
+            verify(transactionTemplate, times(2)).execute(any());
+        }
+
+        @Test
+        @DisplayName("Path 6: Non-customer - Rejected before any work")
+        void createOrders_NotCustomer_Rejected() {
+            account.setRole(Role.PO_STAFF);
+
+            assertThatThrownBy(() -> bulkOrderService.createOrders(manifest(List.of(row(null)))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Only customers can create orders via this endpoint");
+            verifyNoInteractions(orderRepository, transactionTemplate);
+        }
+    }
+}
@@ -51,6 +51,12 @@ class DeliveryTaskServiceTest {
     @Mock
     private PickupRequestRepository pickupRequestRepository;
 
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private TrackingService trackingService;
+
     @InjectMocks
     private DeliveryTaskService deliveryTaskService;
 
@@ -277,6 +283,7 @@ class DeliveryTaskServiceTest {
                 securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(shipperAccount);
                 task.setStatus(TaskStatus.IN_PROGRESS);
                 task.setTaskType(TaskType.DELIVERY);
+                OrderStatus previousStatus = order.getStatus();
                 when(deliveryTaskRepository.findById(task.getId())).thenReturn(Optional.of(task));
                 when(deliveryTaskRepository.save(any(DeliveryTask.class))).thenAnswer(inv -> inv.getArgument(0));
                 when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -287,6 +294,8 @@ class DeliveryTaskServiceTest {
 
                 assertThat(result.getStatus()).isEqualTo("COMPLETED");
                 assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+                verify(orderStatsService).recordStatusChange(order, previousStatus);
+                verify(trackingService).orderStatusChanged(order);
             }
         }
 
@@ -0,0 +1,78 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginRateLimiter Path Coverage Tests")
+class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(Duration.ofMinutes(1), 3, 5, 1000, meterRegistry);
+    }
+
+    // ==================== acquire Tests ====================
+    @Nested
+    @DisplayName("acquire()")
+    class AcquireTests {
+
+        @Test
+        @DisplayName("Path 1: Attempts within the username limit pass")
+        void acquire_WithinLimit_Passes() {
+            for (int i = 0; i < 3; i++) {
+                assertThatCode(() -> loginRateLimiter.acquire("0900000000", "10.0.0.1")).doesNotThrowAnyException();
+            }
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Username over its limit is rejected with 429")
+        void acquire_UsernameOverLimit_Throws() {
+            for (int i = 0; i < 3; i++) {
+                loginRateLimiter.acquire("0900000000", "10.0.0." + i);
+            }
+
+            assertThatThrownBy(() -> loginRateLimiter.acquire("0900000000", "10.0.0.9"))
+                    .isInstanceOf(DomainStatusException.class)
+                    .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+            assertThat(meterRegistry.counter("auth.login.rate.limited").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Path 3: Failure - Client IP over its limit is rejected across usernames")
+        void acquire_IpOverLimit_Throws() {
+            for (int i = 0; i < 5; i++) {
+                loginRateLimiter.acquire("user" + i, "10.0.0.1");
+            }
+
+            assertThatThrownBy(() -> loginRateLimiter.acquire("user9", "10.0.0.1"))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessageContaining("Too many login attempts");
+            assertThatCode(() -> loginRateLimiter.acquire("user9", "10.0.0.2")).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Path 4: Limits are per username - other users are unaffected")
+        void acquire_OtherUsername_Passes() {
+            for (int i = 0; i < 3; i++) {
+                loginRateLimiter.acquire("0900000000", "10.0.0." + i);
+            }
+
+            assertThatCode(() -> loginRateLimiter.acquire("0911111111", "10.0.0.8")).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderCursor Path Coverage Tests")
+class OrderCursorTest {
+
+    // ==================== encode/decode Tests ====================
+    @Nested
+    @DisplayName("encode() / decode()")
+    class CodecTests {
+
+        @Test
+        @DisplayName("Path 1: Cursor survives a round trip with microsecond precision")
+        void roundTrip_PreservesPosition() {
+            OrderCursor cursor = new OrderCursor(LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_456_000), UUID.randomUUID());
+
+            String encoded = cursor.encode();
+
+            assertThat(encoded).doesNotContain("|", "=", "+", "/");
+            assertThat(OrderCursor.decode(encoded)).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("Path 2: Tampered cursors are rejected with 400")
+        void decode_Invalid_BadRequest() {
+            String noSeparator = Base64.getUrlEncoder().encodeToString("2026-10-17T09:30".getBytes(StandardCharsets.UTF_8));
+            String badId = Base64.getUrlEncoder().encodeToString("2026-10-17T09:30|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+            for (String cursor : new String[]{"***", noSeparator, badId}) {
+                assertThatThrownBy(() -> OrderCursor.decode(cursor))
+                        .isInstanceOf(DomainStatusException.class)
+                        .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.f3.postalmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.actor.Employee;
+import org.f3.postalmanagement.entity.administrative.Province;
+import org.f3.postalmanagement.entity.unit.Office;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.EmployeeRepository;
+import org.f3.postalmanagement.repository.OfficeRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.OrderExportRow;
+import org.f3.postalmanagement.service.OrderExportService.ExportFormat;
+import org.f3.postalmanagement.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService Path Coverage Tests")
+class OrderExportServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private OfficeRepository officeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderExportService orderExportService;
+    private Account provinceAdmin;
+    private Account systemAdmin;
+    private Office ownOffice;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(orderRepository, employeeRepository, officeRepository,
+                OBJECT_MAPPER, transactionManager);
+
+        provinceAdmin = new Account();
+        provinceAdmin.setId(UUID.randomUUID());
+        provinceAdmin.setRole(Role.PO_PROVINCE_ADMIN);
+        systemAdmin = new Account();
+        systemAdmin.setId(UUID.randomUUID());
+        systemAdmin.setRole(Role.SYSTEM_ADMIN);
+
+        ownOffice = office("01");
+    }
+
+    private static Office office(String provinceCode) {
+        Province province = new Province();
+        province.setCode(provinceCode);
+        Office office = new Office();
+        office.setId(UUID.randomUUID());
+        office.setProvince(province);
+        return office;
+    }
+
+    private void givenProvinceAdminEmployee() {
+        Employee employee = new Employee();
+        employee.setId(provinceAdmin.getId());
+        employee.setOffice(ownOffice);
+        when(employeeRepository.findById(provinceAdmin.getId())).thenReturn(Optional.of(employee));
+    }
+
+    private static OrderExportRow row(String trackingNumber, String senderName) {
+        return new OrderExportRow() {
+            public String getTrackingNumber() { return trackingNumber; }
+            public OrderStatus getStatus() { return OrderStatus.DELIVERED; }
+            public UUID getOriginOfficeId() { return null; }
+            public String getSenderName() { return senderName; }
+            public String getSenderPhone() { return "0900000001"; }
+            public String getSenderWardCode() { return "00001"; }
+            public String getReceiverName() { return "Receiver"; }
+            public String getReceiverPhone() { return "0900000002"; }
+            public String getReceiverWardCode() { return "00002"; }
+            public BigDecimal getWeightKg() { return new BigDecimal("1.50"); }
+            public BigDecimal getShippingFee() { return new BigDecimal("25000"); }
+            public BigDecimal getCodAmount() { return null; }
+            public LocalDateTime getCreatedAt() { return LocalDateTime.of(2026, 10, 1, 9, 30); }
+            public LocalDateTime getUpdatedAt() { return null; }
+        };
+    }
+
+    // ==================== export Tests ====================
+    @Nested
+    @DisplayName("export()")
+    class ExportTests {
+
+        @Test
+        @DisplayName("Path 1: Province admin gets a CSV of their province with inclusive days")
+        void export_ProvinceAdminCsv_ScopedToProvince() throws Exception {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(provinceAdmin);
+                givenProvinceAdminEmployee();
+                LocalDate day = LocalDate.of(2026, 10, 1);
+                when(orderRepository.streamForExport(OrderStatus.DELIVERED, null, "01",
+                        day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                        .thenReturn(Stream.of(row("VN0000000000000001", "Nguyen, Van \"A\""),
+                                row("VN0000000000000002", "=HYPERLINK(\"x\")")));
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                orderExportService.export(ExportFormat.CSV, OrderStatus.DELIVERED, null, day, day).writeTo(out);
+
+                String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+                assertThat(lines).hasSize(3);
+                assertThat(lines[0]).startsWith("trackingNumber,status,originOfficeId,senderName,");
+                assertThat(lines[1]).isEqualTo("VN0000000000000001,DELIVERED,,\"Nguyen, Van \"\"A\"\"\",0900000001,"
+                        + "00001,Receiver,0900000002,00002,1.50,25000,,2026-10-01T09:30,");
+                assertThat(lines[2]).contains(",\"'=HYPERLINK(\"\"x\"\")\",");
+                verify(transactionManager, times(2)).commit(any());
+            }
+        }
+
+        @Test
+        @DisplayName("Path 2: System admin gets NDJSON of all orders, one object per line")
+        void export_SystemAdminNdjson_Unscoped() throws Exception {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(systemAdmin);
+                when(orderRepository.streamForExport(null, null, null, null, null))
+                        .thenReturn(Stream.of(row("VN0000000000000001", "A"), row("VN0000000000000002", "B")));
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                orderExportService.export(ExportFormat.NDJSON, null, null, null, null).writeTo(out);
+
+                String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+                assertThat(lines).hasSize(2);
+                JsonNode first = OBJECT_MAPPER.readTree(lines[0]);
+                assertThat(first.get("trackingNumber").asText()).isEqualTo("VN0000000000000001");
+                assertThat(first.get("shippingFee").decimalValue()).isEqualByComparingTo("25000");
+                assertThat(first.get("createdAt").asText()).isEqualTo("2026-10-01T09:30:00");
+                assertThat(first.get("codAmount").isNull()).isTrue();
+                assertThat(OBJECT_MAPPER.readTree(lines[1]).get("senderName").asText()).isEqualTo("B");
+                verifyNoInteractions(employeeRepository);
+            }
+        }
+
+        @Test
+        @DisplayName("Path 3: Province admin cannot export another province's office")
+        void export_OfficeOutsideProvince_AccessDenied() {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(provinceAdmin);
+                givenProvinceAdminEmployee();
+                Office other = office("31");
+                when(officeRepository.findById(other.getId())).thenReturn(Optional.of(other));
+
+                assertThatThrownBy(() -> orderExportService.export(ExportFormat.CSV, null, other.getId(), null, null))
+                        .isInstanceOf(AccessDeniedException.class);
+                verifyNoInteractions(orderRepository);
+            }
+        }
+
+        @Test
+        @DisplayName("Path 4: Reversed date range and unknown format are rejected")
+        void export_InvalidFilters_BadRequest() {
+            LocalDate day = LocalDate.of(2026, 10, 1);
+
+            assertThatThrownBy(() -> orderExportService.export(ExportFormat.CSV, null, null, day, day.minusDays(1)))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessageContaining("'from' must not be after 'to'");
+            assertThatThrownBy(() -> ExportFormat.from("xlsx"))
+                    .isInstanceOf(DomainStatusException.class);
+            assertThat(ExportFormat.from(" NDJson ")).isEqualTo(ExportFormat.NDJSON);
+            verifyNoInteractions(orderRepository, employeeRepository);
+        }
+    }
+}
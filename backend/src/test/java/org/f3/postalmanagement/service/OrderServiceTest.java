@@ -1,7 +1,10 @@
 package org.f3.postalmanagement.service;
 
 import org.f3.postalmanagement.dto.request.order.CreateOrderRequest;
+import org.f3.postalmanagement.dto.response.CursorPageResponse;
 import org.f3.postalmanagement.dto.response.order.OrderResponse;
+import org.f3.postalmanagement.dto.response.order.OrderSummaryResponse;
+import org.f3.postalmanagement.dto.response.order.PublicOrderResponse;
 import org.f3.postalmanagement.entity.actor.Account;
 import org.f3.postalmanagement.entity.actor.Customer;
 import org.f3.postalmanagement.entity.actor.Employee;
@@ -9,15 +12,18 @@ import org.f3.postalmanagement.entity.order.Order;
 import org.f3.postalmanagement.entity.unit.Office;
 import org.f3.postalmanagement.enums.OrderStatus;
 import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.exception.DomainStatusException;
 import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderRepository.OrderSummaryRow;
 import org.f3.postalmanagement.utils.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -26,8 +32,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -53,6 +61,12 @@ class OrderServiceTest {
     @Mock
     private TrackingNumberGenerator trackingNumberGenerator;
 
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private TrackingService trackingService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -114,6 +128,21 @@ class OrderServiceTest {
         order.setId(UUID.randomUUID());
     }
 
+    private static OrderSummaryRow summaryRow(Order order) {
+        return new OrderSummaryRow() {
+            public UUID getId() { return order.getId(); }
+            public String getTrackingNumber() { return order.getTrackingNumber(); }
+            public OrderStatus getStatus() { return order.getStatus(); }
+            public String getSenderName() { return order.getSenderName(); }
+            public String getReceiverName() { return order.getReceiverName(); }
+            public BigDecimal getWeightKg() { return order.getWeightKg(); }
+            public BigDecimal getShippingFee() { return order.getShippingFee(); }
+            public BigDecimal getCodAmount() { return order.getCodAmount(); }
+            public LocalDateTime getCreatedAt() { return order.getCreatedAt(); }
+            public LocalDateTime getUpdatedAt() { return order.getUpdatedAt(); }
+        };
+    }
+
     // ==================== createOrder Tests ====================
     @Nested
     @DisplayName("createOrder()")
@@ -158,7 +187,9 @@ class OrderServiceTest {
                 assertThat(response).isNotNull();
                 assertThat(response.getTrackingNumber()).isEqualTo("VN12345678901234567");
                 assertThat(response.getStatus()).isEqualTo("PENDING");
-                verify(orderRepository).save(any(Order.class));
+                ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+                verify(orderRepository).save(saved.capture());
+                verify(orderStatsService).recordCreated(saved.getValue());
             }
         }
 
@@ -206,9 +237,9 @@ class OrderServiceTest {
                 securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(customerAccount);
                 when(customerRepository.findByAccount(customerAccount)).thenReturn(Optional.of(customer));
                 when(orderRepository.findByCustomerId(customer.getId(), pageable))
-                        .thenReturn(new PageImpl<>(List.of(order)));
+                        .thenReturn(new PageImpl<>(List.of(summaryRow(order))));
 
-                Page<OrderResponse> result = orderService.getMyOrders(pageable);
+                Page<OrderSummaryResponse> result = orderService.getMyOrders(pageable);
 
                 assertThat(result.getContent()).hasSize(1);
                 assertThat(result.getContent().get(0).getTrackingNumber()).isEqualTo("VN12345678901234567");
@@ -235,9 +266,9 @@ class OrderServiceTest {
                 securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(staffAccount);
                 when(employeeRepository.findById(staffAccount.getId())).thenReturn(Optional.of(employee));
                 when(orderRepository.findByOriginOfficeId(office.getId(), pageable))
-                        .thenReturn(new PageImpl<>(List.of(order)));
+                        .thenReturn(new PageImpl<>(List.of(summaryRow(order))));
 
-                Page<OrderResponse> result = orderService.getMyOrders(pageable);
+                Page<OrderSummaryResponse> result = orderService.getMyOrders(pageable);
 
                 assertThat(result.getContent()).hasSize(1);
             }
@@ -262,16 +293,71 @@ class OrderServiceTest {
             try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
                 securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(shipperAccount);
 
-                Page<OrderResponse> result = orderService.getMyOrders(pageable);
+                Page<OrderSummaryResponse> result = orderService.getMyOrders(pageable);
 
                 assertThat(result.getContent()).isEmpty();
             }
         }
     }
 
-    // ==================== getOrderByTrackingNumber Tests ====================
+    // ==================== getMyOrders (cursor) Tests ====================
+    @Nested
+    @DisplayName("getMyOrders(cursor, size)")
+    class ScrollMyOrdersTests {
+
+        private final Pageable limit = PageRequest.of(0, 1);
+
+        @Test
+        @DisplayName("Path 1: First slice returns a cursor pointing at its last order")
+        void scrollMyOrders_FirstSlice_ReturnsCursor() {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(customerAccount);
+                order.setCreatedAt(LocalDateTime.of(2026, 10, 1, 9, 0));
+                when(customerRepository.findByAccount(customerAccount)).thenReturn(Optional.of(customer));
+                OrderSummaryRow row = summaryRow(order);
+                when(orderRepository.findLatestByCustomerId(customer.getId(), limit))
+                        .thenReturn(new SliceImpl<>(List.of(row), limit, true));
+
+                CursorPageResponse<OrderSummaryResponse> result = orderService.getMyOrders(null, 1);
+
+                assertThat(result.getContent()).hasSize(1);
+                assertThat(result.isHasNext()).isTrue();
+                assertThat(OrderCursor.decode(result.getNextCursor())).isEqualTo(OrderCursor.of(row));
+            }
+        }
+
+        @Test
+        @DisplayName("Path 2: PO_STAFF continues after the cursor; last slice has no cursor")
+        void scrollMyOrders_AsStaffAfterCursor_LastSlice() {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(staffAccount);
+                OrderCursor cursor = new OrderCursor(LocalDateTime.of(2026, 10, 1, 9, 0), UUID.randomUUID());
+                when(employeeRepository.findById(staffAccount.getId())).thenReturn(Optional.of(employee));
+                when(orderRepository.findByOriginOfficeIdAfter(office.getId(), cursor.createdAt(), cursor.id(), limit))
+                        .thenReturn(new SliceImpl<>(List.of(summaryRow(order)), limit, false));
+
+                CursorPageResponse<OrderSummaryResponse> result = orderService.getMyOrders(cursor.encode(), 1);
+
+                assertThat(result.getContent()).hasSize(1);
+                assertThat(result.isHasNext()).isFalse();
+                assertThat(result.getNextCursor()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Path 3: Size outside 1..MAX_SLICE_SIZE is rejected")
+        void scrollMyOrders_InvalidSize_ThrowsException() {
+            assertThatThrownBy(() -> orderService.getMyOrders(null, OrderService.MAX_SLICE_SIZE + 1))
+                    .isInstanceOf(DomainStatusException.class);
+            assertThatThrownBy(() -> orderService.getAllOrders(null, 0))
+                    .isInstanceOf(DomainStatusException.class);
+            verifyNoInteractions(orderRepository);
+        }
+    }
+
+    // ==================== getPublicOrderByTrackingNumber Tests ====================
     @Nested
-    @DisplayName("getOrderByTrackingNumber()")
+    @DisplayName("getPublicOrderByTrackingNumber()")
     class GetOrderByTrackingNumberTests {
 
         @Test
@@ -280,7 +366,7 @@ class OrderServiceTest {
             when(orderRepository.findByTrackingNumber("VN12345678901234567"))
                     .thenReturn(Optional.of(order));
 
-            OrderResponse response = orderService.getOrderByTrackingNumber("VN12345678901234567");
+            PublicOrderResponse response = orderService.getPublicOrderByTrackingNumber("VN12345678901234567");
 
             assertThat(response).isNotNull();
             assertThat(response.getTrackingNumber()).isEqualTo("VN12345678901234567");
@@ -292,7 +378,7 @@ class OrderServiceTest {
             when(orderRepository.findByTrackingNumber("INVALID"))
                     .thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> orderService.getOrderByTrackingNumber("INVALID"))
+            assertThatThrownBy(() -> orderService.getPublicOrderByTrackingNumber("INVALID"))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("Order not found");
         }
@@ -316,6 +402,7 @@ class OrderServiceTest {
                 OrderResponse response = orderService.cancelOrder(order.getId());
 
                 assertThat(response.getStatus()).isEqualTo("CANCELLED");
+                verify(orderStatsService).recordStatusChange(order, OrderStatus.PENDING);
             }
         }
 
@@ -332,6 +419,7 @@ class OrderServiceTest {
                 OrderResponse response = orderService.cancelOrder(order.getId());
 
                 assertThat(response.getStatus()).isEqualTo("CANCELLED");
+                verify(orderStatsService).recordStatusChange(order, OrderStatus.AWAITING_PICKUP);
             }
         }
 
@@ -423,6 +511,7 @@ class OrderServiceTest {
                 OrderResponse response = orderService.cancelOrder(order.getId());
 
                 assertThat(response.getStatus()).isEqualTo("CANCELLED");
+                verify(orderStatsService).recordStatusChange(order, OrderStatus.PENDING);
             }
         }
     }
@@ -0,0 +1,42 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderSortField Path Coverage Tests")
+class OrderSortFieldTest {
+
+    // ==================== toSort Tests ====================
+    @Nested
+    @DisplayName("toSort()")
+    class ToSortTests {
+
+        @Test
+        @DisplayName("Path 1: Allowed field sorts by its index columns in one direction")
+        void toSort_Allowed_IndexColumns() {
+            Sort sort = OrderSortField.toSort("status", "ASC");
+
+            assertThat(sort).containsExactly(Sort.Order.asc("status"), Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+            assertThat(OrderSortField.toSort("createdAt", "anything"))
+                    .containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        }
+
+        @Test
+        @DisplayName("Path 2: Unlisted fields are rejected with 400")
+        void toSort_Unlisted_BadRequest() {
+            for (String field : new String[]{"senderAddress", "created_at", "customer.fullName", ""}) {
+                assertThatThrownBy(() -> OrderSortField.toSort(field, "desc"))
+                        .isInstanceOf(DomainStatusException.class)
+                        .hasMessageContaining("createdAt, status")
+                        .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.persistence.EntityManager;
+import org.f3.postalmanagement.dto.response.dashboard.StatsReconcileResponse;
+import org.f3.postalmanagement.entity.actor.Customer;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.OrderStatsCounter;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.OrderStatsCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Runs reconcile() against the database, covering the counter upsert and the named lock fallback on H2.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderStatsService.class, DatabaseNamedLock.class})
+@DisplayName("Order stats reconcile tests")
+class OrderStatsReconcileTest {
+
+    private static final LocalDateTime SEPTEMBER = LocalDateTime.of(2026, 9, 1, 8, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderStatsCounterRepository orderStatsCounterRepository;
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private DatabaseNamedLock databaseNamedLock;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setFullName("Customer");
+        customer.setPhoneNumber("0900000000");
+        customer.setAddress("Address");
+        customer.setSubscriptionPlan(SubscriptionPlan.BASIC);
+        customer.setCreatedAt(SEPTEMBER);
+        entityManager.persist(customer);
+
+        order(customer, "VN0000000000000001", OrderStatus.DELIVERED, SEPTEMBER);
+        order(customer, "VN0000000000000002", OrderStatus.DELIVERED, SEPTEMBER.plusDays(3));
+        order(customer, "VN0000000000000003", OrderStatus.PENDING, SEPTEMBER.plusMonths(1));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void order(Customer customer, String trackingNumber, OrderStatus status, LocalDateTime createdAt) {
+        Order order = Order.builder()
+                .trackingNumber(trackingNumber)
+                .customer(customer)
+                .senderName("Sender")
+                .senderPhone("0900000001")
+                .senderAddress("Sender address")
+                .senderWardCode("00001")
+                .receiverName("Receiver")
+                .receiverPhone("0900000002")
+                .receiverAddress("Receiver address")
+                .receiverWardCode("00002")
+                .weightKg(BigDecimal.ONE)
+                .shippingFee(BigDecimal.TEN)
+                .status(status)
+                .build();
+        order.setCreatedAt(createdAt);
+        entityManager.persist(order);
+    }
+
+    private Map<String, Long> counts() {
+        entityManager.clear();
+        return orderStatsCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(c -> c.getBucketMonth() + " " + c.getStatus(), OrderStatsCounter::getOrderCount));
+    }
+
+    @Test
+    @DisplayName("Path 1: Missing, short and stale buckets are corrected through the upsert")
+    void reconcile_CorrectsDrift() {
+        orderStatsCounterRepository.increment("2026-09", "DELIVERED", 1, BigDecimal.TEN);
+        orderStatsCounterRepository.increment("2026-08", "PENDING", 3, new BigDecimal("30"));
+
+        StatsReconcileResponse result = orderStatsService.reconcile();
+
+        assertThat(result.getCheckedBuckets()).isEqualTo(3);
+        assertThat(result.getDriftedBuckets()).isEqualTo(3);
+        assertThat(result.getOrderCountDrift()).isEqualTo(5);
+        assertThat(counts()).containsOnly(
+                Map.entry("2026-09 DELIVERED", 2L),
+                Map.entry("2026-10 PENDING", 1L),
+                Map.entry("2026-08 PENDING", 0L));
+        OrderStatsCounter delivered = orderStatsCounterRepository
+                .findById(new OrderStatsCounter.Key("2026-09", OrderStatus.DELIVERED)).orElseThrow();
+        assertThat(delivered.getTotalFee()).isEqualByComparingTo("20");
+    }
+
+    @Test
+    @DisplayName("Path 2: A second run finds nothing left to correct")
+    void reconcile_Twice_NoDriftLeft() {
+        orderStatsService.reconcile();
+
+        StatsReconcileResponse second = orderStatsService.reconcile();
+
+        assertThat(second.getDriftedBuckets()).isZero();
+        assertThat(counts()).containsOnly(
+                Map.entry("2026-09 DELIVERED", 2L),
+                Map.entry("2026-10 PENDING", 1L));
+    }
+
+    @Test
+    @DisplayName("Path 3: A run while the lock is held is rejected without touching the counters")
+    void reconcile_LockHeld_Conflict() {
+        Optional<Throwable> thrown = databaseNamedLock.tryRun(OrderStatsService.RECONCILE_LOCK,
+                () -> catchThrowable(orderStatsService::reconcile));
+
+        assertThat(thrown).get().isInstanceOf(DomainStatusException.class);
+        assertThat(counts()).isEmpty();
+    }
+}
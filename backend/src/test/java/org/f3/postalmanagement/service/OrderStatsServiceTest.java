@@ -0,0 +1,287 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.dto.response.dashboard.StatsReconcileResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.OrderStatsCounter;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.OrderStatsCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderStatsService Path Coverage Tests")
+class OrderStatsServiceTest {
+
+    @Mock
+    private OrderStatsCounterRepository orderStatsCounterRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DatabaseNamedLock databaseNamedLock;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderStatsService orderStatsService;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = Order.builder()
+                .trackingNumber("VN12345678901234567")
+                .shippingFee(new BigDecimal("35000"))
+                .status(OrderStatus.PENDING)
+                .build();
+        order.setCreatedAt(LocalDateTime.of(2024, 5, 12, 9, 30));
+
+        // The named lock is held by at most one run at a time, as GET_LOCK is across replicas
+        AtomicBoolean held = new AtomicBoolean();
+        lenient().when(databaseNamedLock.tryRun(eq(OrderStatsService.RECONCILE_LOCK), any())).thenAnswer(inv -> {
+            if (!held.compareAndSet(false, true)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(inv.<Supplier<?>>getArgument(1).get());
+            } finally {
+                held.set(false);
+            }
+        });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    // Counter table whose upsert applies deltas, so repeated corrections show up in the stored values
+    private Map<OrderStatsCounter.Key, OrderStatsCounter> storedCounters(OrderStatsCounter... initial) {
+        Map<OrderStatsCounter.Key, OrderStatsCounter> stored = new HashMap<>();
+        for (OrderStatsCounter counter : initial) {
+            stored.put(new OrderStatsCounter.Key(counter.getBucketMonth(), counter.getStatus()), counter);
+        }
+        when(orderStatsCounterRepository.findAll()).thenAnswer(inv -> List.copyOf(stored.values()));
+        doAnswer(inv -> {
+            OrderStatus status = OrderStatus.valueOf(inv.getArgument(1));
+            OrderStatsCounter counter = stored.computeIfAbsent(new OrderStatsCounter.Key(inv.getArgument(0), status),
+                    key -> new OrderStatsCounter(key.getBucketMonth(), status, 0, BigDecimal.ZERO));
+            counter.setOrderCount(counter.getOrderCount() + inv.<Long>getArgument(2));
+            counter.setTotalFee(counter.getTotalFee().add(inv.getArgument(3)));
+            return null;
+        }).when(orderStatsCounterRepository).increment(anyString(), anyString(), anyLong(), any());
+        return stored;
+    }
+
+    private OrderRepository.MonthStatusSummary summary(int year, int month, OrderStatus status,
+                                                        long count, BigDecimal totalFee) {
+        return new OrderRepository.MonthStatusSummary() {
+            public int getBucketYear() { return year; }
+            public int getBucketMonth() { return month; }
+            public OrderStatus getStatus() { return status; }
+            public long getOrderCount() { return count; }
+            public BigDecimal getTotalFee() { return totalFee; }
+        };
+    }
+
+    // ==================== record Tests ====================
+    @Nested
+    @DisplayName("recordCreated() / recordStatusChange()")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Path 1: New order is counted in its creation month")
+        void recordCreated_IncrementsBucket() {
+            orderStatsService.recordCreated(order);
+
+            verify(orderStatsCounterRepository).increment("2024-05", "PENDING", 1, new BigDecimal("35000"));
+        }
+
+        @Test
+        @DisplayName("Path 2: Status change moves the order between buckets")
+        void recordStatusChange_MovesCountAndFee() {
+            order.setStatus(OrderStatus.CANCELLED);
+
+            orderStatsService.recordStatusChange(order, OrderStatus.PENDING);
+
+            verify(orderStatsCounterRepository).increment("2024-05", "PENDING", -1, new BigDecimal("-35000"));
+            verify(orderStatsCounterRepository).increment("2024-05", "CANCELLED", 1, new BigDecimal("35000"));
+        }
+
+        @Test
+        @DisplayName("Path 3: Unchanged status leaves counters alone")
+        void recordStatusChange_SameStatus_NoOp() {
+            orderStatsService.recordStatusChange(order, OrderStatus.PENDING);
+
+            verifyNoInteractions(orderStatsCounterRepository);
+        }
+
+        @Test
+        @DisplayName("Path 4: Orders created together are counted with one update per bucket")
+        void recordCreated_Batch_OneUpdatePerBucket() {
+            Order second = Order.builder()
+                    .shippingFee(new BigDecimal("15000"))
+                    .status(OrderStatus.PENDING)
+                    .build();
+            second.setCreatedAt(LocalDateTime.of(2024, 5, 31, 23, 59));
+            Order nextMonth = Order.builder()
+                    .shippingFee(new BigDecimal("20000"))
+                    .status(OrderStatus.PENDING)
+                    .build();
+            nextMonth.setCreatedAt(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+            orderStatsService.recordCreated(List.of(order, second, nextMonth));
+
+            verify(orderStatsCounterRepository).increment("2024-05", "PENDING", 2, new BigDecimal("50000"));
+            verify(orderStatsCounterRepository).increment("2024-06", "PENDING", 1, new BigDecimal("20000"));
+            verifyNoMoreInteractions(orderStatsCounterRepository);
+        }
+    }
+
+    // ==================== reconcile Tests ====================
+    @Nested
+    @DisplayName("reconcile()")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Path 1: Counters in sync - Nothing corrected")
+        void reconcile_NoDrift() {
+            when(orderRepository.summarizeByMonthAndStatus()).thenReturn(List.of(
+                    summary(2024, 5, OrderStatus.DELIVERED, 3, new BigDecimal("90000"))
+            ));
+            when(orderStatsCounterRepository.findAll()).thenReturn(List.of(
+                    new OrderStatsCounter("2024-05", OrderStatus.DELIVERED, 3, new BigDecimal("90000.00"))
+            ));
+
+            StatsReconcileResponse result = orderStatsService.reconcile();
+
+            assertThat(result.getCheckedBuckets()).isEqualTo(1);
+            assertThat(result.getDriftedBuckets()).isZero();
+            verify(orderStatsCounterRepository, never()).increment(anyString(), anyString(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Path 2: Drift is corrected by deltas and reported")
+        void reconcile_CorrectsDrift() {
+            when(orderRepository.summarizeByMonthAndStatus()).thenReturn(List.of(
+                    summary(2024, 5, OrderStatus.DELIVERED, 5, new BigDecimal("150000")),
+                    summary(2024, 6, OrderStatus.PENDING, 2, new BigDecimal("40000"))
+            ));
+            when(orderStatsCounterRepository.findAll()).thenReturn(List.of(
+                    new OrderStatsCounter("2024-05", OrderStatus.DELIVERED, 3, new BigDecimal("90000")),
+                    new OrderStatsCounter("2024-05", OrderStatus.CANCELLED, 1, new BigDecimal("20000"))
+            ));
+
+            StatsReconcileResponse result = orderStatsService.reconcile();
+
+            verify(orderStatsCounterRepository).increment("2024-05", "DELIVERED", 2, new BigDecimal("60000"));
+            verify(orderStatsCounterRepository).increment("2024-05", "CANCELLED", -1, new BigDecimal("-20000"));
+            verify(orderStatsCounterRepository).increment("2024-06", "PENDING", 2, new BigDecimal("40000"));
+            assertThat(result.getCheckedBuckets()).isEqualTo(3);
+            assertThat(result.getDriftedBuckets()).isEqualTo(3);
+            assertThat(result.getOrderCountDrift()).isEqualTo(5);
+            assertThat(result.getFeeDrift()).isEqualByComparingTo("120000");
+        }
+
+        @Test
+        @DisplayName("Path 3: Two reconciles against one drift correct it exactly once")
+        void reconcile_Twice_CorrectsOnce() {
+            when(orderRepository.summarizeByMonthAndStatus()).thenReturn(List.of(
+                    summary(2024, 5, OrderStatus.DELIVERED, 5, new BigDecimal("150000"))
+            ));
+            Map<OrderStatsCounter.Key, OrderStatsCounter> stored = storedCounters(
+                    new OrderStatsCounter("2024-05", OrderStatus.DELIVERED, 3, new BigDecimal("90000")));
+
+            StatsReconcileResponse first = orderStatsService.reconcile();
+            StatsReconcileResponse second = orderStatsService.reconcile();
+
+            OrderStatsCounter counter = stored.get(new OrderStatsCounter.Key("2024-05", OrderStatus.DELIVERED));
+            assertThat(counter.getOrderCount()).isEqualTo(5);
+            assertThat(counter.getTotalFee()).isEqualByComparingTo("150000");
+            assertThat(first.getDriftedBuckets()).isEqualTo(1);
+            assertThat(second.getDriftedBuckets()).isZero();
+            verify(orderStatsCounterRepository, times(1)).increment(anyString(), anyString(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Path 4: Overlapping runs - The second is refused while the first holds the lock")
+        void reconcile_Overlapping_CorrectsOnce() {
+            Map<OrderStatsCounter.Key, OrderStatsCounter> stored = storedCounters(
+                    new OrderStatsCounter("2024-05", OrderStatus.DELIVERED, 3, new BigDecimal("90000")));
+            when(orderRepository.summarizeByMonthAndStatus()).thenAnswer(inv -> {
+                // Nightly run on another replica and an admin request arriving mid-run
+                orderStatsService.scheduledReconcile();
+                assertThatThrownBy(() -> orderStatsService.reconcile())
+                        .isInstanceOf(DomainStatusException.class)
+                        .hasMessageContaining("already being reconciled");
+                return List.of(summary(2024, 5, OrderStatus.DELIVERED, 5, new BigDecimal("150000")));
+            });
+
+            orderStatsService.reconcile();
+
+            OrderStatsCounter counter = stored.get(new OrderStatsCounter.Key("2024-05", OrderStatus.DELIVERED));
+            assertThat(counter.getOrderCount()).isEqualTo(5);
+            assertThat(counter.getTotalFee()).isEqualByComparingTo("150000");
+            verify(orderStatsCounterRepository, times(1)).increment(anyString(), anyString(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Path 5: Startup skips the rebuild once counters exist")
+        void reconcileOnStartup_CountersPresent_Skips() {
+            when(orderStatsCounterRepository.count()).thenReturn(12L);
+
+            orderStatsService.reconcileOnStartup();
+
+            verifyNoInteractions(orderRepository, databaseNamedLock);
+        }
+
+        @Test
+        @DisplayName("Path 6: Startup builds empty counters")
+        void reconcileOnStartup_NoCounters_Reconciles() {
+            when(orderStatsCounterRepository.count()).thenReturn(0L);
+            when(orderRepository.summarizeByMonthAndStatus()).thenReturn(List.of(
+                    summary(2024, 5, OrderStatus.PENDING, 2, new BigDecimal("40000"))
+            ));
+
+            orderStatsService.reconcileOnStartup();
+
+            verify(orderStatsCounterRepository).increment("2024-05", "PENDING", 2, new BigDecimal("40000"));
+        }
+
+        @Test
+        @DisplayName("Path 7: Scheduled run swallows failures")
+        void scheduledReconcile_Failure_DoesNotThrow() {
+            when(orderRepository.summarizeByMonthAndStatus()).thenThrow(new RuntimeException("db down"));
+
+            orderStatsService.scheduledReconcile();
+
+            verify(orderStatsCounterRepository, never()).increment(anyString(), anyString(), anyLong(), any());
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.f3.postalmanagement.dto.request.order.CalculateShippingFeeRequest;
+import org.f3.postalmanagement.dto.response.order.ShippingFeeQuoteResponse;
+import org.f3.postalmanagement.entity.administrative.Ward;
+import org.f3.postalmanagement.entity.pricing.PricingDataChangedEvent;
+import org.f3.postalmanagement.entity.pricing.PricingZone;
+import org.f3.postalmanagement.entity.pricing.ShippingRate;
+import org.f3.postalmanagement.entity.pricing.WardZoneMapping;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.pricing.ShippingRateRepository;
+import org.f3.postalmanagement.repository.pricing.WardZoneMappingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShippingFeeCalculator Path Coverage Tests")
+class ShippingFeeCalculatorTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private WardZoneMappingRepository wardZoneMappingRepository;
+
+    @Mock
+    private ShippingRateRepository shippingRateRepository;
+
+    private PricingMatrixProvider pricingMatrixProvider;
+    private ShippingFeeCalculator shippingFeeCalculator;
+
+    private PricingZone coreZone;
+    private PricingZone nationalZone;
+
+    @BeforeEach
+    void setUp() {
+        coreZone = zone("CORE");
+        nationalZone = zone("NATIONAL");
+
+        pricingMatrixProvider = new PricingMatrixProvider(wardZoneMappingRepository, shippingRateRepository, Duration.ofHours(1));
+        shippingFeeCalculator = new ShippingFeeCalculator(pricingMatrixProvider, VALIDATOR);
+    }
+
+    private PricingZone zone(String code) {
+        PricingZone zone = PricingZone.builder().code(code).name(code).build();
+        zone.setId(UUID.randomUUID());
+        return zone;
+    }
+
+    private WardZoneMapping mapping(String wardCode, PricingZone zone) {
+        Ward ward = new Ward();
+        ward.setCode(wardCode);
+        return WardZoneMapping.builder().ward(ward).zone(zone).build();
+    }
+
+    private ShippingRate rate(PricingZone from, PricingZone to, String base, String perKg,
+                              LocalDateTime validFrom, LocalDateTime validTo) {
+        return ShippingRate.builder()
+                .fromZone(from).toZone(to)
+                .basePrice(new BigDecimal(base)).pricePerKg(new BigDecimal(perKg))
+                .validFrom(validFrom).validTo(validTo)
+                .isActive(true)
+                .build();
+    }
+
+    private void givenPricing(List<WardZoneMapping> mappings, List<ShippingRate> rates) {
+        when(wardZoneMappingRepository.findAllWithZone()).thenReturn(mappings);
+        when(shippingRateRepository.findAllActiveWithZones()).thenReturn(rates);
+    }
+
+    // ==================== calculateFee Tests ====================
+    @Nested
+    @DisplayName("calculateFee()")
+    class CalculateFeeTests {
+
+        @Test
+        @DisplayName("Path 1: Actual weight is chargeable when no dimensions given")
+        void calculateFee_NoDimensions_UsesActualWeight() {
+            givenPricing(
+                    List.of(mapping("001", coreZone), mapping("002", nationalZone)),
+                    List.of(rate(coreZone, nationalZone, "35000", "8000", null, null)));
+
+            BigDecimal fee = shippingFeeCalculator.calculateFee("001", "002", new BigDecimal("1.5"), null, null, null);
+
+            assertThat(fee).isEqualByComparingTo("47000");
+        }
+
+        @Test
+        @DisplayName("Path 2: Dimensional weight is chargeable when larger than actual weight")
+        void calculateFee_LargeParcel_UsesDimensionalWeight() {
+            givenPricing(
+                    List.of(mapping("001", coreZone)),
+                    List.of(rate(coreZone, coreZone, "15000", "2000", null, null)));
+
+            // 50 x 40 x 30 / 5000 = 12kg
+            BigDecimal fee = shippingFeeCalculator.calculateFee("001", "001", new BigDecimal("2"), 50, 40, 30);
+
+            assertThat(fee).isEqualByComparingTo("39000");
+        }
+
+        @Test
+        @DisplayName("Path 3: Unmapped ward is rejected")
+        void calculateFee_UnmappedWard_ThrowsException() {
+            givenPricing(List.of(mapping("001", coreZone)), List.of());
+
+            assertThatThrownBy(() -> shippingFeeCalculator.calculateFee("001", "999", BigDecimal.ONE, null, null, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("No pricing zone found for ward: 999");
+        }
+
+        @Test
+        @DisplayName("Path 4: Route without active rate is rejected")
+        void calculateFee_NoRate_ThrowsException() {
+            givenPricing(
+                    List.of(mapping("001", coreZone), mapping("002", nationalZone)),
+                    List.of(rate(coreZone, coreZone, "15000", "2000", null, null)));
+
+            assertThatThrownBy(() -> shippingFeeCalculator.calculateFee("001", "002", BigDecimal.ONE, null, null, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("CORE -> NATIONAL");
+        }
+
+        @Test
+        @DisplayName("Path 5: Only the rate window valid now is applied")
+        void calculateFee_MultipleWindows_UsesCurrentWindow() {
+            LocalDateTime now = LocalDateTime.now();
+            givenPricing(
+                    List.of(mapping("001", coreZone)),
+                    List.of(
+                            rate(coreZone, coreZone, "10000", "1000", now.minusDays(30), now.minusDays(1)),
+                            rate(coreZone, coreZone, "15000", "2000", now.minusDays(1), null),
+                            rate(coreZone, coreZone, "99000", "9000", now.plusDays(1), null)));
+
+            BigDecimal fee = shippingFeeCalculator.calculateFee("001", "001", BigDecimal.ONE, null, null, null);
+
+            assertThat(fee).isEqualByComparingTo("17000");
+        }
+
+        @Test
+        @DisplayName("Path 6: Repeated quotes are served from the snapshot")
+        void calculateFee_RepeatedQuotes_LoadsPricingOnce() {
+            givenPricing(
+                    List.of(mapping("001", coreZone)),
+                    List.of(rate(coreZone, coreZone, "15000", "2000", null, null)));
+
+            for (int i = 0; i < 5; i++) {
+                shippingFeeCalculator.calculateFee("001", "001", BigDecimal.ONE, null, null, null);
+            }
+
+            verify(wardZoneMappingRepository, times(1)).findAllWithZone();
+            verify(shippingRateRepository, times(1)).findAllActiveWithZones();
+            verify(wardZoneMappingRepository, never()).findByWardCode(any());
+        }
+    }
+
+    // ==================== calculateFees Tests ====================
+    @Nested
+    @DisplayName("calculateFees()")
+    class CalculateFeesTests {
+
+        private CalculateShippingFeeRequest item(String from, String to, String weight, Integer l, Integer w, Integer h) {
+            CalculateShippingFeeRequest request = new CalculateShippingFeeRequest();
+            request.setSenderWardCode(from);
+            request.setReceiverWardCode(to);
+            request.setWeightKg(weight == null ? null : new BigDecimal(weight));
+            request.setLengthCm(l);
+            request.setWidthCm(w);
+            request.setHeightCm(h);
+            return request;
+        }
+
+        @Test
+        @DisplayName("Path 1: Fees are returned in input order with per-item errors")
+        void calculateFees_MixedItems_ReportsPerItem() {
+            givenPricing(
+                    List.of(mapping("001", coreZone), mapping("002", nationalZone)),
+                    List.of(rate(coreZone, nationalZone, "35000", "8000", null, null),
+                            rate(coreZone, coreZone, "15000", "2000", null, null)));
+
+            List<ShippingFeeQuoteResponse> quotes = shippingFeeCalculator.calculateFees(List.of(
+                    item("001", "002", "1.5", null, null, null),
+                    item("001", "999", "1", null, null, null),
+                    item("002", "001", "1", null, null, null),
+                    item("001", "001", null, null, null, null),
+                    item("001", "001", "2", 50, 40, 30)));
+
+            assertThat(quotes).extracting(ShippingFeeQuoteResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+            assertThat(quotes.get(0).getFee()).isEqualByComparingTo("47000");
+            assertThat(quotes.get(1).isSuccess()).isFalse();
+            assertThat(quotes.get(1).getMessage()).contains("ward: 999");
+            assertThat(quotes.get(2).isSuccess()).isFalse();
+            assertThat(quotes.get(2).getMessage()).contains("NATIONAL -> CORE");
+            assertThat(quotes.get(3).getErrorCode()).isEqualTo("VALIDATION_ERROR");
+            assertThat(quotes.get(4).getFee()).isEqualByComparingTo("39000");
+        }
+
+        @Test
+        @DisplayName("Path 2: Large batch priced in parallel matches single quotes")
+        void calculateFees_LargeBatch_MatchesSingleQuotes() {
+            givenPricing(
+                    List.of(mapping("001", coreZone), mapping("002", nationalZone)),
+                    List.of(rate(coreZone, nationalZone, "35000", "8000", null, null),
+                            rate(coreZone, coreZone, "15000", "2000", null, null)));
+
+            List<CalculateShippingFeeRequest> items = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                items.add(item("001", i % 2 == 0 ? "001" : "002", (1 + i % 37) + ".25", 10 + i % 50, 20, 30));
+            }
+
+            List<ShippingFeeQuoteResponse> quotes = shippingFeeCalculator.calculateFees(items);
+
+            assertThat(quotes).hasSize(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                CalculateShippingFeeRequest item = items.get(i);
+                BigDecimal expected = shippingFeeCalculator.calculateFee(item.getSenderWardCode(), item.getReceiverWardCode(),
+                        item.getWeightKg(), item.getLengthCm(), item.getWidthCm(), item.getHeightCm());
+                assertThat(quotes.get(i).getFee()).isEqualByComparingTo(expected);
+            }
+        }
+    }
+
+    // ==================== PricingMatrixProvider Tests ====================
+    @Nested
+    @DisplayName("PricingMatrixProvider")
+    class PricingMatrixProviderTests {
+
+        @Test
+        @DisplayName("Path 1: Pricing change swaps in a new snapshot on next read")
+        void onPricingDataChanged_ReloadsOnNextRead() {
+            givenPricing(
+                    List.of(mapping("001", coreZone)),
+                    List.of(rate(coreZone, coreZone, "15000", "2000", null, null)));
+            PricingMatrix first = pricingMatrixProvider.current();
+
+            pricingMatrixProvider.onPricingDataChanged(new PricingDataChangedEvent(ShippingRate.class));
+            PricingMatrix second = pricingMatrixProvider.current();
+
+            assertThat(second).isNotSameAs(first);
+            verify(shippingRateRepository, times(2)).findAllActiveWithZones();
+        }
+
+        @Test
+        @DisplayName("Path 2: Failed scheduled refresh keeps previous snapshot")
+        void scheduledRefresh_Failure_KeepsSnapshot() {
+            givenPricing(List.of(mapping("001", coreZone)), List.of());
+            PricingMatrix first = pricingMatrixProvider.current();
+
+            when(wardZoneMappingRepository.findAllWithZone()).thenThrow(new RuntimeException("DB down"));
+            pricingMatrixProvider.scheduledRefresh();
+
+            assertThat(pricingMatrixProvider.current()).isSameAs(first);
+            assertThat(first.zoneOf("001")).isNotEqualTo(PricingMatrix.NO_ZONE);
+        }
+
+        @Test
+        @DisplayName("Path 3: After a failed reload, quotes serve the previous snapshot without retrying until the backoff passes")
+        void current_ReloadFails_ServesSnapshotDuringBackoff() {
+            givenPricing(List.of(mapping("001", coreZone)), List.of());
+            PricingMatrix first = pricingMatrixProvider.current();
+
+            when(wardZoneMappingRepository.findAllWithZone()).thenThrow(new RuntimeException("DB down"));
+            pricingMatrixProvider.onPricingDataChanged(new PricingDataChangedEvent(ShippingRate.class));
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(pricingMatrixProvider.current()).isSameAs(first);
+            }
+            // The initial load and a single failed retry
+            verify(wardZoneMappingRepository, times(2)).findAllWithZone();
+        }
+
+        @Test
+        @DisplayName("Path 4: Once the backoff has passed, the next quote retries the reload")
+        void current_ReloadFails_RetriedAfterBackoff() {
+            pricingMatrixProvider = new PricingMatrixProvider(wardZoneMappingRepository, shippingRateRepository, Duration.ZERO);
+            givenPricing(List.of(mapping("001", coreZone)), List.of());
+            PricingMatrix first = pricingMatrixProvider.current();
+
+            when(wardZoneMappingRepository.findAllWithZone())
+                    .thenThrow(new RuntimeException("DB down"))
+                    .thenReturn(List.of(mapping("001", coreZone), mapping("002", nationalZone)));
+            pricingMatrixProvider.onPricingDataChanged(new PricingDataChangedEvent(ShippingRate.class));
+
+            assertThat(pricingMatrixProvider.current()).isSameAs(first);
+            PricingMatrix reloaded = pricingMatrixProvider.current();
+
+            assertThat(reloaded).isNotSameAs(first);
+            assertThat(reloaded.zoneOf("002")).isNotEqualTo(PricingMatrix.NO_ZONE);
+        }
+
+        @Test
+        @DisplayName("Path 5: A quote does not wait for a reload running on another thread")
+        void current_ReloadInProgress_ServesSnapshot() throws Exception {
+            givenPricing(List.of(mapping("001", coreZone)), List.of());
+            PricingMatrix first = pricingMatrixProvider.current();
+
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(wardZoneMappingRepository.findAllWithZone()).thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(mapping("001", coreZone));
+            });
+            pricingMatrixProvider.onPricingDataChanged(new PricingDataChangedEvent(ShippingRate.class));
+            Thread reloader = new Thread(pricingMatrixProvider::current);
+            reloader.start();
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                assertThat(pricingMatrixProvider.current()).isSameAs(first);
+            } finally {
+                release.countDown();
+                reloader.join(5000);
+            }
+            assertThat(pricingMatrixProvider.current()).isNotSameAs(first);
+        }
+
+        @Test
+        @DisplayName("Path 6: Failure - Without any snapshot, quotes during the backoff are refused with 503")
+        void current_NoSnapshot_RefusedDuringBackoff() {
+            when(wardZoneMappingRepository.findAllWithZone()).thenThrow(new RuntimeException("DB down"));
+
+            assertThatThrownBy(() -> pricingMatrixProvider.current()).hasMessage("DB down");
+            assertThatThrownBy(() -> pricingMatrixProvider.current())
+                    .isInstanceOf(DomainStatusException.class)
+                    .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            verify(wardZoneMappingRepository, times(1)).findAllWithZone();
+        }
+    }
+}
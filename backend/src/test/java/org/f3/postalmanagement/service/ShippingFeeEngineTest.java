@@ -0,0 +1,152 @@
+package org.f3.postalmanagement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ShippingFeeEngine Path Coverage Tests")
+class ShippingFeeEngineTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static BigDecimal randomDecimal(Random random, long maxUnscaled, int maxScale) {
+        return BigDecimal.valueOf(Math.floorMod(random.nextLong(), maxUnscaled + 1), random.nextInt(maxScale + 1));
+    }
+
+    private static Integer randomDimension(Random random) {
+        int pick = random.nextInt(20);
+        if (pick == 0) {
+            return null;
+        }
+        if (pick == 1) {
+            return random.nextInt(3) - 1; // -1, 0 or 1
+        }
+        if (pick == 2) {
+            return Integer.MAX_VALUE - random.nextInt(1000); // forces the overflow fallback
+        }
+        return 1 + random.nextInt(300);
+    }
+
+    private static void assertSameAsReference(BigDecimal base, BigDecimal perKg, BigDecimal weight,
+                                              Integer l, Integer w, Integer h) {
+        PricingMatrix.Rate rate = PricingMatrix.Rate.of(base, perKg, null, null);
+
+        BigDecimal actual = ShippingFeeEngine.fee(rate, weight, l, w, h);
+        BigDecimal expected = ShippingFeeEngine.referenceFee(base, perKg, weight, l, w, h);
+
+        // equals (not compareTo): value and scale must both match the BigDecimal path
+        assertThat(actual)
+                .as("base=%s perKg=%s weight=%s dims=%sx%sx%s", base, perKg, weight, l, w, h)
+                .isEqualTo(expected);
+    }
+
+    // ==================== fee() equivalence Tests ====================
+    @Nested
+    @DisplayName("fee() equivalence with BigDecimal HALF_UP path")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("Property: random weights, dimensions and VND prices")
+        void fee_RandomVndInputs_MatchesReference() {
+            Random random = new Random(20240117L);
+            for (int i = 0; i < SAMPLES; i++) {
+                assertSameAsReference(
+                        randomDecimal(random, 200_000, 0),
+                        randomDecimal(random, 50_000, 0),
+                        randomDecimal(random, 100_000, 2),
+                        randomDimension(random), randomDimension(random), randomDimension(random));
+            }
+        }
+
+        @Test
+        @DisplayName("Property: fractional prices and high-precision weights")
+        void fee_RandomFractionalInputs_MatchesReference() {
+            Random random = new Random(42L);
+            for (int i = 0; i < SAMPLES; i++) {
+                assertSameAsReference(
+                        randomDecimal(random, 99_999_999, 2),
+                        randomDecimal(random, 9_999_999, 3), // scale 3 prices take the fallback path
+                        randomDecimal(random, 9_999_999, 5), // scale > 3 weights take the fallback path
+                        randomDimension(random), randomDimension(random), randomDimension(random));
+            }
+        }
+
+        @Test
+        @DisplayName("Property: values near the long range fall back without overflow")
+        void fee_HugeInputs_MatchesReference() {
+            Random random = new Random(7L);
+            for (int i = 0; i < 10_000; i++) {
+                assertSameAsReference(
+                        randomDecimal(random, Long.MAX_VALUE / 2, 2),
+                        randomDecimal(random, Long.MAX_VALUE / 2, 2),
+                        randomDecimal(random, Long.MAX_VALUE / 2, 3),
+                        randomDimension(random), randomDimension(random), randomDimension(random));
+            }
+        }
+
+        @Test
+        @DisplayName("Edge: exact half VND rounds up")
+        void fee_HalfVnd_RoundsUp() {
+            // 1000 + 0.005kg * 100 = 1000.5
+            assertSameAsReference(new BigDecimal("1000"), new BigDecimal("100"), new BigDecimal("0.005"), null, null, null);
+            PricingMatrix.Rate rate = PricingMatrix.Rate.of(new BigDecimal("1000"), new BigDecimal("100"), null, null);
+
+            assertThat(ShippingFeeEngine.fee(rate, new BigDecimal("0.005"), null, null, null)).isEqualTo(new BigDecimal("1001"));
+        }
+    }
+
+    // ==================== dimensionalWeightCentiKg() Tests ====================
+    @Nested
+    @DisplayName("dimensionalWeightCentiKg()")
+    class DimensionalWeightTests {
+
+        @Test
+        @DisplayName("Path 1: Matches the 2-decimal BigDecimal dimensional weight")
+        void dimensionalWeight_MatchesReference() {
+            for (int l = 1; l <= 60; l += 7) {
+                for (int w = 1; w <= 60; w += 5) {
+                    for (int h = 1; h <= 60; h += 3) {
+                        BigDecimal expected = ShippingFeeEngine.referenceDimensionalWeight(l, w, h);
+                        long actual = ShippingFeeEngine.dimensionalWeightCentiKg(l, w, h);
+                        assertThat(BigDecimal.valueOf(actual, 2)).isEqualByComparingTo(expected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Path 2: Missing or non-positive dimensions give zero")
+        void dimensionalWeight_MissingDimensions_ReturnsZero() {
+            assertThat(ShippingFeeEngine.dimensionalWeightCentiKg(null, 10, 10)).isZero();
+            assertThat(ShippingFeeEngine.dimensionalWeightCentiKg(10, 0, 10)).isZero();
+            assertThat(ShippingFeeEngine.dimensionalWeightCentiKg(10, 10, -5)).isZero();
+        }
+    }
+
+    // ==================== toScaledLong() Tests ====================
+    @Nested
+    @DisplayName("toScaledLong()")
+    class ToScaledLongTests {
+
+        @Test
+        @DisplayName("Path 1: Exact values are scaled")
+        void toScaledLong_Exact_ReturnsScaled() {
+            assertThat(ShippingFeeEngine.toScaledLong(new BigDecimal("1.5"), 3)).isEqualTo(1500L);
+            assertThat(ShippingFeeEngine.toScaledLong(new BigDecimal("2.50000"), 3)).isEqualTo(2500L);
+        }
+
+        @Test
+        @DisplayName("Path 2: Inexact, negative or null values are rejected")
+        void toScaledLong_NotRepresentable_ReturnsNotExact() {
+            assertThat(ShippingFeeEngine.toScaledLong(new BigDecimal("1.2345"), 3)).isEqualTo(ShippingFeeEngine.NOT_EXACT);
+            assertThat(ShippingFeeEngine.toScaledLong(new BigDecimal("-1"), 3)).isEqualTo(ShippingFeeEngine.NOT_EXACT);
+            assertThat(ShippingFeeEngine.toScaledLong(null, 3)).isEqualTo(ShippingFeeEngine.NOT_EXACT);
+            assertThat(ShippingFeeEngine.toScaledLong(new BigDecimal("1e30"), 3)).isEqualTo(ShippingFeeEngine.NOT_EXACT);
+        }
+    }
+}
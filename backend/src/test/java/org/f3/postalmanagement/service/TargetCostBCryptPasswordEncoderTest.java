@@ -0,0 +1,104 @@
+package org.f3.postalmanagement.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TargetCostBCryptPasswordEncoder Path Coverage Tests")
+class TargetCostBCryptPasswordEncoderTest {
+
+    private final TargetCostBCryptPasswordEncoder bcrypt = new TargetCostBCryptPasswordEncoder(5);
+
+    private DelegatingPasswordEncoder delegating() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // ==================== upgradeEncoding Tests ====================
+    @Nested
+    @DisplayName("upgradeEncoding()")
+    class UpgradeEncodingTests {
+
+        @Test
+        @DisplayName("Path 1: Hash at the target cost is kept")
+        void upgradeEncoding_SameCost_False() {
+            assertThat(bcrypt.upgradeEncoding(BCrypt.hashpw("secret", BCrypt.gensalt(5)))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 2: Weaker hash is rehashed")
+        void upgradeEncoding_LowerCost_True() {
+            assertThat(bcrypt.upgradeEncoding(BCrypt.hashpw("secret", BCrypt.gensalt(4)))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 3: Stronger hash is kept rather than downgraded")
+        void upgradeEncoding_HigherCost_False() {
+            assertThat(bcrypt.upgradeEncoding(BCrypt.hashpw("secret", BCrypt.gensalt(6)))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 4: Unrecognised hash is left alone")
+        void upgradeEncoding_NotBcrypt_False() {
+            assertThat(bcrypt.upgradeEncoding("plain")).isFalse();
+            assertThat(bcrypt.upgradeEncoding(null)).isFalse();
+        }
+    }
+
+    // ==================== delegating encoder Tests ====================
+    @Nested
+    @DisplayName("DelegatingPasswordEncoder")
+    class DelegatingTests {
+
+        @Test
+        @DisplayName("Path 1: New hashes carry the algorithm prefix and target cost")
+        void encode_PrefixedWithTargetCost() {
+            String encoded = delegating().encode("secret");
+
+            assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+            assertThat(delegating().matches("secret", encoded)).isTrue();
+            assertThat(delegating().upgradeEncoding(encoded)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 2: Unprefixed legacy hash still matches and is marked for rehash")
+        void matches_LegacyHash_MatchesAndUpgrades() {
+            String legacy = BCrypt.hashpw("secret", BCrypt.gensalt(4));
+
+            assertThat(delegating().matches("secret", legacy)).isTrue();
+            assertThat(delegating().upgradeEncoding(legacy)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 3: Successful login rehashes a legacy hash through the password service")
+        void login_LegacyHash_Rehashed() {
+            String legacy = BCrypt.hashpw("secret", BCrypt.gensalt(4));
+            AtomicReference<String> stored = new AtomicReference<>(legacy);
+
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(username ->
+                    User.withUsername(username).password(stored.get()).roles("CUSTOMER").build());
+            provider.setPasswordEncoder(delegating());
+            provider.setUserDetailsPasswordService((UserDetails user, String newPassword) -> {
+                stored.set(newPassword);
+                return User.withUserDetails(user).password(newPassword).build();
+            });
+
+            provider.authenticate(new UsernamePasswordAuthenticationToken("0900000000", "secret"));
+
+            assertThat(stored.get()).startsWith("{bcrypt}$2a$05$");
+            assertThat(delegating().matches("secret", stored.get())).isTrue();
+        }
+    }
+}
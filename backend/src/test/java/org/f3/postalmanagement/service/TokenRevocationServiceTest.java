@@ -0,0 +1,175 @@
+package org.f3.postalmanagement.service;
+
+import org.f3.postalmanagement.entity.actor.RevokedToken;
+import org.f3.postalmanagement.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Path Coverage Tests")
+class TokenRevocationServiceTest {
+
+    private static final long LIFETIME_MILLIS = Duration.ofHours(24).toMillis();
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, LIFETIME_MILLIS, Duration.ofHours(1));
+        accountId = UUID.randomUUID();
+    }
+
+    private Date inMinutes(long minutes) {
+        return new Date(System.currentTimeMillis() + Duration.ofMinutes(minutes).toMillis());
+    }
+
+    private RevokedToken row(String jti, Date expiresAt) {
+        return RevokedToken.builder()
+                .jti(jti)
+                .accountId(accountId)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // ==================== revoke / isRevoked Tests ====================
+    @Nested
+    @DisplayName("revoke() / isRevoked()")
+    class RevokeTests {
+
+        @Test
+        @DisplayName("Path 1: Revoked token is found and persisted")
+        void revoke_PersistsAndRejects() {
+            Date expiresAt = inMinutes(90);
+
+            tokenRevocationService.revoke("jti-1", accountId, expiresAt);
+
+            assertThat(tokenRevocationService.isRevoked("jti-1", expiresAt)).isTrue();
+            assertThat(tokenRevocationService.isRevoked("jti-2", expiresAt)).isFalse();
+            ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+            verify(revokedTokenRepository).save(saved.capture());
+            assertThat(saved.getValue().getJti()).isEqualTo("jti-1");
+            assertThat(saved.getValue().getAccountId()).isEqualTo(accountId);
+        }
+
+        @Test
+        @DisplayName("Path 2: Lookup with a different expiry misses (the id is only searched in its own bucket)")
+        void isRevoked_OtherBucket_ReturnsFalse() {
+            tokenRevocationService.revoke("jti-1", accountId, inMinutes(90));
+
+            assertThat(tokenRevocationService.isRevoked("jti-1", inMinutes(600))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Path 3: Expired token and token without id are ignored")
+        void revoke_ExpiredOrWithoutId_Ignored() {
+            tokenRevocationService.revoke("jti-1", accountId, inMinutes(-1));
+            tokenRevocationService.revoke(null, accountId, inMinutes(30));
+
+            assertThat(tokenRevocationService.size()).isZero();
+            assertThat(tokenRevocationService.isRevoked(null, inMinutes(30))).isFalse();
+            verifyNoInteractions(revokedTokenRepository);
+        }
+
+        @Test
+        @DisplayName("Path 4: Tokens spread over the whole lifetime are all held")
+        void revoke_AcrossLifetime_AllHeld() {
+            for (int hour = 0; hour < 24; hour++) {
+                tokenRevocationService.revoke("jti-" + hour, accountId, inMinutes(hour * 60L + 30));
+            }
+
+            assertThat(tokenRevocationService.size()).isEqualTo(24);
+            for (int hour = 0; hour < 24; hour++) {
+                assertThat(tokenRevocationService.isRevoked("jti-" + hour, inMinutes(hour * 60L + 30))).isTrue();
+            }
+        }
+    }
+
+    // ==================== reload / sync Tests ====================
+    @Nested
+    @DisplayName("reload() / sync()")
+    class ReloadTests {
+
+        @Test
+        @DisplayName("Path 1: Startup reload restores persisted revocations")
+        void reload_RestoresRevocations() {
+            Date expiresAt = inMinutes(120);
+            when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class)))
+                    .thenReturn(List.of(row("jti-1", expiresAt)));
+
+            assertThat(tokenRevocationService.reload()).isEqualTo(1);
+            assertThat(tokenRevocationService.isRevoked("jti-1", expiresAt)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 2: Sync only queries revocations made since the previous sync")
+        void sync_AfterReload_QueriesIncrementally() {
+            Date expiresAt = inMinutes(120);
+            when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of());
+            when(revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(any(LocalDateTime.class), any(LocalDateTime.class)))
+                    .thenReturn(List.of(row("jti-remote", expiresAt)));
+
+            tokenRevocationService.reload();
+            assertThat(tokenRevocationService.sync()).isEqualTo(1);
+
+            assertThat(tokenRevocationService.isRevoked("jti-remote", expiresAt)).isTrue();
+            verify(revokedTokenRepository).findByExpiresAtAfter(any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Path 3: Sync before any load falls back to a full reload")
+        void sync_WithoutReload_LoadsAll() {
+            when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of());
+
+            tokenRevocationService.sync();
+
+            verify(revokedTokenRepository).findByExpiresAtAfter(any(LocalDateTime.class));
+            verify(revokedTokenRepository, never()).findByRevokedAtAfterAndExpiresAtAfter(any(), any());
+        }
+    }
+
+    // ==================== purgeExpired Tests ====================
+    @Nested
+    @DisplayName("purgeExpired()")
+    class PurgeTests {
+
+        @Test
+        @DisplayName("Path 1: Buckets of expired tokens are dropped, live ones kept")
+        void purgeExpired_DropsExpiredBuckets() {
+            Date expired = new Date(System.currentTimeMillis() - Duration.ofHours(2).toMillis());
+            when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class)))
+                    .thenReturn(List.of(row("jti-old", expired)));
+            tokenRevocationService.reload();
+            tokenRevocationService.revoke("jti-live", accountId, inMinutes(120));
+            when(revokedTokenRepository.deleteExpired(any(LocalDateTime.class))).thenReturn(1);
+
+            int purged = tokenRevocationService.purgeExpired();
+
+            assertThat(purged).isEqualTo(1);
+            assertThat(tokenRevocationService.size()).isEqualTo(1);
+            assertThat(tokenRevocationService.isRevoked("jti-live", inMinutes(120))).isTrue();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.f3.postalmanagement.repository.ArchivedTrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackingEventArchiver Path Coverage Tests")
+class TrackingEventArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 7, 1, 0, 0);
+
+    @Mock
+    private TrackingEventRepository trackingEventRepository;
+
+    @Mock
+    private ArchivedTrackingEventRepository archivedTrackingEventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DatabaseNamedLock databaseNamedLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackingEventArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new TrackingEventArchiver(trackingEventRepository, archivedTrackingEventRepository,
+                transactionTemplate, entityManager, databaseNamedLock, meterRegistry, Duration.ofDays(90), 2, false, 2);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    // ==================== archive Tests ====================
+    @Nested
+    @DisplayName("archive()")
+    class ArchiveTests {
+
+        @Test
+        @DisplayName("Path 1: Orders are moved batch by batch until none are left")
+        void archive_MovesAllBatches() {
+            List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+            List<UUID> second = List.of(UUID.randomUUID());
+            when(trackingEventRepository.findArchivableOrderIds(eq(TrackingEventArchiver.ARCHIVABLE_STATUSES),
+                    eq(CUTOFF), any(Pageable.class)))
+                    .thenReturn(first, second, List.of());
+            when(trackingEventRepository.deleteArchived(first)).thenReturn(7);
+            when(trackingEventRepository.deleteArchived(second)).thenReturn(3);
+
+            long moved = archiver.archive(CUTOFF);
+
+            assertThat(moved).isEqualTo(10);
+            verify(archivedTrackingEventRepository).copyFromHotTable(first, CUTOFF);
+            verify(archivedTrackingEventRepository).copyFromHotTable(second, CUTOFF);
+            verify(transactionTemplate, times(2)).execute(any());
+            assertThat(meterRegistry.counter("tracking.archive.events").count()).isEqualTo(10.0);
+        }
+
+        @Test
+        @DisplayName("Path 2: A batch that moves nothing stops the run")
+        void archive_NothingMoved_Stops() {
+            List<UUID> stuck = List.of(UUID.randomUUID());
+            when(trackingEventRepository.findArchivableOrderIds(any(), any(), any(Pageable.class))).thenReturn(stuck);
+            when(trackingEventRepository.deleteArchived(stuck)).thenReturn(0);
+
+            assertThat(archiver.archive(CUTOFF)).isZero();
+            verify(trackingEventRepository, times(1)).findArchivableOrderIds(any(), any(), any(Pageable.class));
+        }
+    }
+
+    // ==================== ensurePartitions Tests ====================
+    @Nested
+    @DisplayName("ensurePartitions()")
+    class EnsurePartitionsTests {
+
+        @Test
+        @DisplayName("Path 1: Months past the highest partition are split off p_future")
+        void ensurePartitions_AddsMissingMonths() {
+            Query query = mock(Query.class);
+            when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+            when(archivedTrackingEventRepository.findPartitionNames())
+                    .thenReturn(List.of("p_old", "p202609", "p202610", "p_future"));
+
+            archiver.ensurePartitions(YearMonth.of(2026, 10));
+
+            ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+            verify(entityManager, times(2)).createNativeQuery(sql.capture());
+            assertThat(sql.getAllValues().get(0))
+                    .contains("REORGANIZE PARTITION p_future")
+                    .contains("PARTITION p202611 VALUES LESS THAN (202612)");
+            assertThat(sql.getAllValues().get(1)).contains("PARTITION p202612 VALUES LESS THAN (202701)");
+            verify(query, times(2)).executeUpdate();
+        }
+
+        @Test
+        @DisplayName("Path 2: Unpartitioned table is left alone")
+        void ensurePartitions_NotPartitioned_Skipped() {
+            when(archivedTrackingEventRepository.findPartitionNames()).thenReturn(List.of());
+
+            archiver.ensurePartitions(YearMonth.of(2026, 10));
+
+            verifyNoInteractions(entityManager);
+        }
+    }
+
+    // ==================== scheduledArchive Tests ====================
+    @Nested
+    @DisplayName("scheduledArchive()")
+    class ScheduledArchiveTests {
+
+        @Test
+        @DisplayName("Path 1: Another replica holds the lock - Nothing is moved")
+        void scheduledArchive_LockHeld_Skipped() {
+            when(databaseNamedLock.tryRun(eq(TrackingEventArchiver.ARCHIVE_LOCK), any())).thenReturn(Optional.empty());
+
+            archiver.scheduledArchive();
+
+            verifyNoInteractions(trackingEventRepository, archivedTrackingEventRepository);
+        }
+
+        @Test
+        @DisplayName("Path 2: Lock acquired - Archives under the lock")
+        void scheduledArchive_LockAcquired_Archives() {
+            when(databaseNamedLock.tryRun(eq(TrackingEventArchiver.ARCHIVE_LOCK), any())).thenAnswer(inv ->
+                    Optional.ofNullable(inv.<Supplier<?>>getArgument(1).get()));
+            when(trackingEventRepository.findArchivableOrderIds(any(), any(), any(Pageable.class))).thenReturn(List.of());
+
+            archiver.scheduledArchive();
+
+            verify(trackingEventRepository).findArchivableOrderIds(any(), any(), any(Pageable.class));
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package org.f3.postalmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.order.TrackingEventsWrittenEvent;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository.ScanIdRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackingEventWriteBehind Path Coverage Tests")
+class TrackingEventWriteBehindTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private TrackingEventRepository trackingEventRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<TrackingEventWriteBehind> opened = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = Order.builder()
+                .trackingNumber("VN12345678901234567")
+                .status(OrderStatus.IN_TRANSIT)
+                .build();
+        order.setId(UUID.randomUUID());
+
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(trackingEventRepository.findByScanIdIn(anyCollection())).thenReturn(List.of());
+        lenient().when(orderRepository.findAllById(anyCollection())).thenReturn(List.of(order));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (TrackingEventWriteBehind writeBehind : opened) {
+            writeBehind.destroy();
+        }
+    }
+
+    // Opening the same directory again stands in for a restart
+    private TrackingEventWriteBehind open(int batchSize, DataSize compactSize) {
+        meterRegistry = new SimpleMeterRegistry();
+        TrackingEventWriteBehind writeBehind = new TrackingEventWriteBehind(trackingEventRepository, orderRepository,
+                transactionTemplate, eventPublisher, OBJECT_MAPPER, meterRegistry, true, dir, batchSize,
+                Duration.ofMillis(50), Duration.ofSeconds(5), compactSize, false);
+        opened.add(writeBehind);
+        return writeBehind;
+    }
+
+    private TrackingEventWriteBehind open() {
+        return open(200, DataSize.ofMegabytes(16));
+    }
+
+    private void append(TrackingEventWriteBehind writeBehind, String status) {
+        writeBehind.append(order.getId(), status, "Scanned " + status, "Hub A", LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<TrackingEvent>> insertedBatches() {
+        ArgumentCaptor<List<TrackingEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trackingEventRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues();
+    }
+
+    // ==================== append Tests ====================
+    @Nested
+    @DisplayName("append()")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Path 1: Appended events are pending until drained")
+        void append_CountsPending() {
+            TrackingEventWriteBehind writeBehind = open();
+
+            append(writeBehind, "ARRIVED");
+            append(writeBehind, "DEPARTED");
+
+            assertThat(writeBehind.pendingCount()).isEqualTo(2);
+            assertThat(meterRegistry.get("tracking.write-behind.pending").gauge().value()).isEqualTo(2.0);
+            verifyNoInteractions(trackingEventRepository);
+        }
+
+        @Test
+        @DisplayName("Path 2: Disabled mode refuses appends and opens no log")
+        void append_Disabled_Refused() {
+            TrackingEventWriteBehind writeBehind = new TrackingEventWriteBehind(trackingEventRepository, orderRepository,
+                    transactionTemplate, eventPublisher, OBJECT_MAPPER, new SimpleMeterRegistry(), false,
+                    dir.resolve("unused"), 200, Duration.ofMillis(50), Duration.ofSeconds(5), DataSize.ofMegabytes(16), true);
+
+            assertThat(writeBehind.isEnabled()).isFalse();
+            assertThatThrownBy(() -> append(writeBehind, "ARRIVED")).isInstanceOf(IllegalStateException.class);
+            assertThat(dir.resolve("unused")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Path 3: Events the tracking_events table would refuse are rejected before they are logged")
+        void append_InvalidEvent_Rejected() throws IOException {
+            TrackingEventWriteBehind writeBehind = open();
+
+            assertThatThrownBy(() -> writeBehind.append(order.getId(), "ARRIVED", null, "Hub A", LocalDateTime.now()))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessage("Description is required");
+            assertThatThrownBy(() -> writeBehind.append(order.getId(), "A".repeat(51), "Scanned", null,
+                    LocalDateTime.now()))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessage("Status must be at most 50 characters");
+            assertThatThrownBy(() -> writeBehind.append(order.getId(), "ARRIVED", "Scanned", "H".repeat(201),
+                    LocalDateTime.now()))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessage("Location name must be at most 200 characters");
+
+            assertThat(writeBehind.pendingCount()).isZero();
+            assertThat(Files.size(dir.resolve(TrackingEventWriteBehind.LOG_FILE))).isZero();
+        }
+    }
+
+    // ==================== drainOnce Tests ====================
+    @Nested
+    @DisplayName("drainOnce()")
+    class DrainOnceTests {
+
+        @Test
+        @DisplayName("Path 1: Events are inserted in log order in batches of batch-size")
+        void drainOnce_InsertsInOrder() throws IOException {
+            TrackingEventWriteBehind writeBehind = open(2, DataSize.ofMegabytes(16));
+            append(writeBehind, "S1");
+            append(writeBehind, "S2");
+            append(writeBehind, "S3");
+
+            assertThat(writeBehind.drainOnce()).isEqualTo(2);
+            assertThat(writeBehind.drainOnce()).isEqualTo(1);
+            assertThat(writeBehind.drainOnce()).isZero();
+
+            List<List<TrackingEvent>> batches = insertedBatches();
+            assertThat(batches).hasSize(2);
+            assertThat(batches.get(0)).extracting(TrackingEvent::getStatus).containsExactly("S1", "S2");
+            assertThat(batches.get(1)).extracting(TrackingEvent::getStatus).containsExactly("S3");
+            assertThat(batches.get(0).get(0).getScanId()).startsWith(TrackingEventWriteBehind.LOG_ID_PREFIX);
+            assertThat(batches.get(0).get(0).getOrder()).isSameAs(order);
+            verify(eventPublisher, times(2)).publishEvent(any(TrackingEventsWrittenEvent.class));
+            assertThat(writeBehind.pendingCount()).isZero();
+            assertThat(meterRegistry.get("tracking.write-behind.lag").timer().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Path 2: A failed insert keeps the events for the next attempt")
+        void drainOnce_DatabaseDown_Retained() throws IOException {
+            TrackingEventWriteBehind writeBehind = open();
+            append(writeBehind, "S1");
+            doThrow(new DataAccessResourceFailureException("Connection refused"))
+                    .doAnswer(inv -> {
+                        inv.<Consumer<Object>>getArgument(0).accept(null);
+                        return null;
+                    })
+                    .when(transactionTemplate).executeWithoutResult(any());
+
+            assertThatThrownBy(writeBehind::drainOnce).isInstanceOf(DataAccessResourceFailureException.class);
+            assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+            assertThat(writeBehind.drainOnce()).isEqualTo(1);
+            assertThat(writeBehind.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Path 3: Events of a deleted order are dropped")
+        void drainOnce_OrderGone_Dropped() throws IOException {
+            TrackingEventWriteBehind writeBehind = open();
+            when(orderRepository.findAllById(anyCollection())).thenReturn(List.of());
+            append(writeBehind, "S1");
+
+            assertThat(writeBehind.drainOnce()).isEqualTo(1);
+
+            assertThat(insertedBatches().get(0)).isEmpty();
+            assertThat(meterRegistry.counter("tracking.write-behind.dropped").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Path 5: An event the database refuses is dead-lettered and does not block the others")
+        void drainOnce_RefusedEvent_DeadLettered() throws IOException {
+            TrackingEventWriteBehind writeBehind = open();
+            List<String> inserted = new ArrayList<>();
+            when(trackingEventRepository.saveAll(anyCollection())).thenAnswer(inv -> {
+                List<TrackingEvent> events = new ArrayList<>(inv.<Collection<TrackingEvent>>getArgument(0));
+                if (events.stream().anyMatch(e -> "S2".equals(e.getStatus()))) {
+                    throw new DataIntegrityViolationException("Data too long for column 'location_name'");
+                }
+                events.forEach(e -> inserted.add(e.getStatus()));
+                return events;
+            });
+            append(writeBehind, "S1");
+            append(writeBehind, "S2");
+            append(writeBehind, "S3");
+
+            assertThat(writeBehind.drainOnce()).isEqualTo(3);
+
+            assertThat(inserted).containsExactly("S1", "S3");
+            assertThat(writeBehind.pendingCount()).isZero();
+            assertThat(writeBehind.drainOnce()).isZero();
+            assertThat(meterRegistry.counter("tracking.write-behind.dropped").count()).isEqualTo(1.0);
+            List<String> deadLetters = Files.readAllLines(dir.resolve(TrackingEventWriteBehind.DEAD_LETTER_FILE));
+            assertThat(deadLetters).hasSize(1);
+            assertThat(deadLetters.get(0)).contains("\"status\":\"S2\"");
+        }
+
+        @Test
+        @DisplayName("Path 6: A transient failure while isolating a refused event keeps the batch")
+        void drainOnce_RefusedThenDatabaseDown_Retained() throws IOException {
+            TrackingEventWriteBehind writeBehind = open();
+            append(writeBehind, "S1");
+            doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                    .doThrow(new DataAccessResourceFailureException("Connection refused"))
+                    .when(transactionTemplate).executeWithoutResult(any());
+
+            assertThatThrownBy(writeBehind::drainOnce).isInstanceOf(DataAccessResourceFailureException.class);
+
+            assertThat(writeBehind.pendingCount()).isEqualTo(1);
+            assertThat(dir.resolve(TrackingEventWriteBehind.DEAD_LETTER_FILE)).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Path 4: A fully drained log over compact-size is truncated")
+        void drainOnce_Drained_Compacted() throws IOException {
+            TrackingEventWriteBehind writeBehind = open(200, DataSize.ofBytes(1));
+            append(writeBehind, "S1");
+
+            writeBehind.drainOnce();
+
+            assertThat(Files.size(dir.resolve(TrackingEventWriteBehind.LOG_FILE))).isZero();
+            append(writeBehind, "S2");
+            assertThat(writeBehind.drainOnce()).isEqualTo(1);
+        }
+    }
+
+    // ==================== recovery Tests ====================
+    @Nested
+    @DisplayName("Recovery")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Path 1: Events past the checkpoint are drained after a restart")
+        void restart_UndrainedEvents_Recovered() throws Exception {
+            TrackingEventWriteBehind before = open(1, DataSize.ofMegabytes(16));
+            append(before, "S1");
+            append(before, "S2");
+            before.drainOnce();
+            before.destroy();
+
+            TrackingEventWriteBehind after = open();
+
+            assertThat(after.pendingCount()).isEqualTo(1);
+            after.drainOnce();
+            assertThat(insertedBatches().get(1)).extracting(TrackingEvent::getStatus).containsExactly("S2");
+        }
+
+        @Test
+        @DisplayName("Path 2: Events inserted before the checkpoint was written are not inserted twice")
+        void restart_AlreadyInserted_Skipped() throws Exception {
+            TrackingEventWriteBehind before = open();
+            append(before, "S1");
+            append(before, "S2");
+            before.drainOnce();
+            List<TrackingEvent> inserted = insertedBatches().get(0);
+            before.destroy();
+            // Crash after the commit, before the checkpoint
+            Files.delete(dir.resolve(TrackingEventWriteBehind.CHECKPOINT_FILE));
+            when(trackingEventRepository.findByScanIdIn(anyCollection())).thenReturn(List.of(new ScanIdRow() {
+                public String getScanId() { return inserted.get(0).getScanId(); }
+                public UUID getEventId() { return UUID.randomUUID(); }
+            }));
+
+            TrackingEventWriteBehind after = open();
+            assertThat(after.pendingCount()).isEqualTo(2);
+            after.drainOnce();
+
+            assertThat(insertedBatches().get(1)).extracting(TrackingEvent::getStatus).containsExactly("S2");
+        }
+
+        @Test
+        @DisplayName("Path 3: A torn line at the end of the log is cut off")
+        void restart_TornTail_Truncated() throws Exception {
+            TrackingEventWriteBehind before = open();
+            append(before, "S1");
+            before.destroy();
+            Path logFile = dir.resolve(TrackingEventWriteBehind.LOG_FILE);
+            long intact = Files.size(logFile);
+            Files.write(logFile, "0badc0de {\"id\":".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+
+            TrackingEventWriteBehind after = open();
+
+            assertThat(after.pendingCount()).isEqualTo(1);
+            assertThat(Files.size(logFile)).isEqualTo(intact);
+            append(after, "S2");
+            after.drainOnce();
+            assertThat(insertedBatches().get(0)).extracting(TrackingEvent::getStatus).containsExactly("S1", "S2");
+        }
+
+        @Test
+        @DisplayName("Path 4: A damaged line in the middle is skipped without losing the lines after it")
+        void restart_DamagedMiddleLine_Skipped() throws Exception {
+            TrackingEventWriteBehind before = open();
+            append(before, "S1");
+            append(before, "S2");
+            append(before, "S3");
+            before.destroy();
+            Path logFile = dir.resolve(TrackingEventWriteBehind.LOG_FILE);
+            long size = Files.size(logFile);
+            String content = Files.readString(logFile, StandardCharsets.UTF_8);
+            Files.writeString(logFile, content.replace("\"status\":\"S2\"", "\"status\":\"X2\""),
+                    StandardCharsets.UTF_8);
+
+            TrackingEventWriteBehind after = open();
+
+            assertThat(Files.size(logFile)).isEqualTo(size);
+            assertThat(after.pendingCount()).isEqualTo(3);
+            assertThat(after.drainOnce()).isEqualTo(3);
+            assertThat(insertedBatches().get(0)).extracting(TrackingEvent::getStatus).containsExactly("S1", "S3");
+            assertThat(meterRegistry.counter("tracking.write-behind.dropped").count()).isEqualTo(1.0);
+            assertThat(after.pendingCount()).isZero();
+        }
+    }
+}
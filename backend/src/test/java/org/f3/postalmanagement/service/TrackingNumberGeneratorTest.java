@@ -7,7 +7,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TrackingNumberGenerator Path Coverage Tests")
@@ -44,21 +56,16 @@ class TrackingNumberGeneratorTest {
         }
 
         @Test
-        @DisplayName("Path 3: Sequence increments correctly")
-        void generate_SequenceIncrements() {
+        @DisplayName("Path 3: Numbers increase monotonically")
+        void generate_Monotonic() {
             String first = trackingNumberGenerator.generate();
             String second = trackingNumberGenerator.generate();
 
-            // Both should have format VN + timestamp + sequence
-            // Sequence should be different (incremented)
-            String firstSequence = first.substring(first.length() - 4);
-            String secondSequence = second.substring(second.length() - 4);
-
-            int seq1 = Integer.parseInt(firstSequence);
-            int seq2 = Integer.parseInt(secondSequence);
+            // Consecutive ids differ by 1 within a millisecond and jump forward across milliseconds
+            long seq1 = Long.parseLong(first.substring(2));
+            long seq2 = Long.parseLong(second.substring(2));
 
-            // Second sequence should be 1 more than first (or wrap around at 10000)
-            assertThat((seq2 - seq1 + 10000) % 10000).isEqualTo(1);
+            assertThat(seq2).isGreaterThan(seq1);
         }
 
         @Test
@@ -72,6 +79,133 @@ class TrackingNumberGeneratorTest {
         }
     }
 
+    // ==================== Snowflake layout Tests ====================
+    @Nested
+    @DisplayName("node id, sequence and clock handling")
+    class SnowflakeTests {
+
+        private long decodeNode(String trackingNumber) {
+            long id = Long.parseLong(trackingNumber.substring(2));
+            return (id >>> TrackingNumberGenerator.SEQUENCE_BITS) & TrackingNumberGenerator.MAX_NODE_ID;
+        }
+
+        @Test
+        @DisplayName("Path 1: Node id is embedded in every number")
+        void generate_EmbedsNodeId() {
+            TrackingNumberGenerator generator = new TrackingNumberGenerator(17);
+
+            assertThat(decodeNode(generator.generate())).isEqualTo(17);
+        }
+
+        @Test
+        @DisplayName("Path 2: Out-of-range node id is rejected")
+        void constructor_InvalidNodeId_ThrowsException() {
+            assertThatThrownBy(() -> new TrackingNumberGenerator(TrackingNumberGenerator.MAX_NODE_ID + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new TrackingNumberGenerator(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Path 3: Same millisecond on two nodes never collides")
+        void generate_TwoNodesSameMillisecond_Distinct() {
+            long fixedTime = TrackingNumberGenerator.EPOCH_MILLIS + 1_000_000L;
+            TrackingNumberGenerator nodeA = new TrackingNumberGenerator(1, () -> fixedTime);
+            TrackingNumberGenerator nodeB = new TrackingNumberGenerator(2, () -> fixedTime);
+
+            Set<String> ids = new HashSet<>();
+            for (int i = 0; i < 500; i++) {
+                ids.add(nodeA.generate());
+                ids.add(nodeB.generate());
+            }
+
+            assertThat(ids).hasSize(1000);
+        }
+
+        @Test
+        @DisplayName("Path 4: Sequence overflow borrows the next millisecond")
+        void generate_SequenceOverflow_StaysUniqueAndMonotonic() {
+            long fixedTime = TrackingNumberGenerator.EPOCH_MILLIS + 1_000_000L;
+            TrackingNumberGenerator generator = new TrackingNumberGenerator(3, () -> fixedTime);
+
+            long previous = -1;
+            // 20 milliseconds worth of sequence numbers, within the borrow limit
+            for (int i = 0; i < 20 * (1 << TrackingNumberGenerator.SEQUENCE_BITS); i++) {
+                long id = generator.nextId();
+                assertThat(id).isGreaterThan(previous);
+                previous = id;
+            }
+        }
+
+        @Test
+        @DisplayName("Path 5: Small clock rollback keeps numbers increasing")
+        void generate_ClockRollback_StaysMonotonic() {
+            AtomicLong time = new AtomicLong(TrackingNumberGenerator.EPOCH_MILLIS + 1_000_000L);
+            TrackingNumberGenerator generator = new TrackingNumberGenerator(4, time::get);
+
+            long beforeRollback = generator.nextId();
+            time.addAndGet(-10);
+            long afterRollback = generator.nextId();
+
+            assertThat(afterRollback).isGreaterThan(beforeRollback);
+        }
+
+        @Test
+        @DisplayName("Path 6: Large clock rollback fails instead of reusing numbers")
+        void generate_LargeClockRollback_ThrowsException() {
+            AtomicLong time = new AtomicLong(TrackingNumberGenerator.EPOCH_MILLIS + 1_000_000L);
+            TrackingNumberGenerator generator = new TrackingNumberGenerator(5, time::get);
+            generator.generate();
+
+            // Never catches up: the generator waits up to the rollback limit, then gives up
+            time.addAndGet(-(TrackingNumberGenerator.MAX_ROLLBACK_WAIT_MILLIS * 10));
+
+            assertThatThrownBy(generator::generate)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("clock moved backwards");
+        }
+
+        @Test
+        @DisplayName("Path 7: Concurrent generation on several nodes produces no duplicates")
+        void generate_MultiThreadedMultiNode_AllUnique() throws Exception {
+            int nodes = 3;
+            int threadsPerNode = 4;
+            int idsPerThread = 50_000;
+            List<TrackingNumberGenerator> generators = new ArrayList<>();
+            for (int node = 0; node < nodes; node++) {
+                generators.add(new TrackingNumberGenerator(node));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (TrackingNumberGenerator generator : generators) {
+                for (int t = 0; t < threadsPerNode; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        String[] ids = new String[idsPerThread];
+                        for (int i = 0; i < idsPerThread; i++) {
+                            ids[i] = generator.generate();
+                        }
+                        return ids;
+                    }));
+                }
+            }
+            start.countDown();
+
+            Set<String> all = new HashSet<>();
+            for (Future<String[]> future : futures) {
+                for (String id : future.get(60, TimeUnit.SECONDS)) {
+                    assertThat(trackingNumberGenerator.isValidFormat(id)).isTrue();
+                    all.add(id);
+                }
+            }
+            executor.shutdown();
+
+            assertThat(all).hasSize(nodes * threadsPerNode * idsPerThread);
+        }
+    }
+
     // ==================== isValidFormat() Tests ====================
     @Nested
     @DisplayName("isValidFormat()")
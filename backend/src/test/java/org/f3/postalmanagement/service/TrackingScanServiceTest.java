@@ -0,0 +1,233 @@
+package org.f3.postalmanagement.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.f3.postalmanagement.dto.request.order.ScanEventRequest;
+import org.f3.postalmanagement.dto.response.order.ScanResultResponse;
+import org.f3.postalmanagement.entity.order.Order;
+import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.unit.Office;
+import org.f3.postalmanagement.enums.OrderStatus;
+import org.f3.postalmanagement.repository.OfficeRepository;
+import org.f3.postalmanagement.repository.OrderRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository.ScanIdRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackingScanService Path Coverage Tests")
+class TrackingScanServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final String TRACKING_NUMBER = "VN12345678901234567";
+
+    @Mock
+    private TrackingEventRepository trackingEventRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OfficeRepository officeRepository;
+
+    @Mock
+    private TrackingService trackingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TrackingScanService trackingScanService;
+    private Order order;
+    private Office office;
+
+    @BeforeEach
+    void setUp() {
+        trackingScanService = new TrackingScanService(trackingEventRepository, orderRepository, officeRepository,
+                trackingService, transactionTemplate, VALIDATOR);
+
+        order = Order.builder()
+                .trackingNumber(TRACKING_NUMBER)
+                .status(OrderStatus.IN_TRANSIT)
+                .build();
+        order.setId(UUID.randomUUID());
+
+        office = new Office();
+        office.setId(UUID.randomUUID());
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        // Ids are assigned on persist
+        lenient().when(trackingEventRepository.saveAll(anyCollection())).thenAnswer(inv -> {
+            Iterable<TrackingEvent> events = inv.getArgument(0);
+            events.forEach(e -> e.setId(UUID.randomUUID()));
+            return events;
+        });
+    }
+
+    private ScanEventRequest scan(String scanId, String trackingNumber) {
+        ScanEventRequest scan = new ScanEventRequest();
+        scan.setScanId(scanId);
+        scan.setTrackingNumber(trackingNumber);
+        scan.setStatus("ARRIVED");
+        scan.setLocationName("Sorting Center");
+        scan.setScannedAt(LocalDateTime.now());
+        return scan;
+    }
+
+    private static ScanIdRow recorded(String scanId, UUID eventId) {
+        return new ScanIdRow() {
+            public String getScanId() { return scanId; }
+            public UUID getEventId() { return eventId; }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TrackingEvent> savedEvents() {
+        ArgumentCaptor<List<TrackingEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trackingEventRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    // ==================== recordScans Tests ====================
+    @Nested
+    @DisplayName("recordScans()")
+    class RecordScansTests {
+
+        @Test
+        @DisplayName("Path 1: New scans are inserted in one batch and resolved with one query each")
+        void recordScans_NewScans_Inserted() {
+            ScanEventRequest first = scan("S-1", TRACKING_NUMBER);
+            ScanEventRequest second = scan("S-2", TRACKING_NUMBER);
+            second.setOfficeId(office.getId());
+            second.setDescription("Arrived at hub");
+            when(trackingEventRepository.findByScanIdIn(anyCollection())).thenReturn(List.of());
+            when(orderRepository.findByTrackingNumberIn(anyCollection())).thenReturn(List.of(order));
+            when(officeRepository.findExistingIds(anyCollection())).thenReturn(List.of(office.getId()));
+            when(officeRepository.getReferenceById(office.getId())).thenReturn(office);
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(List.of(first, second));
+
+            assertThat(results).extracting(ScanResultResponse::isSuccess).containsExactly(true, true);
+            assertThat(results).extracting(ScanResultResponse::isDuplicate).containsExactly(false, false);
+            List<TrackingEvent> events = savedEvents();
+            assertThat(events).hasSize(2);
+            assertThat(results).extracting(ScanResultResponse::getEventId)
+                    .containsExactly(events.get(0).getId(), events.get(1).getId());
+            assertThat(events.get(0).getDescription()).isEqualTo("Scanned ARRIVED at Sorting Center");
+            assertThat(events.get(1).getDescription()).isEqualTo("Arrived at hub");
+            assertThat(events.get(1).getOffice()).isSameAs(office);
+            verify(orderRepository, times(1)).findByTrackingNumberIn(anyCollection());
+            verify(trackingService, times(2)).trackingEventAdded(eq(order), any());
+        }
+
+        @Test
+        @DisplayName("Path 2: A scan id recorded before is reported as a duplicate")
+        void recordScans_RecordedScanId_Duplicate() {
+            UUID existingEventId = UUID.randomUUID();
+            when(trackingEventRepository.findByScanIdIn(anyCollection()))
+                    .thenReturn(List.of(recorded("S-1", existingEventId)));
+            when(orderRepository.findByTrackingNumberIn(anyCollection())).thenReturn(List.of(order));
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(List.of(scan("S-1", TRACKING_NUMBER)));
+
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).isDuplicate()).isTrue();
+            assertThat(results.get(0).getEventId()).isEqualTo(existingEventId);
+            assertThat(savedEvents()).isEmpty();
+            verify(trackingService, never()).trackingEventAdded(any(), any());
+        }
+
+        @Test
+        @DisplayName("Path 3: A scan id repeated within the batch is inserted once")
+        void recordScans_RepeatedInBatch_InsertedOnce() {
+            when(trackingEventRepository.findByScanIdIn(anyCollection())).thenReturn(List.of());
+            when(orderRepository.findByTrackingNumberIn(anyCollection())).thenReturn(List.of(order));
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(
+                    List.of(scan("S-1", TRACKING_NUMBER), scan("S-1", TRACKING_NUMBER)));
+
+            assertThat(savedEvents()).hasSize(1);
+            assertThat(results.get(0).isDuplicate()).isFalse();
+            assertThat(results.get(1).isDuplicate()).isTrue();
+            assertThat(results.get(1).getEventId()).isEqualTo(results.get(0).getEventId());
+        }
+
+        @Test
+        @DisplayName("Path 4: Unknown orders and offices fail only their own scans")
+        void recordScans_UnknownReferences_Failed() {
+            ScanEventRequest unknownOffice = scan("S-2", TRACKING_NUMBER);
+            unknownOffice.setOfficeId(UUID.randomUUID());
+            when(trackingEventRepository.findByScanIdIn(anyCollection())).thenReturn(List.of());
+            when(orderRepository.findByTrackingNumberIn(anyCollection())).thenReturn(List.of(order));
+            when(officeRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(
+                    List.of(scan("S-1", "VN00000000000000000"), unknownOffice, scan("S-3", TRACKING_NUMBER)));
+
+            assertThat(results).extracting(ScanResultResponse::getErrorCode)
+                    .containsExactly("ORDER_NOT_FOUND", "OFFICE_NOT_FOUND", null);
+            assertThat(results).extracting(ScanResultResponse::getIndex).containsExactly(0, 1, 2);
+            assertThat(savedEvents()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Path 5: Invalid scans are reported without being looked up")
+        void recordScans_InvalidScan_ValidationError() {
+            ScanEventRequest invalid = scan(" ", TRACKING_NUMBER);
+            invalid.setScannedAt(null);
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(Arrays.asList(invalid, null));
+
+            assertThat(results).extracting(ScanResultResponse::getErrorCode)
+                    .containsExactly("VALIDATION_ERROR", "VALIDATION_ERROR");
+            assertThat(results.get(0).getMessage()).contains("scanId").contains("scannedAt");
+            verifyNoInteractions(orderRepository, officeRepository);
+            verify(trackingEventRepository, never()).findByScanIdIn(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Path 6: A conflict with a concurrent submission is retried and reported as duplicates")
+        void recordScans_ConcurrentConflict_Retried() {
+            UUID existingEventId = UUID.randomUUID();
+            AtomicInteger attempts = new AtomicInteger();
+            doAnswer(inv -> {
+                Object result = inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                if (attempts.incrementAndGet() == 1) {
+                    throw new DataIntegrityViolationException("Duplicate entry 'S-1' for key 'uk_tracking_events_scan_id'");
+                }
+                return result;
+            }).when(transactionTemplate).execute(any());
+            when(trackingEventRepository.findByScanIdIn(anyCollection()))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(recorded("S-1", existingEventId)));
+            when(orderRepository.findByTrackingNumberIn(anyCollection())).thenReturn(List.of(order));
+
+            List<ScanResultResponse> results = trackingScanService.recordScans(List.of(scan("S-1", TRACKING_NUMBER)));
+
+            assertThat(attempts.get()).isEqualTo(2);
+            assertThat(results.get(0).isDuplicate()).isTrue();
+            assertThat(results.get(0).getEventId()).isEqualTo(existingEventId);
+        }
+    }
+}
@@ -1,28 +1,37 @@
 package org.f3.postalmanagement.service;
 
+import org.f3.postalmanagement.config.CacheConfig;
 import org.f3.postalmanagement.dto.response.order.TrackingEventResponse;
 import org.f3.postalmanagement.dto.response.order.TrackingResponse;
+import org.f3.postalmanagement.dto.response.order.TrackingUpdateResponse;
 import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.order.ArchivedTrackingEvent;
 import org.f3.postalmanagement.entity.order.Order;
 import org.f3.postalmanagement.entity.order.TrackingEvent;
+import org.f3.postalmanagement.entity.order.TrackingEventsWrittenEvent;
 import org.f3.postalmanagement.entity.unit.Office;
 import org.f3.postalmanagement.enums.OrderStatus;
 import org.f3.postalmanagement.enums.Role;
+import org.f3.postalmanagement.repository.ArchivedTrackingEventRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.repository.OrderRepository;
 import org.f3.postalmanagement.repository.TrackingEventRepository;
+import org.f3.postalmanagement.repository.TrackingEventRepository.TimelineRow;
 import org.f3.postalmanagement.utils.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -41,12 +50,27 @@ class TrackingServiceTest {
     @Mock
     private TrackingEventRepository trackingEventRepository;
 
+    @Mock
+    private ArchivedTrackingEventRepository archivedTrackingEventRepository;
+
     @Mock
     private OrderRepository orderRepository;
 
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache trackingCache;
+
+    @Mock
+    private TrackingUpdateBroadcaster trackingUpdateBroadcaster;
+
+    @Mock
+    private TrackingEventWriteBehind trackingEventWriteBehind;
+
     @InjectMocks
     private TrackingService trackingService;
 
@@ -87,6 +111,27 @@ class TrackingServiceTest {
         event.setId(UUID.randomUUID());
     }
 
+    private TimelineRow row(TrackingEvent trackingEvent) {
+        return new TimelineRow() {
+            public String getTrackingNumber() { return order.getTrackingNumber(); }
+            public UUID getOrderId() { return order.getId(); }
+            public OrderStatus getOrderStatus() { return order.getStatus(); }
+            public LocalDateTime getOrderCreatedAt() { return order.getCreatedAt(); }
+            public String getSenderName() { return order.getSenderName(); }
+            public String getReceiverName() { return order.getReceiverName(); }
+            public String getSenderWardCode() { return order.getSenderWardCode(); }
+            public String getReceiverWardCode() { return order.getReceiverWardCode(); }
+            public UUID getEventId() { return trackingEvent == null ? null : trackingEvent.getId(); }
+            public String getEventStatus() { return trackingEvent == null ? null : trackingEvent.getStatus(); }
+            public String getDescription() { return trackingEvent == null ? null : trackingEvent.getDescription(); }
+            public String getLocationName() { return trackingEvent == null ? null : trackingEvent.getLocationName(); }
+            public UUID getOfficeId() {
+                return trackingEvent == null || trackingEvent.getOffice() == null ? null : trackingEvent.getOffice().getId();
+            }
+            public LocalDateTime getEventTime() { return trackingEvent == null ? null : trackingEvent.getEventTime(); }
+        };
+    }
+
     // ==================== getTrackingInfo Tests ====================
     @Nested
     @DisplayName("getTrackingInfo()")
@@ -95,37 +140,37 @@ class TrackingServiceTest {
         @Test
         @DisplayName("Path 1: Success - Returns tracking info with events")
         void getTrackingInfo_WithEvents_Success() {
-            when(orderRepository.findByTrackingNumber("VN12345678901234567"))
-                    .thenReturn(Optional.of(order));
-            when(trackingEventRepository.findByOrderId(eq(order.getId()), any(Sort.class)))
-                    .thenReturn(List.of(event));
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(event)));
 
             TrackingResponse result = trackingService.getTrackingInfo("VN12345678901234567");
 
             assertThat(result).isNotNull();
             assertThat(result.getOrder().getTrackingNumber()).isEqualTo("VN12345678901234567");
+            assertThat(result.getOrder().getStatus()).isEqualTo("IN_TRANSIT");
             assertThat(result.getEvents()).hasSize(1);
+            assertThat(result.getEvents().get(0).getOfficeId()).isEqualTo(office.getId());
+            verifyNoInteractions(orderRepository);
         }
 
         @Test
         @DisplayName("Path 2: Success - Returns tracking info with no events")
         void getTrackingInfo_NoEvents_Success() {
-            when(orderRepository.findByTrackingNumber("VN12345678901234567"))
-                    .thenReturn(Optional.of(order));
-            when(trackingEventRepository.findByOrderId(eq(order.getId()), any(Sort.class)))
-                    .thenReturn(List.of());
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(null)));
 
             TrackingResponse result = trackingService.getTrackingInfo("VN12345678901234567");
 
             assertThat(result).isNotNull();
+            assertThat(result.getOrder().getId()).isEqualTo(order.getId());
             assertThat(result.getEvents()).isEmpty();
         }
 
         @Test
         @DisplayName("Path 3: Failure - Order not found")
         void getTrackingInfo_OrderNotFound_ThrowsException() {
-            when(orderRepository.findByTrackingNumber("INVALID"))
-                    .thenReturn(Optional.empty());
+            when(trackingEventRepository.findTimelineByTrackingNumber("INVALID"))
+                    .thenReturn(List.of());
 
             assertThatThrownBy(() -> trackingService.getTrackingInfo("INVALID"))
                     .isInstanceOf(RuntimeException.class)
@@ -145,16 +190,127 @@ class TrackingServiceTest {
                     .build();
             eventWithoutOffice.setId(UUID.randomUUID());
 
-            when(orderRepository.findByTrackingNumber("VN12345678901234567"))
-                    .thenReturn(Optional.of(order));
-            when(trackingEventRepository.findByOrderId(eq(order.getId()), any(Sort.class)))
-                    .thenReturn(List.of(eventWithoutOffice));
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(eventWithoutOffice)));
 
             TrackingResponse result = trackingService.getTrackingInfo("VN12345678901234567");
 
             assertThat(result.getEvents()).hasSize(1);
             assertThat(result.getEvents().get(0).getOfficeId()).isNull();
         }
+
+        @Test
+        @DisplayName("Path 5: Version changes with a new event or a status change, not on re-read")
+        void getTrackingInfo_Version_TracksContent() {
+            TrackingEvent newer = TrackingEvent.builder()
+                    .order(order)
+                    .status("ARRIVED")
+                    .description("Arrived at destination hub")
+                    .eventTime(LocalDateTime.now().plusMinutes(5))
+                    .build();
+            newer.setId(UUID.randomUUID());
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(event)), List.of(row(event)), List.of(row(newer), row(event)));
+
+            String initial = trackingService.getTrackingInfo("VN12345678901234567").getVersion();
+            String reread = trackingService.getTrackingInfo("VN12345678901234567").getVersion();
+            String afterEvent = trackingService.getTrackingInfo("VN12345678901234567").getVersion();
+            order.setStatus(OrderStatus.DELIVERED);
+            TrackingResponse afterStatusChange = trackingService.getTrackingInfo("VN12345678901234567");
+
+            assertThat(reread).isEqualTo(initial);
+            assertThat(afterEvent).isNotEqualTo(initial);
+            assertThat(afterStatusChange.getVersion()).isNotEqualTo(afterEvent);
+        }
+    }
+
+    // ==================== getTrackingInfo (archive) Tests ====================
+    @Nested
+    @DisplayName("getTrackingInfo() across hot and cold tiers")
+    class GetTrackingInfoArchiveTests {
+
+        private ArchivedTrackingEvent archived(TrackingEvent source) {
+            return ArchivedTrackingEvent.builder()
+                    .id(source.getId())
+                    .orderId(order.getId())
+                    .status(source.getStatus())
+                    .description(source.getDescription())
+                    .eventTime(source.getEventTime())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Path 1: Finished order - Archived and hot events are merged newest first")
+        void getTrackingInfo_Delivered_MergesArchive() {
+            order.setStatus(OrderStatus.DELIVERED);
+            order.setCreatedAt(LocalDateTime.of(2026, 3, 15, 9, 0));
+            TrackingEvent older = TrackingEvent.builder()
+                    .order(order)
+                    .status("PICKED_UP")
+                    .description("Picked up")
+                    .eventTime(event.getEventTime().minusDays(1))
+                    .build();
+            older.setId(UUID.randomUUID());
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(event)));
+            // The hot event was archived between the two reads
+            when(archivedTrackingEventRepository.findTimeline(order.getId(), 202603))
+                    .thenReturn(List.of(archived(event), archived(older)));
+
+            TrackingResponse result = trackingService.getTrackingInfo("VN12345678901234567");
+
+            assertThat(result.getEvents()).extracting(TrackingEventResponse::getId)
+                    .containsExactly(event.getId(), older.getId());
+            assertThat(result.getVersion()).isEqualTo("DELIVERED-2-" + event.getId());
+        }
+
+        @Test
+        @DisplayName("Path 2: Order in progress - Archive is not read")
+        void getTrackingInfo_InTransit_SkipsArchive() {
+            when(trackingEventRepository.findTimelineByTrackingNumber("VN12345678901234567"))
+                    .thenReturn(List.of(row(event)));
+
+            trackingService.getTrackingInfo("VN12345678901234567");
+
+            verifyNoInteractions(archivedTrackingEventRepository);
+        }
+    }
+
+    // ==================== evictTrackingInfo Tests ====================
+    @Nested
+    @DisplayName("evictTrackingInfo()")
+    class EvictTrackingInfoTests {
+
+        @Test
+        @DisplayName("Path 1: Cached page of the tracking number is evicted")
+        void evictTrackingInfo_EvictsEntry() {
+            when(cacheManager.getCache(CacheConfig.TRACKING_CACHE)).thenReturn(trackingCache);
+
+            trackingService.evictTrackingInfo("VN12345678901234567");
+
+            verify(trackingCache).evict("VN12345678901234567");
+        }
+    }
+
+    // ==================== orderStatusChanged Tests ====================
+    @Nested
+    @DisplayName("orderStatusChanged()")
+    class OrderStatusChangedTests {
+
+        @Test
+        @DisplayName("Path 1: Cached page is evicted and the new status is pushed without an event")
+        void orderStatusChanged_EvictsAndPublishes() {
+            when(cacheManager.getCache(CacheConfig.TRACKING_CACHE)).thenReturn(trackingCache);
+            order.setStatus(OrderStatus.DELIVERED);
+
+            trackingService.orderStatusChanged(order);
+
+            verify(trackingCache).evict("VN12345678901234567");
+            ArgumentCaptor<TrackingUpdateResponse> update = ArgumentCaptor.forClass(TrackingUpdateResponse.class);
+            verify(trackingUpdateBroadcaster).publish(update.capture());
+            assertThat(update.getValue().getOrderStatus()).isEqualTo("DELIVERED");
+            assertThat(update.getValue().getEvent()).isNull();
+        }
     }
 
     // ==================== addTrackingEvent Tests ====================
@@ -168,6 +324,7 @@ class TrackingServiceTest {
             try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
                 securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(staffAccount);
                 when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+                when(cacheManager.getCache(CacheConfig.TRACKING_CACHE)).thenReturn(trackingCache);
                 when(trackingEventRepository.save(any(TrackingEvent.class))).thenAnswer(inv -> {
                     TrackingEvent e = inv.getArgument(0);
                     e.setId(UUID.randomUUID());
@@ -183,6 +340,11 @@ class TrackingServiceTest {
                 assertThat(result.getDescription()).isEqualTo("Package arrived at hub");
                 assertThat(result.getLocationName()).isEqualTo("Hub A");
                 verify(trackingEventRepository).save(any(TrackingEvent.class));
+                verify(trackingCache).evict("VN12345678901234567");
+                ArgumentCaptor<TrackingUpdateResponse> update = ArgumentCaptor.forClass(TrackingUpdateResponse.class);
+                verify(trackingUpdateBroadcaster).publish(update.capture());
+                assertThat(update.getValue().getTrackingNumber()).isEqualTo("VN12345678901234567");
+                assertThat(update.getValue().getEvent().getId()).isEqualTo(result.getId());
             }
         }
 
@@ -221,5 +383,54 @@ class TrackingServiceTest {
                 assertThat(result.getId()).isNotNull();
             }
         }
+
+        @Test
+        @DisplayName("Path 4: Write-behind mode - Event is logged, not saved")
+        void addTrackingEvent_WriteBehind_Logged() {
+            when(trackingEventWriteBehind.isEnabled()).thenReturn(true);
+            when(orderRepository.existsById(order.getId())).thenReturn(true);
+            when(trackingEventWriteBehind.append(eq(order.getId()), eq("IN_TRANSIT"), eq("Arrived"), eq("Hub A"),
+                    any(LocalDateTime.class))).thenAnswer(inv -> new TrackingEventWriteBehind.LogRecord(
+                    UUID.randomUUID(), order.getId(), "IN_TRANSIT", "Arrived", "Hub A",
+                    inv.getArgument(4), Instant.now()));
+
+            TrackingEventResponse result = trackingService.addTrackingEvent(order.getId(), "IN_TRANSIT", "Arrived", "Hub A");
+
+            assertThat(result.getId()).isNull();
+            assertThat(result.getStatus()).isEqualTo("IN_TRANSIT");
+            assertThat(result.getEventTime()).isNotNull();
+            verify(trackingEventRepository, never()).save(any());
+            verifyNoInteractions(trackingUpdateBroadcaster);
+        }
+
+        @Test
+        @DisplayName("Path 5: Write-behind mode - Unknown order is rejected before logging")
+        void addTrackingEvent_WriteBehind_OrderNotFound() {
+            when(trackingEventWriteBehind.isEnabled()).thenReturn(true);
+            when(orderRepository.existsById(any(UUID.class))).thenReturn(false);
+
+            assertThatThrownBy(() -> trackingService.addTrackingEvent(UUID.randomUUID(), "IN_TRANSIT", "Arrived", "Hub A"))
+                    .hasMessageContaining("Order not found");
+            verify(trackingEventWriteBehind, never()).append(any(), any(), any(), any(), any());
+        }
+    }
+
+    // ==================== onTrackingEventsWritten Tests ====================
+    @Nested
+    @DisplayName("onTrackingEventsWritten()")
+    class OnTrackingEventsWrittenTests {
+
+        @Test
+        @DisplayName("Path 1: Each drained event refreshes its page and is pushed")
+        void onTrackingEventsWritten_EvictsAndPublishes() {
+            when(cacheManager.getCache(CacheConfig.TRACKING_CACHE)).thenReturn(trackingCache);
+
+            trackingService.onTrackingEventsWritten(new TrackingEventsWrittenEvent(List.of(event)));
+
+            verify(trackingCache).evict("VN12345678901234567");
+            ArgumentCaptor<TrackingUpdateResponse> update = ArgumentCaptor.forClass(TrackingUpdateResponse.class);
+            verify(trackingUpdateBroadcaster).publish(update.capture());
+            assertThat(update.getValue().getEvent().getId()).isEqualTo(event.getId());
+        }
     }
 }
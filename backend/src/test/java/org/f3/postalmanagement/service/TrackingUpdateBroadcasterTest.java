@@ -0,0 +1,245 @@
+package org.f3.postalmanagement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.f3.postalmanagement.dto.response.order.TrackingUpdateResponse;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrackingUpdateBroadcaster Path Coverage Tests")
+class TrackingUpdateBroadcasterTest {
+
+    private static final String TRACKING_NUMBER = "VN12345678901234567";
+
+    @Mock
+    private SimpMessageSendingOperations messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackingUpdateBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new TrackingUpdateBroadcaster(messagingTemplate, meterRegistry, Duration.ofMinutes(1), 2, 3, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TrackingUpdateResponse update(String status) {
+        return TrackingUpdateResponse.builder()
+                .trackingNumber(TRACKING_NUMBER)
+                .orderStatus(status)
+                .build();
+    }
+
+    /** Records what would be written to the client; writes block while the gate is closed. */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+        private volatile IOException failure;
+
+        RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+
+    // Streams are written on the broadcaster's pool
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // The first part of a built event is its "event:<name>" line
+    private static String eventName(SseEmitter.SseEventBuilder event) {
+        String head = event.build().iterator().next().getData().toString();
+        return head.substring("event:".length(), head.indexOf('\n'));
+    }
+
+    private RecordingEmitter openEmitter() {
+        return new RecordingEmitter(new CountDownLatch(0));
+    }
+
+    // ==================== publish Tests ====================
+    @Nested
+    @DisplayName("publish()")
+    class PublishTests {
+
+        @Test
+        @DisplayName("Path 1: Update goes to the STOMP topic and to SSE streams of the tracking number after the snapshot")
+        void publish_SendsToTopicAndStreams() throws InterruptedException {
+            RecordingEmitter emitter = openEmitter();
+            RecordingEmitter other = openEmitter();
+            broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", emitter);
+            broadcaster.subscribe("VN00000000000000000", () -> "snapshot", other);
+
+            broadcaster.publish(update("DELIVERED"));
+
+            verify(messagingTemplate).convertAndSend(TrackingUpdateBroadcaster.TOPIC_PREFIX + TRACKING_NUMBER, update("DELIVERED"));
+            waitUntil(() -> emitter.sent.size() == 2 && other.sent.size() == 1);
+        }
+
+        @Test
+        @DisplayName("Path 2: Inside a transaction the update is sent only after commit")
+        void publish_InTransaction_SentAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            broadcaster.publish(update("DELIVERED"));
+            verifyNoInteractions(messagingTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+        }
+
+        @Test
+        @DisplayName("Path 3: A broker failure does not stop SSE delivery")
+        void publish_BrokerFailure_StreamsStillServed() throws InterruptedException {
+            RecordingEmitter emitter = openEmitter();
+            broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", emitter);
+            doThrow(new IllegalStateException("broker down"))
+                    .when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+            broadcaster.publish(update("DELIVERED"));
+
+            waitUntil(() -> emitter.sent.size() == 2);
+        }
+
+        @Test
+        @DisplayName("Path 4: An update published while the snapshot is read is sent after the snapshot")
+        void publish_DuringSnapshotRead_SentAfterSnapshot() throws InterruptedException {
+            RecordingEmitter emitter = openEmitter();
+
+            broadcaster.subscribe(TRACKING_NUMBER, () -> {
+                broadcaster.publish(update("DELIVERED"));
+                return "snapshot";
+            }, emitter);
+
+            waitUntil(() -> emitter.sent.size() == 2);
+            assertThat(eventName(emitter.sent.get(0))).isEqualTo(TrackingUpdateBroadcaster.SNAPSHOT_EVENT);
+            assertThat(eventName(emitter.sent.get(1))).isEqualTo(TrackingUpdateBroadcaster.UPDATE_EVENT);
+        }
+
+        @Test
+        @DisplayName("Path 5: Failure - A snapshot that cannot be read does not leave the stream registered")
+        void subscribe_SnapshotFails_StreamRemoved() {
+            assertThatThrownBy(() -> broadcaster.subscribe(TRACKING_NUMBER, () -> {
+                throw new IllegalStateException("Order not found");
+            }, openEmitter())).isInstanceOf(IllegalStateException.class);
+
+            assertThat(broadcaster.subscriberCount()).isZero();
+            broadcaster.publish(update("DELIVERED"));
+        }
+    }
+
+    // ==================== backpressure Tests ====================
+    @Nested
+    @DisplayName("Backpressure")
+    class BackpressureTests {
+
+        @Test
+        @DisplayName("Path 1: A stream that falls behind its queue is closed without holding up the others")
+        void slowStream_Overflow_Closed() throws InterruptedException {
+            CountDownLatch blocked = new CountDownLatch(1);
+            RecordingEmitter slow = new RecordingEmitter(blocked);
+            RecordingEmitter fast = openEmitter();
+            broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", slow);
+            broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", fast);
+
+            // The slow drain holds its snapshot, so its queue of 2 overflows on the third update
+            // while the fast stream keeps receiving every one
+            for (int i = 0; i < 3; i++) {
+                broadcaster.publish(update("STEP_" + i));
+                int expected = i + 2;
+                waitUntil(() -> fast.sent.size() == expected);
+            }
+
+            assertThat(slow.completed).isTrue();
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("tracking.push.sse.dropped").count()).isEqualTo(1.0);
+            blocked.countDown();
+        }
+
+        @Test
+        @DisplayName("Path 2: A failed write removes the stream")
+        void failedWrite_RemovesStream() throws InterruptedException {
+            RecordingEmitter emitter = openEmitter();
+            emitter.failure = new IOException("Broken pipe");
+
+            broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", emitter);
+
+            waitUntil(() -> broadcaster.subscriberCount() == 0);
+            assertThat(emitter.completed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Path 3: Streams beyond the limit are refused with 503")
+        void subscribe_OverLimit_Refused() {
+            for (int i = 0; i < 3; i++) {
+                broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", openEmitter());
+            }
+
+            assertThatThrownBy(() -> broadcaster.subscribe(TRACKING_NUMBER, () -> "snapshot", openEmitter()))
+                    .isInstanceOf(DomainStatusException.class)
+                    .satisfies(e -> assertThat(((DomainStatusException) e).getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+            assertThat(broadcaster.subscriberCount()).isEqualTo(3);
+        }
+    }
+}
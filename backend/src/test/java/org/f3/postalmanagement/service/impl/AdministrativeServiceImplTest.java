@@ -1,5 +1,6 @@
 package org.f3.postalmanagement.service.impl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.f3.postalmanagement.dto.response.PageResponse;
 import org.f3.postalmanagement.dto.response.administrative.ProvinceResponse;
 import org.f3.postalmanagement.dto.response.administrative.WardResponse;
@@ -10,19 +11,20 @@ import org.f3.postalmanagement.entity.administrative.Ward;
 import org.f3.postalmanagement.repository.AdRegionRepository;
 import org.f3.postalmanagement.repository.ProvinceRepository;
 import org.f3.postalmanagement.repository.WardRepository;
+import org.f3.postalmanagement.service.AdministrativeSnapshot;
+import org.f3.postalmanagement.service.AdministrativeSnapshotProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,7 +43,8 @@ class AdministrativeServiceImplTest {
     @Mock
     private AdRegionRepository adRegionRepository;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+    private AdministrativeSnapshotProvider snapshotProvider;
     private AdministrativeServiceImpl administrativeService;
 
     private Province province1;
@@ -53,6 +56,7 @@ class AdministrativeServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         region = new AdministrativeRegion();
         region.setId(1);
         region.setName("North");
@@ -82,6 +86,38 @@ class AdministrativeServiceImplTest {
         ward2.setName("An Khánh");
         ward2.setProvince(province1);
         ward2.setAdministrativeUnit(null); // No admin unit
+
+        snapshotProvider = new AdministrativeSnapshotProvider(
+                provinceRepository, wardRepository, adRegionRepository, meterRegistry);
+        administrativeService = new AdministrativeServiceImpl(snapshotProvider);
+    }
+
+    private void givenReferenceData(List<Province> provinces, List<Ward> wards) {
+        when(adRegionRepository.findAll()).thenReturn(List.of(region));
+        when(provinceRepository.findAllProvinceRows()).thenReturn(provinces.stream().map(this::toRow).toList());
+        when(wardRepository.findAllWardRows()).thenReturn(wards.stream().map(this::toRow).toList());
+    }
+
+    private ProvinceRepository.ProvinceRow toRow(Province province) {
+        AdministrativeRegion provinceRegion = province.getAdministrativeRegion();
+        return new ProvinceRepository.ProvinceRow() {
+            public String getCode() { return province.getCode(); }
+            public String getName() { return province.getName(); }
+            public Integer getRegionId() { return provinceRegion != null ? provinceRegion.getId() : null; }
+            public String getRegionName() { return provinceRegion != null ? provinceRegion.getName() : null; }
+        };
+    }
+
+    private WardRepository.WardRow toRow(Ward ward) {
+        return new WardRepository.WardRow() {
+            public String getCode() { return ward.getCode(); }
+            public String getName() { return ward.getName(); }
+            public String getUnitName() {
+                return ward.getAdministrativeUnit() != null ? ward.getAdministrativeUnit().getName() : null;
+            }
+            public String getProvinceCode() { return ward.getProvince().getCode(); }
+            public String getProvinceName() { return ward.getProvince().getName(); }
+        };
     }
 
     // ==================== getProvincesByRegion Tests ====================
@@ -92,9 +128,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 1: Success - Returns provinces sorted by name")
         void getProvincesByRegion_Success() {
-            when(adRegionRepository.existsById(1)).thenReturn(true);
-            when(provinceRepository.findByAdministrativeRegion_Id(1))
-                    .thenReturn(List.of(province1, province2));
+            givenReferenceData(List.of(province1, province2), List.of());
 
             List<ProvinceResponse> result = administrativeService.getProvincesByRegion(1);
 
@@ -107,7 +141,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 2: Failure - Region not found")
         void getProvincesByRegion_RegionNotFound_ThrowsException() {
-            when(adRegionRepository.existsById(999)).thenReturn(false);
+            givenReferenceData(List.of(province1, province2), List.of());
 
             assertThatThrownBy(() -> administrativeService.getProvincesByRegion(999))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -117,8 +151,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 3: Returns empty list for region with no provinces")
         void getProvincesByRegion_NoProvinces_ReturnsEmpty() {
-            when(adRegionRepository.existsById(1)).thenReturn(true);
-            when(provinceRepository.findByAdministrativeRegion_Id(1)).thenReturn(List.of());
+            givenReferenceData(List.of(), List.of());
 
             List<ProvinceResponse> result = administrativeService.getProvincesByRegion(1);
 
@@ -134,22 +167,34 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 1: Success - Returns all provinces sorted")
         void getAllProvinces_Success() {
-            when(provinceRepository.findAll()).thenReturn(List.of(province1, province2));
+            givenReferenceData(List.of(province1, province2), List.of());
 
             List<ProvinceResponse> result = administrativeService.getAllProvinces();
 
             assertThat(result).hasSize(2);
+            assertThat(result.get(0).getName()).isEqualTo("Bắc Ninh");
         }
 
         @Test
         @DisplayName("Path 2: Returns empty list when no provinces exist")
         void getAllProvinces_Empty() {
-            when(provinceRepository.findAll()).thenReturn(List.of());
+            givenReferenceData(List.of(), List.of());
 
             List<ProvinceResponse> result = administrativeService.getAllProvinces();
 
             assertThat(result).isEmpty();
         }
+
+        @Test
+        @DisplayName("Path 3: Repeated calls are served from the snapshot")
+        void getAllProvinces_LoadsOnce() {
+            givenReferenceData(List.of(province1, province2), List.of());
+
+            administrativeService.getAllProvinces();
+            administrativeService.getAllProvinces();
+
+            verify(provinceRepository, times(1)).findAllProvinceRows();
+        }
     }
 
     // ==================== getAllProvincesPaginated Tests ====================
@@ -162,7 +207,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 1: Success - Returns first page of provinces")
         void getAllProvincesPaginated_FirstPage_Success() {
-            when(provinceRepository.findAll()).thenReturn(new ArrayList<>(List.of(province1, province2)));
+            givenReferenceData(List.of(province1, province2), List.of());
 
             PageResponse<ProvinceResponse> result = administrativeService.getAllProvincesPaginated(pageable);
 
@@ -175,13 +220,24 @@ class AdministrativeServiceImplTest {
         @DisplayName("Path 2: Returns empty content when page is beyond data")
         void getAllProvincesPaginated_BeyondData_ReturnsEmpty() {
             Pageable pageRequest = PageRequest.of(5, 10); // Page 5 with 10 items each
-            when(provinceRepository.findAll()).thenReturn(new ArrayList<>(List.of(province1, province2)));
+            givenReferenceData(List.of(province1, province2), List.of());
 
             PageResponse<ProvinceResponse> result = administrativeService.getAllProvincesPaginated(pageRequest);
 
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(2);
         }
+
+        @Test
+        @DisplayName("Path 3: Second page holds the remaining sorted provinces")
+        void getAllProvincesPaginated_SecondPage() {
+            givenReferenceData(List.of(province1, province2), List.of());
+
+            PageResponse<ProvinceResponse> result = administrativeService.getAllProvincesPaginated(PageRequest.of(1, 1));
+
+            assertThat(result.getContent()).extracting(ProvinceResponse::getName).containsExactly("Hà Nội");
+            assertThat(result.isLast()).isTrue();
+        }
     }
 
     // ==================== getWardsByProvince Tests ====================
@@ -192,8 +248,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 1: Success - Returns wards sorted by name")
         void getWardsByProvince_Success() {
-            when(provinceRepository.existsById("01")).thenReturn(true);
-            when(wardRepository.findByProvince_Code("01")).thenReturn(List.of(ward1, ward2));
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
 
             List<WardResponse> result = administrativeService.getWardsByProvince("01");
 
@@ -206,7 +261,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 2: Failure - Province not found")
         void getWardsByProvince_ProvinceNotFound_ThrowsException() {
-            when(provinceRepository.existsById("99")).thenReturn(false);
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
 
             assertThatThrownBy(() -> administrativeService.getWardsByProvince("99"))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -216,8 +271,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 3: Ward name includes admin unit prefix")
         void getWardsByProvince_IncludesAdminUnit() {
-            when(provinceRepository.existsById("01")).thenReturn(true);
-            when(wardRepository.findByProvince_Code("01")).thenReturn(List.of(ward1));
+            givenReferenceData(List.of(province1), List.of(ward1));
 
             List<WardResponse> result = administrativeService.getWardsByProvince("01");
 
@@ -228,14 +282,31 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 4: Ward without admin unit uses name only")
         void getWardsByProvince_NoAdminUnit_UsesNameOnly() {
-            when(provinceRepository.existsById("01")).thenReturn(true);
-            when(wardRepository.findByProvince_Code("01")).thenReturn(List.of(ward2));
+            givenReferenceData(List.of(province1), List.of(ward2));
 
             List<WardResponse> result = administrativeService.getWardsByProvince("01");
 
             // ward2 has no adminUnit, so just "An Khánh"
             assertThat(result.get(0).getName()).isEqualTo("An Khánh");
         }
+
+        @Test
+        @DisplayName("Path 5: Province without wards returns empty list")
+        void getWardsByProvince_NoWards_ReturnsEmpty() {
+            givenReferenceData(List.of(province1, province2), List.of(ward1, ward2));
+
+            assertThat(administrativeService.getWardsByProvince("02")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Path 6: Returned list is shared and cannot be modified")
+        void getWardsByProvince_Unmodifiable() {
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
+
+            List<WardResponse> result = administrativeService.getWardsByProvince("01");
+
+            assertThatThrownBy(result::clear).isInstanceOf(UnsupportedOperationException.class);
+        }
     }
 
     // ==================== getWardsByProvincePaginated Tests ====================
@@ -248,8 +319,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 1: Success - Returns first page of wards")
         void getWardsByProvincePaginated_Success() {
-            when(provinceRepository.existsById("01")).thenReturn(true);
-            when(wardRepository.findByProvince_Code("01")).thenReturn(new ArrayList<>(List.of(ward1, ward2)));
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
 
             PageResponse<WardResponse> result = administrativeService.getWardsByProvincePaginated("01", pageable);
 
@@ -260,7 +330,7 @@ class AdministrativeServiceImplTest {
         @Test
         @DisplayName("Path 2: Failure - Province not found")
         void getWardsByProvincePaginated_ProvinceNotFound_ThrowsException() {
-            when(provinceRepository.existsById("99")).thenReturn(false);
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
 
             assertThatThrownBy(() -> administrativeService.getWardsByProvincePaginated("99", pageable))
                     .isInstanceOf(IllegalArgumentException.class)
@@ -271,8 +341,7 @@ class AdministrativeServiceImplTest {
         @DisplayName("Path 3: Returns empty content when page is beyond data")
         void getWardsByProvincePaginated_BeyondData_ReturnsEmpty() {
             Pageable pageRequest = PageRequest.of(5, 10);
-            when(provinceRepository.existsById("01")).thenReturn(true);
-            when(wardRepository.findByProvince_Code("01")).thenReturn(new ArrayList<>(List.of(ward1, ward2)));
+            givenReferenceData(List.of(province1), List.of(ward1, ward2));
 
             PageResponse<WardResponse> result = administrativeService.getWardsByProvincePaginated("01", pageRequest);
 
@@ -280,4 +349,70 @@ class AdministrativeServiceImplTest {
             assertThat(result.getTotalElements()).isEqualTo(2);
         }
     }
+
+    // ==================== AdministrativeSnapshot Tests ====================
+    @Nested
+    @DisplayName("AdministrativeSnapshot")
+    class SnapshotTests {
+
+        private Province province(String code, String name) {
+            Province province = new Province();
+            province.setCode(code);
+            province.setName(name);
+            province.setAdministrativeRegion(region);
+            return province;
+        }
+
+        @Test
+        @DisplayName("Path 1: Vietnamese collation orders diacritics correctly")
+        void build_SortsWithVietnameseCollation() {
+            AdministrativeSnapshot snapshot = AdministrativeSnapshot.build(List.of(region), Stream.of(
+                    province("03", "Đồng Nai"),
+                    province("04", "Điện Biên"),
+                    province("05", "Cà Mau"),
+                    province("06", "Dak Lak"),
+                    province("07", "An Giang")
+            ).map(AdministrativeServiceImplTest.this::toRow).toList(), List.of());
+
+            assertThat(snapshot.getProvinces()).extracting(ProvinceResponse::getName)
+                    .containsExactly("An Giang", "Cà Mau", "Dak Lak", "Điện Biên", "Đồng Nai");
+        }
+
+        @Test
+        @DisplayName("Path 2: slice returns a bounded view of the sorted list")
+        void slice_ReturnsPageView() {
+            List<Integer> sorted = List.of(1, 2, 3, 4, 5);
+
+            assertThat(AdministrativeSnapshot.slice(sorted, 0, 2)).containsExactly(1, 2);
+            assertThat(AdministrativeSnapshot.slice(sorted, 4, 2)).containsExactly(5);
+            assertThat(AdministrativeSnapshot.slice(sorted, 5, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Path 3: Failed reload keeps the previous snapshot for scheduled refresh")
+        void scheduledRefresh_Failure_KeepsSnapshot() {
+            givenReferenceData(List.of(province1, province2), List.of());
+            AdministrativeSnapshot loaded = snapshotProvider.current();
+            when(provinceRepository.findAllProvinceRows()).thenThrow(new RuntimeException("db down"));
+
+            snapshotProvider.scheduledRefresh();
+
+            assertThat(snapshotProvider.current()).isSameAs(loaded);
+            assertThat(meterRegistry.counter("administrative.snapshot.reloads", "result", "failure").count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Path 4: Reads, reloads and snapshot size are published as metrics")
+        void current_RecordsMetrics() {
+            givenReferenceData(List.of(province1, province2), List.of(ward1, ward2));
+
+            administrativeService.getAllProvinces();
+            administrativeService.getWardsByProvince("01");
+
+            assertThat(meterRegistry.counter("administrative.snapshot.reads").count()).isEqualTo(2.0);
+            assertThat(meterRegistry.counter("administrative.snapshot.reloads", "result", "success").count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("administrative.snapshot.provinces").gauge().value()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("administrative.snapshot.wards").gauge().value()).isEqualTo(2.0);
+        }
+    }
 }
@@ -1,9 +1,17 @@
 package org.f3.postalmanagement.service.impl;
 
 import org.f3.postalmanagement.dto.request.user.RegisterSystemAdminRequest;
+import org.f3.postalmanagement.dto.response.dashboard.DashboardStatsResponse;
+import org.f3.postalmanagement.dto.response.dashboard.StatsReconcileResponse;
 import org.f3.postalmanagement.entity.actor.Account;
+import org.f3.postalmanagement.entity.order.OrderStatsCounter;
+import org.f3.postalmanagement.enums.OrderStatus;
 import org.f3.postalmanagement.enums.Role;
 import org.f3.postalmanagement.repository.AccountRepository;
+import org.f3.postalmanagement.repository.CustomerRepository;
+import org.f3.postalmanagement.repository.OfficeRepository;
+import org.f3.postalmanagement.repository.OrderStatsCounterRepository;
+import org.f3.postalmanagement.service.OrderStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,12 +22,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +41,18 @@ class DashboardServiceImplTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private OrderStatsCounterRepository orderStatsCounterRepository;
+
+    @Mock
+    private OrderStatsService orderStatsService;
+
+    @Mock
+    private OfficeRepository officeRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -132,4 +156,99 @@ class DashboardServiceImplTest {
             ));
         }
     }
+
+    // ==================== getSystemStats Tests ====================
+    @Nested
+    @DisplayName("getSystemStats()")
+    class GetSystemStatsTests {
+
+        private OrderStatsCounterRepository.StatusTotal statusTotal(OrderStatus status, long count, BigDecimal totalFee) {
+            return new OrderStatsCounterRepository.StatusTotal() {
+                public OrderStatus getStatus() { return status; }
+                public long getOrderCount() { return count; }
+                public BigDecimal getTotalFee() { return totalFee; }
+            };
+        }
+
+        private OrderStatsCounter counter(YearMonth month, OrderStatus status, long count) {
+            return new OrderStatsCounter(month.toString(), status, count, BigDecimal.ZERO);
+        }
+
+        @Test
+        @DisplayName("Path 1: Success - Totals come from the status counters")
+        void getSystemStats_ReadsStatusCounters() {
+            when(customerRepository.count()).thenReturn(7L);
+            when(officeRepository.count()).thenReturn(3L);
+            when(orderStatsCounterRepository.sumByStatus()).thenReturn(List.of(
+                    statusTotal(OrderStatus.DELIVERED, 4, new BigDecimal("120000")),
+                    statusTotal(OrderStatus.PENDING, 2, new BigDecimal("50000"))
+            ));
+            when(orderStatsCounterRepository.findByBucketMonthIn(anyCollection())).thenReturn(List.of());
+
+            DashboardStatsResponse result = dashboardService.getSystemStats();
+
+            assertThat(result.getTotalOrders()).isEqualTo(6);
+            assertThat(result.getTotalCustomers()).isEqualTo(7);
+            assertThat(result.getTotalOffices()).isEqualTo(3);
+            assertThat(result.getTotalRevenue()).isEqualByComparingTo("120000");
+            assertThat(result.getOrdersByStatus())
+                    .containsEntry("DELIVERED", 4L)
+                    .containsEntry("PENDING", 2L);
+        }
+
+        @Test
+        @DisplayName("Path 2: No delivered orders - Revenue is zero, empty statuses omitted")
+        void getSystemStats_NoDeliveredOrders_ZeroRevenue() {
+            when(orderStatsCounterRepository.sumByStatus()).thenReturn(List.of(
+                    statusTotal(OrderStatus.PENDING, 5, new BigDecimal("90000")),
+                    statusTotal(OrderStatus.CANCELLED, 0, BigDecimal.ZERO)
+            ));
+            when(orderStatsCounterRepository.findByBucketMonthIn(anyCollection())).thenReturn(List.of());
+
+            DashboardStatsResponse result = dashboardService.getSystemStats();
+
+            assertThat(result.getTotalRevenue()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(result.getOrdersByStatus()).containsOnlyKeys("PENDING");
+            assertThat(result.getRecentGrowth())
+                    .containsEntry("last_month", 0L)
+                    .containsEntry("current_month", 0L)
+                    .containsEntry("growth_percentage", 0L);
+        }
+
+        @Test
+        @DisplayName("Path 3: Month-over-month growth sums the monthly counters")
+        void getSystemStats_MonthOverMonthGrowth() {
+            YearMonth currentMonth = YearMonth.now();
+            YearMonth lastMonth = currentMonth.minusMonths(1);
+            when(orderStatsCounterRepository.sumByStatus()).thenReturn(List.of());
+            when(orderStatsCounterRepository.findByBucketMonthIn(List.of(lastMonth.toString(), currentMonth.toString())))
+                    .thenReturn(List.of(
+                            counter(lastMonth, OrderStatus.DELIVERED, 30),
+                            counter(lastMonth, OrderStatus.CANCELLED, 10),
+                            counter(currentMonth, OrderStatus.PENDING, 50)
+                    ));
+
+            DashboardStatsResponse result = dashboardService.getSystemStats();
+
+            assertThat(result.getRecentGrowth())
+                    .containsEntry("last_month", 40L)
+                    .containsEntry("current_month", 50L)
+                    .containsEntry("growth_percentage", 25L);
+        }
+    }
+
+    // ==================== reconcileStats Tests ====================
+    @Nested
+    @DisplayName("reconcileStats()")
+    class ReconcileStatsTests {
+
+        @Test
+        @DisplayName("Path 1: Delegates to the stats service")
+        void reconcileStats_Delegates() {
+            StatsReconcileResponse report = StatsReconcileResponse.builder().driftedBuckets(2).build();
+            when(orderStatsService.reconcile()).thenReturn(report);
+
+            assertThat(dashboardService.reconcileStats()).isSameAs(report);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package org.f3.postalmanagement.service.impl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
 import org.f3.postalmanagement.dto.request.auth.CustomerRegisterRequest;
 import org.f3.postalmanagement.dto.response.auth.AuthResponse;
 import org.f3.postalmanagement.entity.actor.Account;
@@ -11,6 +14,9 @@ import org.f3.postalmanagement.jwt.JwtUtil;
 import org.f3.postalmanagement.repository.AccountRepository;
 import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
+import org.f3.postalmanagement.exception.DomainStatusException;
+import org.f3.postalmanagement.service.LoginRateLimiter;
+import org.f3.postalmanagement.service.TokenRevocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +31,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -55,6 +62,12 @@ class IAuthServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
     @InjectMocks
     private IAuthServiceImpl authService;
 
@@ -107,7 +120,7 @@ class IAuthServiceImplTest {
             when(jwtUtil.generateToken(userDetails)).thenReturn("jwt-token");
             when(customerRepository.findByAccount(customerAccount)).thenReturn(Optional.of(customer));
 
-            AuthResponse result = authService.login("0123456789", "password");
+            AuthResponse result = authService.login("0123456789", "password", "10.0.0.1");
 
             assertThat(result).isNotNull();
             assertThat(result.getToken()).isEqualTo("jwt-token");
@@ -128,7 +141,7 @@ class IAuthServiceImplTest {
             when(jwtUtil.generateToken(userDetails)).thenReturn("jwt-token");
             when(customerRepository.findByAccount(customerAccount)).thenReturn(Optional.empty());
 
-            AuthResponse result = authService.login("0123456789", "password");
+            AuthResponse result = authService.login("0123456789", "password", "10.0.0.1");
 
             assertThat(result.getFullName()).isEqualTo("0123456789"); // Falls back to username
         }
@@ -146,7 +159,7 @@ class IAuthServiceImplTest {
             when(jwtUtil.generateToken(userDetails)).thenReturn("jwt-token");
             when(employeeRepository.findByAccount(employeeAccount)).thenReturn(Optional.of(employee));
 
-            AuthResponse result = authService.login("employee@test.com", "password");
+            AuthResponse result = authService.login("employee@test.com", "password", "10.0.0.1");
 
             assertThat(result.getRole()).isEqualTo("PO_STAFF");
             assertThat(result.getFullName()).isEqualTo("Test Employee");
@@ -165,7 +178,7 @@ class IAuthServiceImplTest {
             when(jwtUtil.generateToken(userDetails)).thenReturn("jwt-token");
             when(employeeRepository.findByAccount(employeeAccount)).thenReturn(Optional.empty());
 
-            AuthResponse result = authService.login("employee@test.com", "password");
+            AuthResponse result = authService.login("employee@test.com", "password", "10.0.0.1");
 
             assertThat(result.getFullName()).isEqualTo("employee@test.com");
         }
@@ -175,7 +188,7 @@ class IAuthServiceImplTest {
         void login_UsernameNotFound_ThrowsException() {
             when(accountRepository.findByUsername("unknown")).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> authService.login("unknown", "password"))
+            assertThatThrownBy(() -> authService.login("unknown", "password", "10.0.0.1"))
                     .isInstanceOf(BadCredentialsException.class)
                     .hasMessageContaining("Invalid username or password");
         }
@@ -187,9 +200,21 @@ class IAuthServiceImplTest {
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenThrow(new BadCredentialsException("Bad credentials"));
 
-            assertThatThrownBy(() -> authService.login("0123456789", "wrongpassword"))
+            assertThatThrownBy(() -> authService.login("0123456789", "wrongpassword", "10.0.0.1"))
                     .isInstanceOf(BadCredentialsException.class);
         }
+
+        @Test
+        @DisplayName("Path 7: Failure - Rate limited before any lookup or hashing")
+        void login_RateLimited_ThrowsException() {
+            doThrow(DomainStatusException.tooManyRequests("Too many login attempts", "TOO_MANY_LOGIN_ATTEMPTS"))
+                    .when(loginRateLimiter).acquire("0123456789", "10.0.0.1");
+
+            assertThatThrownBy(() -> authService.login("0123456789", "password", "10.0.0.1"))
+                    .isInstanceOf(DomainStatusException.class)
+                    .hasMessageContaining("Too many login attempts");
+            verifyNoInteractions(accountRepository, authenticationManager);
+        }
     }
 
     // ==================== register Tests ====================
@@ -254,4 +279,42 @@ class IAuthServiceImplTest {
                     .hasMessageContaining("email already exists");
         }
     }
+
+    // ==================== logout Tests ====================
+    @Nested
+    @DisplayName("logout()")
+    class LogoutTests {
+
+        @Test
+        @DisplayName("Path 1: Valid token - Revoked until it expires")
+        void logout_ValidToken_RevokesToken() {
+            UUID accountId = UUID.randomUUID();
+            // JWT expiry has second precision
+            Date expiresAt = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+            Claims claims = Jwts.claims().setId("jti-1").setSubject(accountId.toString()).setExpiration(expiresAt);
+            when(jwtUtil.parseClaims("jwt-token")).thenReturn(claims);
+
+            authService.logout("jwt-token");
+
+            verify(tokenRevocationService).revoke("jti-1", accountId, expiresAt);
+        }
+
+        @Test
+        @DisplayName("Path 2: Expired token - Nothing to revoke")
+        void logout_ExpiredToken_Ignored() {
+            when(jwtUtil.parseClaims("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+            authService.logout("expired");
+
+            verifyNoInteractions(tokenRevocationService);
+        }
+
+        @Test
+        @DisplayName("Path 3: No token - Nothing to revoke")
+        void logout_NoToken_Ignored() {
+            authService.logout(null);
+
+            verifyNoInteractions(jwtUtil, tokenRevocationService);
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -97,4 +98,29 @@ class UserDetailsServiceImplTest {
                     .hasMessageContaining("User not found with id");
         }
     }
+
+    @Nested
+    @DisplayName("updatePassword()")
+    class UpdatePasswordTests {
+
+        @Test
+        @DisplayName("Path 1: Success - Rehashed password stored")
+        void updatePassword_Success() {
+            when(accountRepository.findByUsername(username)).thenReturn(Optional.of(account));
+
+            UserDetails result = userDetailsService.updatePassword(new CustomUserDetails(account), "{bcrypt}$2a$12$rehashed");
+
+            assertThat(result.getPassword()).isEqualTo("{bcrypt}$2a$12$rehashed");
+            verify(accountRepository).save(account);
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Account no longer exists")
+        void updatePassword_UserNotFound_ThrowsException() {
+            when(accountRepository.findByUsername(username)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> userDetailsService.updatePassword(new CustomUserDetails(account), "{bcrypt}x"))
+                    .isInstanceOf(AccountNotFoundException.class);
+        }
+    }
 }
@@ -11,6 +11,7 @@ import org.f3.postalmanagement.entity.unit.Office;
 import org.f3.postalmanagement.enums.OfficeType;
 import org.f3.postalmanagement.enums.Role;
 import org.f3.postalmanagement.enums.SubscriptionPlan;
+import org.f3.postalmanagement.repository.AccountRepository;
 import org.f3.postalmanagement.repository.CustomerRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
 import org.f3.postalmanagement.utils.SecurityUtils;
@@ -35,6 +36,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("UserServiceImpl Path Coverage Tests")
 class UserServiceImplTest {
 
+    @Mock
+    private AccountRepository accountRepository;
+
     @Mock
     private CustomerRepository customerRepository;
 
@@ -108,6 +112,21 @@ class UserServiceImplTest {
         employee.setFullName("Test Employee");
         employee.setPhoneNumber("0987654321");
         employee.setOffice(office);
+
+        for (Account account : new Account[]{customerAccount, employeeAccount, adminAccount}) {
+            lenient().when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+        }
+    }
+
+    // The authenticated principal as JwtUtil.toUserDetails builds it: claims only, no email
+    private static Account principalOf(Account account) {
+        Account principal = new Account();
+        principal.setId(account.getId());
+        principal.setUsername(account.getUsername());
+        principal.setRole(account.getRole());
+        principal.setActive(account.isActive());
+        principal.setTokenVersion(account.getTokenVersion());
+        return principal;
     }
 
     // ==================== fetchMe Tests ====================
@@ -243,5 +262,42 @@ class UserServiceImplTest {
                 assertThat(response.getOffice().getProvince()).isNull();
             }
         }
+
+        @Test
+        @DisplayName("Path 9: Token-only principal - Email is read from the stored account")
+        void fetchMe_ClaimsOnlyPrincipal_ReturnsStoredEmail() {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(principalOf(customerAccount));
+                when(customerRepository.findByAccount(customerAccount)).thenReturn(Optional.of(customer));
+
+                CustomerMeResponse customerMe = (CustomerMeResponse) userService.fetchMe();
+                assertThat(customerMe.getEmail()).isEqualTo("customer@test.com");
+
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(principalOf(employeeAccount));
+                when(employeeRepository.findByAccount(employeeAccount)).thenReturn(Optional.of(employee));
+
+                EmployeeMeResponse employeeMe = (EmployeeMeResponse) userService.fetchMe();
+                assertThat(employeeMe.getEmail()).isEqualTo("employee@test.com");
+
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(principalOf(adminAccount));
+                EmployeeMeResponse adminMe = (EmployeeMeResponse) userService.fetchMe();
+                assertThat(adminMe.getEmail()).isEqualTo("admin@test.com");
+            }
+        }
+
+        @Test
+        @DisplayName("Path 10: Failure - Account deleted since the token was issued")
+        void fetchMe_AccountGone_ThrowsException() {
+            try (MockedStatic<SecurityUtils> securityUtils = mockStatic(SecurityUtils.class)) {
+                Account gone = principalOf(customerAccount);
+                gone.setId(UUID.randomUUID());
+                securityUtils.when(SecurityUtils::getCurrentAccount).thenReturn(gone);
+
+                assertThatThrownBy(() -> userService.fetchMe())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("Account not found");
+                verifyNoInteractions(customerRepository, employeeRepository);
+            }
+        }
     }
 }
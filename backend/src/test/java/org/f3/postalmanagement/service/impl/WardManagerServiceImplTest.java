@@ -3,6 +3,7 @@ package org.f3.postalmanagement.service.impl;
 import org.f3.postalmanagement.dto.request.employee.ward.CreateShipperRequest;
 import org.f3.postalmanagement.dto.request.employee.ward.CreateWardManagerEmployeeRequest;
 import org.f3.postalmanagement.dto.request.employee.ward.CreateWardStaffRequest;
+import org.f3.postalmanagement.dto.request.employee.ward.UpdateEmployeeRequest;
 import org.f3.postalmanagement.dto.response.employee.EmployeeResponse;
 import org.f3.postalmanagement.entity.actor.Account;
 import org.f3.postalmanagement.entity.actor.Employee;
@@ -11,6 +12,7 @@ import org.f3.postalmanagement.enums.OfficeType;
 import org.f3.postalmanagement.enums.Role;
 import org.f3.postalmanagement.repository.AccountRepository;
 import org.f3.postalmanagement.repository.EmployeeRepository;
+import org.f3.postalmanagement.service.AccountTokenStateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,6 +30,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +46,9 @@ class WardManagerServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AccountTokenStateService accountTokenStateService;
+
     @InjectMocks
     private WardManagerServiceImpl wardManagerService;
 
@@ -89,6 +95,9 @@ class WardManagerServiceImplTest {
         whWardManagerEmployee.setId(whWardManagerAccount.getId());
         whWardManagerEmployee.setAccount(whWardManagerAccount);
         whWardManagerEmployee.setOffice(wardWarehouseOffice);
+
+        // Claim changes go through the real method, so the revocation it triggers can be verified
+        lenient().when(accountTokenStateService.updateClaims(any(), any(), any(), anyBoolean())).thenCallRealMethod();
     }
 
     // ==================== createStaff Tests ====================
@@ -367,4 +376,109 @@ class WardManagerServiceImplTest {
                     .hasMessageContaining("Only PO Ward Managers");
         }
     }
+
+    // ==================== updateEmployee Tests ====================
+    @Nested
+    @DisplayName("updateEmployee()")
+    class UpdateEmployeeTests {
+
+        private Employee staff;
+
+        @BeforeEach
+        void setUpStaff() {
+            staffAccount.setUsername("0900000000");
+            staffAccount.setEmail("staff@test.com");
+            staffAccount.setActive(true);
+            staff = new Employee();
+            staff.setId(staffAccount.getId());
+            staff.setAccount(staffAccount);
+            staff.setOffice(wardPostOffice);
+            staff.setPhoneNumber("0900000000");
+
+            when(employeeRepository.findById(poWardManagerAccount.getId())).thenReturn(Optional.of(poWardManagerEmployee));
+            when(employeeRepository.findById(staff.getId())).thenReturn(Optional.of(staff));
+            when(employeeRepository.save(staff)).thenReturn(staff);
+        }
+
+        private UpdateEmployeeRequest request(String phoneNumber, String password) {
+            UpdateEmployeeRequest request = new UpdateEmployeeRequest();
+            request.setFullName("Staff");
+            request.setPhoneNumber(phoneNumber);
+            request.setEmail("staff@test.com");
+            request.setPassword(password);
+            return request;
+        }
+
+        @Test
+        @DisplayName("Path 1: Phone number change updates the username and revokes tokens")
+        void updateEmployee_UsernameChanged_RevokesTokens() {
+            when(accountRepository.existsByUsername("0900000001")).thenReturn(false);
+
+            wardManagerService.updateEmployee(staff.getId(), request("0900000001", null), poWardManagerAccount);
+
+            assertThat(staffAccount.getUsername()).isEqualTo("0900000001");
+            verify(accountTokenStateService, times(1)).revokeTokens(staffAccount);
+        }
+
+        @Test
+        @DisplayName("Path 2: Name-only change keeps existing tokens")
+        void updateEmployee_NoClaimChange_KeepsTokens() {
+            wardManagerService.updateEmployee(staff.getId(), request("0900000000", null), poWardManagerAccount);
+
+            verify(accountTokenStateService, never()).revokeTokens(any());
+        }
+
+        @Test
+        @DisplayName("Path 3: Password and username change together revoke once")
+        void updateEmployee_PasswordAndUsernameChanged_RevokesOnce() {
+            when(accountRepository.existsByUsername("0900000001")).thenReturn(false);
+            when(passwordEncoder.encode("newpassword")).thenReturn("encoded");
+
+            wardManagerService.updateEmployee(staff.getId(), request("0900000001", "newpassword"), poWardManagerAccount);
+
+            verify(accountTokenStateService, times(1)).revokeTokens(staffAccount);
+        }
+    }
+
+    // ==================== deleteEmployee Tests ====================
+    @Nested
+    @DisplayName("deleteEmployee()")
+    class DeleteEmployeeTests {
+
+        @Test
+        @DisplayName("Path 1: Success - Account deactivated and its tokens revoked")
+        void deleteEmployee_Success_RevokesTokens() {
+            Employee staff = new Employee();
+            staff.setId(staffAccount.getId());
+            staff.setAccount(staffAccount);
+            staff.setOffice(wardPostOffice);
+            staffAccount.setActive(true);
+
+            when(employeeRepository.findById(poWardManagerAccount.getId())).thenReturn(Optional.of(poWardManagerEmployee));
+            when(employeeRepository.findById(staff.getId())).thenReturn(Optional.of(staff));
+
+            wardManagerService.deleteEmployee(staff.getId(), poWardManagerAccount);
+
+            assertThat(staffAccount.isActive()).isFalse();
+            verify(accountTokenStateService).revokeTokens(staffAccount);
+            verify(accountRepository).save(staffAccount);
+            verify(employeeRepository).delete(staff);
+        }
+
+        @Test
+        @DisplayName("Path 2: Failure - Employee of another office is left untouched")
+        void deleteEmployee_OtherOffice_ThrowsException() {
+            Employee staff = new Employee();
+            staff.setId(staffAccount.getId());
+            staff.setAccount(staffAccount);
+            staff.setOffice(wardWarehouseOffice);
+
+            when(employeeRepository.findById(poWardManagerAccount.getId())).thenReturn(Optional.of(poWardManagerEmployee));
+            when(employeeRepository.findById(staff.getId())).thenReturn(Optional.of(staff));
+
+            assertThatThrownBy(() -> wardManagerService.deleteEmployee(staff.getId(), poWardManagerAccount))
+                    .isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(accountTokenStateService);
+        }
+    }
 }
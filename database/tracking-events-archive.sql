@@ -0,0 +1,72 @@
+-- =============================================
+-- Tracking events: cold tier
+-- =============================================
+-- tracking_events (hot tier) holds the history of orders still in progress. It keeps its
+-- foreign keys, which MySQL does not allow on partitioned tables, and stays small because
+-- TrackingEventArchiver moves the events of orders delivered or cancelled more than
+-- tracking.archive.after ago into tracking_events_archive.
+--
+-- The archive has no foreign keys, is stored compressed and is range-partitioned by event
+-- month (yyyymm). The primary key includes event_month, as partitioning requires.
+-- There is no migration runner: the MySQL container runs database/tracking-events-archive.sql
+-- (a copy of this file) when it initialises an empty volume. On an existing database, run it
+-- by hand before starting a backend that includes the archive; if Hibernate already created
+-- tracking_events_archive unpartitioned (it is empty until the archiver runs), drop it first.
+-- Months past the last one listed land in p_future; the archiver splits p_future ahead of
+-- time (tracking.archive.manage-partitions, on by default), or split it by hand:
+--   ALTER TABLE tracking_events_archive REORGANIZE PARTITION p_future INTO (
+--       PARTITION p202801 VALUES LESS THAN (202802),
+--       PARTITION p_future VALUES LESS THAN MAXVALUE);
+
+CREATE TABLE IF NOT EXISTS tracking_events_archive (
+    id VARCHAR(255) NOT NULL,
+    event_month INT NOT NULL,
+    order_id VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    location_name VARCHAR(200),
+    office_id VARCHAR(255),
+    event_time DATETIME(6) NOT NULL,
+    PRIMARY KEY (id, event_month),
+    INDEX idx_tracking_events_archive_order_time (order_id, event_time)
+) ROW_FORMAT=COMPRESSED
+PARTITION BY RANGE (event_month) (
+    PARTITION p_old VALUES LESS THAN (202501),
+    PARTITION p202501 VALUES LESS THAN (202502),
+    PARTITION p202502 VALUES LESS THAN (202503),
+    PARTITION p202503 VALUES LESS THAN (202504),
+    PARTITION p202504 VALUES LESS THAN (202505),
+    PARTITION p202505 VALUES LESS THAN (202506),
+    PARTITION p202506 VALUES LESS THAN (202507),
+    PARTITION p202507 VALUES LESS THAN (202508),
+    PARTITION p202508 VALUES LESS THAN (202509),
+    PARTITION p202509 VALUES LESS THAN (202510),
+    PARTITION p202510 VALUES LESS THAN (202511),
+    PARTITION p202511 VALUES LESS THAN (202512),
+    PARTITION p202512 VALUES LESS THAN (202601),
+    PARTITION p202601 VALUES LESS THAN (202602),
+    PARTITION p202602 VALUES LESS THAN (202603),
+    PARTITION p202603 VALUES LESS THAN (202604),
+    PARTITION p202604 VALUES LESS THAN (202605),
+    PARTITION p202605 VALUES LESS THAN (202606),
+    PARTITION p202606 VALUES LESS THAN (202607),
+    PARTITION p202607 VALUES LESS THAN (202608),
+    PARTITION p202608 VALUES LESS THAN (202609),
+    PARTITION p202609 VALUES LESS THAN (202610),
+    PARTITION p202610 VALUES LESS THAN (202611),
+    PARTITION p202611 VALUES LESS THAN (202612),
+    PARTITION p202612 VALUES LESS THAN (202701),
+    PARTITION p202701 VALUES LESS THAN (202702),
+    PARTITION p202702 VALUES LESS THAN (202703),
+    PARTITION p202703 VALUES LESS THAN (202704),
+    PARTITION p202704 VALUES LESS THAN (202705),
+    PARTITION p202705 VALUES LESS THAN (202706),
+    PARTITION p202706 VALUES LESS THAN (202707),
+    PARTITION p202707 VALUES LESS THAN (202708),
+    PARTITION p202708 VALUES LESS THAN (202709),
+    PARTITION p202709 VALUES LESS THAN (202710),
+    PARTITION p202710 VALUES LESS THAN (202711),
+    PARTITION p202711 VALUES LESS THAN (202712),
+    PARTITION p202712 VALUES LESS THAN (202801),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
@@ -2,6 +2,7 @@ import { api } from '@/lib/axios';
 import type {
     CreateOrderRequest,
     OrderResponse,
+    OrderSummaryResponse,
     PageResponse,
     PaginationParams,
 } from '@/types';
@@ -10,7 +11,7 @@ export const ordersApi = {
     /**
      * Get orders for current customer or office (paginated)
      */
-    getMyOrders: async (params?: PaginationParams): Promise<PageResponse<OrderResponse>> => {
+    getMyOrders: async (params?: PaginationParams): Promise<PageResponse<OrderSummaryResponse>> => {
         return api.get('/api/orders', { params });
     },
 
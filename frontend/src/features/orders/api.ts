@@ -1,13 +1,13 @@
 import { api } from '@/lib/axios';
 import type { CreateOrderFormValues } from './schema';
-import type { OrderResponse, ApiResponse } from '@/types';
+import type { OrderResponse, OrderSummaryResponse, PageResponse, ApiResponse } from '@/types';
 
 export const orderApi = {
     createOrder: async (data: CreateOrderFormValues): Promise<OrderResponse> => {
         return api.post('/api/orders', data);
     },
 
-    getMyOrders: async (page = 0, size = 10) => {
+    getMyOrders: async (page = 0, size = 10): Promise<PageResponse<OrderSummaryResponse>> => {
         return api.get('/api/orders', {
             params: { page, size },
         });
@@ -33,7 +33,7 @@ export const orderApi = {
         return response.data; // This one needs .data because the backend returns ApiResponse
     },
 
-    getAllOrders: async (page = 0, size = 10) => {
+    getAllOrders: async (page = 0, size = 10): Promise<PageResponse<OrderSummaryResponse>> => {
         return api.get('/api/orders/all', {
             params: { page, size }
         });
@@ -1,7 +1,7 @@
 import { useState } from "react";
 import type { ColumnDef } from "@tanstack/react-table";
 import { OrderStatus } from "../types";
-import type { Order } from "../types"
+import type { OrderSummaryResponse } from "@/types"
 import { DataTable } from "@/components/ui/data-table"
 import { Badge } from "@/components/ui/badge"
 import { format } from "date-fns"
@@ -13,20 +13,20 @@ import { ROLES } from "@/features/auth/roles";
 import { RatingModal } from "@/features/ratings/components/RatingModal"
 
 interface OrderListProps {
-    data: Order[];
+    data: OrderSummaryResponse[];
     loading?: boolean;
 }
 
 export function OrderList({ data, loading }: OrderListProps) {
     const [ratingModalOpen, setRatingModalOpen] = useState(false);
-    const [selectedOrder, setSelectedOrder] = useState<Order | null>(null);
+    const [selectedOrder, setSelectedOrder] = useState<OrderSummaryResponse | null>(null);
 
-    const handleRateClick = (order: Order) => {
+    const handleRateClick = (order: OrderSummaryResponse) => {
         setSelectedOrder(order);
         setRatingModalOpen(true);
     };
 
-    const columns: ColumnDef<Order>[] = [
+    const columns: ColumnDef<OrderSummaryResponse>[] = [
         {
             accessorKey: "trackingNumber",
             header: "Tracking Number",
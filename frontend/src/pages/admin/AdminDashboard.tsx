@@ -5,7 +5,7 @@ import { useQuery } from '@tanstack/react-query';
 import { adminApi } from '@/features/admin/api';
 import { orderApi } from '@/features/orders/api';
 import type { DashboardStats } from '@/features/admin/types';
-import type { OrderResponse } from '@/types/api';
+import type { OrderSummaryResponse } from '@/types/api';
 import { LoadingSpinner } from '@/components/ui/LoadingSpinner';
 
 export default function AdminDashboard() {
@@ -157,7 +157,7 @@ function RecentOrdersList() {
 
     return (
         <div className="space-y-4">
-            {orders.map((order: OrderResponse) => (
+            {orders.map((order: OrderSummaryResponse) => (
                 <div key={order.id} className="flex items-center justify-between border-b pb-4 last:border-0 last:pb-0">
                     <div className="space-y-1">
                         <p className="text-sm font-medium leading-none">{order.trackingNumber}</p>
@@ -5,7 +5,7 @@ import { TrackingTimeline } from '@/features/tracking/components/TrackingTimelin
 import { OrderSummary } from '@/features/tracking/components/OrderSummary';
 import { trackingApi } from '@/features/tracking/api';
 import { orderApi } from '@/features/orders/api';
-import type { TrackingResponse, OrderResponse } from '@/types';
+import type { TrackingResponse, OrderSummaryResponse } from '@/types';
 import { Alert, AlertDescription } from '@/components/ui/alert';
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
@@ -39,7 +39,7 @@ export default function CustomerTrackingPage() {
         }
     };
 
-    const handleOrderClick = (order: OrderResponse) => {
+    const handleOrderClick = (order: OrderSummaryResponse) => {
         handleTrackOrder(order.trackingNumber);
     };
 
@@ -102,7 +102,7 @@ export default function CustomerTrackingPage() {
                             </div>
                         ) : (
                             <div className="space-y-3">
-                                {orders.map((order: OrderResponse) => (
+                                {orders.map((order: OrderSummaryResponse) => (
                                     <div
                                         key={order.id}
                                         onClick={() => handleOrderClick(order)}
@@ -2,18 +2,16 @@ import { useEffect, useState } from "react"
 import { OrderList } from "@/features/orders/components/OrderList"
 import { CreateOrderDialog } from "@/features/orders/components/CreateOrderDialog"
 import { orderApi } from "@/features/orders/api"
-import type { Order } from "@/features/orders/types"
+import type { OrderSummaryResponse } from "@/types"
 
 export function OrdersPage() {
-    const [orders, setOrders] = useState<Order[]>([])
+    const [orders, setOrders] = useState<OrderSummaryResponse[]>([])
     const [loading, setLoading] = useState(true)
 
     const fetchOrders = async () => {
         setLoading(true)
         try {
             const response = await orderApi.getMyOrders(0, 20)
-            // response might be PageOrderResponse or { content: ... }
-            // Based on API impl, it returns PageOrderResponse directly
             setOrders(response.content || [])
         } catch (error) {
             console.error("Failed to fetch orders", error)
@@ -38,7 +38,7 @@ export default function StaffOrdersPage() {
                         </div>
                     ) : (
                         <div className="space-y-3">
-                            {orders.map((order: any) => (
+                            {orders.map((order) => (
                                 <div
                                     key={order.id}
                                     className="flex items-center justify-between p-4 border rounded-lg"
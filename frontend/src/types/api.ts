@@ -108,6 +108,20 @@ export interface OrderResponse {
     updatedAt: string;
 }
 
+// Row of an order list; addresses, phones and description are only on OrderResponse
+export interface OrderSummaryResponse {
+    id: string;
+    trackingNumber: string;
+    status: string;
+    senderName: string;
+    receiverName: string;
+    weightKg: number;
+    shippingFee: number;
+    codAmount?: number;
+    createdAt: string;
+    updatedAt: string;
+}
+
 // =============================================================================
 // Pickup Requests
 // =============================================================================